@@ -0,0 +1,91 @@
+// src/main/java/com/chandra/ecom_service/cache/BloomFilter.java
+package com.chandra.ecom_service.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over strings. mightContain never answers false for a key that was
+ * put, and answers true for an absent key with roughly the false-positive rate it was sized
+ * for, as long as no more than the expected number of keys go in. Keys cannot be removed.
+ *
+ * Bits are set with atomic ORs, so puts and lookups from any number of threads need no lock.
+ */
+public final class BloomFilter {
+
+    private static final int MAX_HASHES = 16;
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+
+    private BloomFilter(long bits, int hashes) {
+        this.words = new AtomicLongArray(Math.toIntExact((bits + 63) / 64));
+        this.bits = bits;
+        this.hashes = hashes;
+    }
+
+    // Optimal size for the key count and rate, capped at maxBytes; a capped filter has a higher rate
+    public static BloomFilter forExpected(long expectedKeys, double falsePositiveRate, long maxBytes) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False-positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+        long keys = Math.max(1, expectedKeys);
+        long optimal = (long) Math.ceil(-keys * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        long bits = Math.max(64, Math.min(optimal, maxBytes * 8));
+        int hashes = (int) Math.max(1, Math.min(MAX_HASHES, Math.round((double) bits / keys * Math.log(2))));
+        return new BloomFilter(bits, hashes);
+    }
+
+    public void put(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1 + 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bits);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            if ((words.get(word) & mask) == 0) {
+                words.getAndAccumulate(word, mask, (current, add) -> current | add);
+            }
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1 + 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return bits;
+    }
+
+    public int hashCount() {
+        return hashes;
+    }
+
+    // FNV-1a over the UTF-16 code units, then a full avalanche so nearby keys spread over the array
+    private static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    // MurmurHash3 fmix64 finalizer
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53ec8b9L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,226 @@
+// src/main/java/com/chandra/ecom_service/cache/CategoryCounts.java
+package com.chandra.ecom_service.cache;
+
+import com.chandra.ecom_service.dto.CategoryDto;
+import com.chandra.ecom_service.dto.CategoryTreeNode;
+import com.chandra.ecom_service.entity.Product;
+import com.chandra.ecom_service.repository.ProductRepository;
+import com.chandra.ecom_service.util.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Active and in-stock product counts per category, kept in memory so a menu can show them
+ * without a count query per node. Product writes report the row's state before and after
+ * the change and the difference is applied once the transaction commits. Subtree figures
+ * are rolled up from the direct counts over the current {@link CategoryTree}, so a moved
+ * category takes its products along without any counter being rewritten.
+ *
+ * Changes that do not go through a single-row path (hot-inventory flushes, other instances'
+ * writes) are not seen here; a periodic reconciliation recounts everything with one grouped
+ * query and corrects the drift. Warehouse stock feeds run that recount when they finish.
+ */
+@Component
+public class CategoryCounts {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryCounts.class);
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryTree categoryTree;
+
+    @Value("${app.category-counts.reconcile-interval:5m}")
+    private Duration reconcileInterval;
+
+    private final Map<Long, Counter> direct = new ConcurrentHashMap<>();
+
+    // Bumped on every change so the tree ETag moves with the counts; seeded from the clock to stay unique across restarts
+    private final AtomicLong modifications = new AtomicLong(System.currentTimeMillis() * 1_000);
+
+    private ScheduledExecutorService background;
+
+    @PostConstruct
+    public void start() {
+        background = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "category-counts-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // The first run loads the counters
+        background.scheduleWithFixedDelay(this::reconcileQuietly, 0, reconcileInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (background != null) {
+            background.shutdown();
+        }
+    }
+
+    // before or after is null when the product did not exist before or no longer exists
+    public void changed(ProductState before, ProductState after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            apply(before, -1);
+            apply(after, 1);
+        });
+    }
+
+    public long version() {
+        return modifications.get();
+    }
+
+    /**
+     * Recounts every category and overwrites the counters. A delta that commits while the
+     * query runs may be counted twice or not at all; the next run settles it. Returns the
+     * number of categories whose counters were corrected.
+     */
+    public synchronized int reconcile() {
+        Map<Long, ProductRepository.CategoryProductCount> actual = new HashMap<>();
+        for (ProductRepository.CategoryProductCount count : productRepository.countActiveByCategory()) {
+            actual.put(count.getCategoryId(), count);
+        }
+        int corrected = 0;
+        for (Map.Entry<Long, ProductRepository.CategoryProductCount> entry : actual.entrySet()) {
+            Counter counter = direct.computeIfAbsent(entry.getKey(), id -> new Counter());
+            if (counter.set(entry.getValue().getActiveProducts(), entry.getValue().getInStockProducts())) {
+                corrected++;
+            }
+        }
+        for (Map.Entry<Long, Counter> entry : direct.entrySet()) {
+            if (!actual.containsKey(entry.getKey()) && entry.getValue().set(0, 0)) {
+                corrected++;
+            }
+        }
+        if (corrected > 0) {
+            modifications.incrementAndGet();
+        }
+        return corrected;
+    }
+
+    public void fill(CategoryDto dto) {
+        figures(dto.getId()).applyTo(dto);
+    }
+
+    // One category's direct and rolled-up counts, read together so a tag and a body built from them agree
+    public Figures figures(Long categoryId) {
+        Counter own = direct.get(categoryId);
+        long active = own != null ? own.active.get() : 0;
+        long inStock = own != null ? own.inStock.get() : 0;
+        CategoryTreeNode node = categoryTree.snapshot().node(categoryId);
+        long[] subtree = node != null ? sum(node) : new long[] {active, inStock};
+        return new Figures(active, inStock, subtree[0], subtree[1]);
+    }
+
+    // Copies of the (shared, count-less) tree nodes with direct and rolled-up counts filled in
+    public List<CategoryTreeNode> withCounts(List<CategoryTreeNode> nodes) {
+        List<CategoryTreeNode> copies = new ArrayList<>(nodes.size());
+        for (CategoryTreeNode node : nodes) {
+            copies.add(withCounts(node));
+        }
+        return copies;
+    }
+
+    public CategoryTreeNode withCounts(CategoryTreeNode node) {
+        List<CategoryTreeNode> children = withCounts(node.getChildren());
+        Counter own = direct.get(node.getId());
+        long active = own != null ? own.active.get() : 0;
+        long inStock = own != null ? own.inStock.get() : 0;
+        long subtreeActive = active;
+        long subtreeInStock = inStock;
+        for (CategoryTreeNode child : children) {
+            subtreeActive += child.getSubtreeActiveProductCount();
+            subtreeInStock += child.getSubtreeInStockProductCount();
+        }
+        return new CategoryTreeNode(node.getId(), node.getName(), node.getDescription(), node.getParentCategoryId(),
+                node.getDepth(), node.getAncestorIds(), children, active, inStock, subtreeActive, subtreeInStock);
+    }
+
+    private long[] sum(CategoryTreeNode node) {
+        Counter own = direct.get(node.getId());
+        long[] totals = {own != null ? own.active.get() : 0, own != null ? own.inStock.get() : 0};
+        for (CategoryTreeNode child : node.getChildren()) {
+            long[] below = sum(child);
+            totals[0] += below[0];
+            totals[1] += below[1];
+        }
+        return totals;
+    }
+
+    private void apply(ProductState state, int sign) {
+        if (state == null || state.categoryId() == null || !state.active()) {
+            return;
+        }
+        Counter counter = direct.computeIfAbsent(state.categoryId(), id -> new Counter());
+        counter.active.addAndGet(sign);
+        if (state.inStock()) {
+            counter.inStock.addAndGet(sign);
+        }
+        modifications.incrementAndGet();
+    }
+
+    private void reconcileQuietly() {
+        try {
+            int corrected = reconcile();
+            if (corrected > 0) {
+                log.info("Category counts reconciled; corrected {} categories", corrected);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Category count reconciliation failed; retrying on the next run", e);
+        }
+    }
+
+    public record Figures(long active, long inStock, long subtreeActive, long subtreeInStock) {
+
+        public void applyTo(CategoryDto dto) {
+            dto.setActiveProductCount(active);
+            dto.setInStockProductCount(inStock);
+            dto.setSubtreeActiveProductCount(subtreeActive);
+            dto.setSubtreeInStockProductCount(subtreeInStock);
+        }
+    }
+
+    // The part of a product row the counters depend on
+    public record ProductState(Long categoryId, boolean active, boolean inStock) {
+
+        public static ProductState of(Product product) {
+            return of(product.getCategoryId(), product.getIsActive(), product.getStockQuantity());
+        }
+
+        public static ProductState of(Long categoryId, Boolean isActive, Integer stockQuantity) {
+            return new ProductState(categoryId, Boolean.TRUE.equals(isActive), stockQuantity != null && stockQuantity > 0);
+        }
+    }
+
+    private static final class Counter {
+        private final AtomicLong active = new AtomicLong();
+        private final AtomicLong inStock = new AtomicLong();
+
+        // True when the counter had drifted
+        private boolean set(long activeProducts, long inStockProducts) {
+            boolean drifted = active.getAndSet(activeProducts) != activeProducts;
+            return inStock.getAndSet(inStockProducts) != inStockProducts || drifted;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+// src/main/java/com/chandra/ecom_service/cache/CategoryTree.java
+package com.chandra.ecom_service.cache;
+
+import com.chandra.ecom_service.dto.CategoryTreeNode;
+import com.chandra.ecom_service.entity.Category;
+import com.chandra.ecom_service.repository.CategoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The active category hierarchy, fully materialized in memory so a navigation menu is one
+ * call instead of a subcategory query per node. Each snapshot is immutable and published with
+ * a single volatile write: readers never lock and always see one consistent tree.
+ *
+ * Category writes call {@link #refresh()} after they commit, which rebuilds the snapshot from
+ * the database. Refreshes requested while one is running collapse into the next rebuild.
+ * Only categories reachable from an active root are in the tree; one under an inactive or
+ * missing parent is hidden along with it.
+ */
+@Component
+public class CategoryTree {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryTree.class);
+
+    private static final Comparator<Category> MENU_ORDER =
+            Comparator.comparing(Category::getName).thenComparing(Category::getId);
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Object rebuildLock = new Object();
+    private final AtomicLong requested = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : rebuild(requested.get());
+    }
+
+    // Called once a category write has committed; the next snapshot includes it
+    public void refresh() {
+        long generation = requested.incrementAndGet();
+        try {
+            rebuild(generation);
+        } catch (RuntimeException e) {
+            log.error("Category tree refresh failed; serving the previous tree until the next category write", e);
+        }
+    }
+
+    private Snapshot rebuild(long generation) {
+        synchronized (rebuildLock) {
+            Snapshot current = snapshot;
+            if (current != null && current.generation() >= generation) {
+                return current;
+            }
+            // Everything requested so far is covered, since the read below starts after those commits
+            long target = requested.get();
+            TransactionTemplate read = new TransactionTemplate(transactionManager);
+            read.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            read.setReadOnly(true);
+            List<Category> active = read.execute(status -> categoryRepository.findByIsActiveTrue());
+            Snapshot next = build(active, target);
+            snapshot = next;
+            return next;
+        }
+    }
+
+    static Snapshot build(List<Category> active, long generation) {
+        Map<Long, List<Category>> childrenByParent = new HashMap<>();
+        List<Category> roots = new ArrayList<>();
+        for (Category category : active) {
+            if (category.getParentCategoryId() == null) {
+                roots.add(category);
+            } else {
+                childrenByParent.computeIfAbsent(category.getParentCategoryId(), parent -> new ArrayList<>()).add(category);
+            }
+        }
+        childrenByParent.values().forEach(children -> children.sort(MENU_ORDER));
+        roots.sort(MENU_ORDER);
+
+        Map<Long, CategoryTreeNode> nodes = new HashMap<>();
+        List<CategoryTreeNode> rootNodes = new ArrayList<>();
+        for (Category root : roots) {
+            rootNodes.add(buildNode(root, List.of(), childrenByParent, nodes));
+        }
+
+        // Content fingerprint for the ETag: stable across restarts and instances serving the same rows
+        long version = 17;
+        for (Category category : active.stream().sorted(Comparator.comparing(Category::getId)).toList()) {
+            if (nodes.containsKey(category.getId())) {
+                version = 31 * (31 * version + category.getId()) + category.getVersion();
+            }
+        }
+        return new Snapshot(List.copyOf(rootNodes), Map.copyOf(nodes), version, generation);
+    }
+
+    // Children are built first so every node is created complete; a cycle is never reached from a root
+    private static CategoryTreeNode buildNode(Category category, List<Long> ancestorIds,
+                                              Map<Long, List<Category>> childrenByParent,
+                                              Map<Long, CategoryTreeNode> nodes) {
+        List<Long> childAncestors = new ArrayList<>(ancestorIds);
+        childAncestors.add(category.getId());
+        List<CategoryTreeNode> children = new ArrayList<>();
+        for (Category child : childrenByParent.getOrDefault(category.getId(), List.of())) {
+            children.add(buildNode(child, childAncestors, childrenByParent, nodes));
+        }
+        CategoryTreeNode node = new CategoryTreeNode(category.getId(), category.getName(), category.getDescription(),
+                category.getParentCategoryId(), ancestorIds.size(), ancestorIds, children);
+        nodes.put(node.getId(), node);
+        return node;
+    }
+
+    public record Snapshot(List<CategoryTreeNode> roots, Map<Long, CategoryTreeNode> nodes, long version, long generation) {
+
+        public CategoryTreeNode node(Long id) {
+            return nodes.get(id);
+        }
+
+        public int size() {
+            return nodes.size();
+        }
+    }
+}
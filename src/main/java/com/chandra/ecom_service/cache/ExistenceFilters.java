@@ -0,0 +1,199 @@
+// src/main/java/com/chandra/ecom_service/cache/ExistenceFilters.java
+package com.chandra.ecom_service.cache;
+
+import com.chandra.ecom_service.repository.CategoryRepository;
+import com.chandra.ecom_service.repository.ProductRepository;
+import com.chandra.ecom_service.repository.UserRepository;
+import com.chandra.ecom_service.util.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * One {@link BloomFilter} per unique key space (product SKU, user email, category name), so an
+ * /exists lookup for a value that was never stored is answered from memory. Only "might exist"
+ * falls through to the database, which then gives the exact answer.
+ *
+ * Each filter is built by streaming the key column once, and rebuilt on a schedule with fresh
+ * sizing. Writes add their key before the insert and again after commit: a lookup never sees
+ * "absent" for a committed row, and a rebuild that started in between does not miss it
+ * either. A rolled-back insert or a renamed category leaves a stale entry behind. That only
+ * costs a database lookup, and the next rebuild drops it. Until a filter has been built,
+ * every lookup falls through.
+ *
+ * Keys written by another instance would stay invisible until the next rebuild, and the
+ * filter would answer "absent" for rows that exist. So the filters are only built when the
+ * deployment declares a single writing instance (app.existence-filters.single-instance);
+ * otherwise every lookup goes to the database.
+ */
+@Component
+public class ExistenceFilters {
+
+    private static final Logger log = LoggerFactory.getLogger(ExistenceFilters.class);
+
+    // Room for a small catalog to grow before the next rebuild
+    private static final long MIN_EXPECTED_KEYS = 10_000;
+
+    public enum KeySpace { PRODUCT_SKU, USER_EMAIL, CATEGORY_NAME }
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.existence-filters.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.existence-filters.single-instance:false}")
+    private boolean singleInstance;
+
+    @Value("${app.existence-filters.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${app.existence-filters.max-bytes:8388608}")
+    private long maxBytes;
+
+    @Value("${app.existence-filters.headroom:2.0}")
+    private double headroom;
+
+    @Value("${app.existence-filters.rebuild-interval:1h}")
+    private Duration rebuildInterval;
+
+    private final Map<KeySpace, Slot> slots = new EnumMap<>(KeySpace.class);
+
+    private ScheduledExecutorService background;
+
+    public ExistenceFilters() {
+        for (KeySpace space : KeySpace.values()) {
+            slots.put(space, new Slot());
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled || !singleInstance) {
+            return;
+        }
+        background = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "existence-filter-builder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // The first run builds the filters; lookups fall through to the database until then
+        background.scheduleWithFixedDelay(this::rebuildQuietly, 0, rebuildInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (background != null) {
+            background.shutdown();
+        }
+    }
+
+    // False only when the key is certainly not stored
+    public boolean mightExist(KeySpace space, String key) {
+        if (!singleInstance) {
+            return true;
+        }
+        BloomFilter filter = slots.get(space).current;
+        return filter == null || key == null || filter.mightContain(key);
+    }
+
+    // Called from the write transaction before the row is inserted
+    public void added(KeySpace space, String key) {
+        if (key == null) {
+            return;
+        }
+        put(space, key);
+        TransactionCallbacks.afterCommit(() -> put(space, key));
+    }
+
+    public synchronized void rebuild() {
+        for (KeySpace space : KeySpace.values()) {
+            rebuild(space);
+        }
+    }
+
+    private void rebuild(KeySpace space) {
+        long started = System.nanoTime();
+        Slot slot = slots.get(space);
+        TransactionTemplate read = new TransactionTemplate(transactionManager);
+        read.setReadOnly(true);
+        BloomFilter next = read.execute(status -> {
+            long rows = count(space);
+            BloomFilter filter = BloomFilter.forExpected(Math.max(MIN_EXPECTED_KEYS, (long) (rows * headroom)), falsePositiveRate, maxBytes);
+            // Published before the scan starts, so keys written during the scan reach it through put()
+            slot.building = filter;
+            try (Stream<String> keys = keys(space)) {
+                keys.forEach(filter::put);
+            }
+            return filter;
+        });
+        slot.current = next;
+        slot.building = null;
+        log.info("Existence filter {} built: {} KB, {} hashes in {} ms", space, next.bitSize() / 8 / 1024,
+                next.hashCount(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void put(KeySpace space, String key) {
+        Slot slot = slots.get(space);
+        BloomFilter current = slot.current;
+        BloomFilter building = slot.building;
+        if (current != null) {
+            current.put(key);
+        }
+        if (building != null) {
+            building.put(key);
+        }
+    }
+
+    private long count(KeySpace space) {
+        return switch (space) {
+            case PRODUCT_SKU -> productRepository.count();
+            case USER_EMAIL -> userRepository.count();
+            case CATEGORY_NAME -> categoryRepository.count();
+        };
+    }
+
+    private Stream<String> keys(KeySpace space) {
+        return switch (space) {
+            case PRODUCT_SKU -> productRepository.streamAllSkus();
+            case USER_EMAIL -> userRepository.streamAllEmails();
+            case CATEGORY_NAME -> categoryRepository.streamAllNames();
+        };
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Existence filter rebuild failed; keeping the previous filters until the next run", e);
+        }
+    }
+
+    private static final class Slot {
+        private volatile BloomFilter current;
+        private volatile BloomFilter building;
+    }
+}
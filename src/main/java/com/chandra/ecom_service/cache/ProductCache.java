@@ -0,0 +1,136 @@
+// src/main/java/com/chandra/ecom_service/cache/ProductCache.java
+package com.chandra.ecom_service.cache;
+
+import com.chandra.ecom_service.dto.CacheStatsDto;
+import com.chandra.ecom_service.dto.ProductDto;
+import com.chandra.ecom_service.util.TransactionCallbacks;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of product DTOs, keyed by id with a secondary SKU -> id index.
+ * Caffeine's W-TinyLFU policy admits entries by access frequency, so a handful of
+ * one-off lookups cannot flush the hot SKUs. Entries are weighed by their approximate
+ * heap footprint, which keeps products with long descriptions from crowding the cache.
+ */
+@Component
+public class ProductCache {
+
+    private final Cache<Long, ProductDto> byId;
+    private final Cache<String, Long> skuToId;
+    private final long maxWeightBytes;
+
+    public ProductCache(@Value("${app.cache.products.max-weight-bytes:67108864}") long maxWeightBytes,
+                        @Value("${app.cache.products.max-sku-entries:200000}") long maxSkuEntries) {
+        this.maxWeightBytes = maxWeightBytes;
+        this.byId = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((Long id, ProductDto dto) -> estimateWeight(dto))
+                .recordStats()
+                .build();
+        this.skuToId = Caffeine.newBuilder()
+                .maximumSize(maxSkuEntries)
+                .build();
+    }
+
+    public ProductDto getById(Long id, Function<Long, ProductDto> loader) {
+        ProductDto dto = byId.get(id, loader);
+        skuToId.put(dto.getSku(), dto.getId());
+        return dto;
+    }
+
+    public ProductDto getBySku(String sku, Function<String, ProductDto> loader) {
+        Long id = skuToId.getIfPresent(sku);
+        if (id != null) {
+            ProductDto cached = byId.getIfPresent(id);
+            // Guard against a stale index entry pointing at an evicted or re-keyed product
+            if (cached != null && sku.equals(cached.getSku())) {
+                return cached;
+            }
+        }
+        ProductDto dto = loader.apply(sku);
+        put(dto);
+        return dto;
+    }
+
+    public void put(ProductDto dto) {
+        byId.put(dto.getId(), dto);
+        skuToId.put(dto.getSku(), dto.getId());
+    }
+
+    /**
+     * Evicts now and, inside a transaction, once more after commit: a concurrent reader may
+     * reload the pre-commit row in between, and that copy must not outlive the write.
+     */
+    public void invalidate(Long id) {
+        evict(id);
+        TransactionCallbacks.afterCommit(() -> evict(id));
+    }
+
+    // Bulk form of invalidate(Long): one eviction pass now and one after commit
+    public void invalidateAll(Collection<Long> ids) {
+        ids.forEach(this::evict);
+        TransactionCallbacks.afterCommit(() -> ids.forEach(this::evict));
+    }
+
+    public void invalidateSku(String sku) {
+        evictSku(sku);
+        TransactionCallbacks.afterCommit(() -> evictSku(sku));
+    }
+
+    private void evict(Long id) {
+        ProductDto cached = byId.getIfPresent(id);
+        byId.invalidate(id);
+        if (cached != null) {
+            skuToId.invalidate(cached.getSku());
+        }
+    }
+
+    private void evictSku(String sku) {
+        Long id = skuToId.getIfPresent(sku);
+        skuToId.invalidate(sku);
+        if (id != null) {
+            byId.invalidate(id);
+        }
+    }
+
+    public void invalidateAll() {
+        byId.invalidateAll();
+        skuToId.invalidateAll();
+    }
+
+    public CacheStatsDto stats() {
+        CacheStats stats = byId.stats();
+        CacheStatsDto dto = new CacheStatsDto();
+        dto.setHitCount(stats.hitCount());
+        dto.setMissCount(stats.missCount());
+        dto.setHitRate(stats.hitRate());
+        dto.setEvictionCount(stats.evictionCount());
+        dto.setEvictionWeight(stats.evictionWeight());
+        dto.setEstimatedSize(byId.estimatedSize());
+        dto.setWeightedSize(byId.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L));
+        dto.setMaxWeight(maxWeightBytes);
+        return dto;
+    }
+
+    // Rough heap estimate: object headers and boxed fields plus two bytes per character
+    static int estimateWeight(ProductDto dto) {
+        int weight = 256;
+        weight += length(dto.getName()) + length(dto.getDescription()) + length(dto.getSku())
+                + length(dto.getBrand()) + length(dto.getDimensions()) + length(dto.getColor())
+                + length(dto.getSize());
+        return weight;
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() * 2 : 0;
+    }
+}
@@ -0,0 +1,53 @@
+// src/main/java/com/chandra/ecom_service/cache/RequestCoalescer.java
+package com.chandra.ecom_service.cache;
+
+import com.chandra.ecom_service.dto.CoalescingStatsDto;
+import com.chandra.ecom_service.util.TransactionCallbacks;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Named single-flight groups for hot read paths, so a burst of identical lookups (the same
+ * SKU during a flash sale, say) costs one database call instead of one per request.
+ */
+@Component
+public class RequestCoalescer {
+
+    public static final String PRODUCT_BY_ID = "product-by-id";
+    public static final String PRODUCT_BY_SKU = "product-by-sku";
+    public static final String FEATURED_PRODUCTS = "featured-products";
+    public static final String CATEGORY_BY_ID = "category-by-id";
+
+    private final ConcurrentMap<String, SingleFlight<Object, Object>> groups = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String group, Object key, Supplier<T> loader) {
+        return (T) group(group).execute(key, (Supplier<Object>) loader);
+    }
+
+    /**
+     * Detaches callers from an in-flight lookup that may have read data a write is replacing.
+     * Done now and again after commit, as a lookup started before the commit still sees the
+     * old row.
+     */
+    public void forget(String group, Object key) {
+        group(group).forget(key);
+        TransactionCallbacks.afterCommit(() -> group(group).forget(key));
+    }
+
+    public List<CoalescingStatsDto> stats() {
+        return groups.values().stream()
+                .map(SingleFlight::stats)
+                .sorted(Comparator.comparing(CoalescingStatsDto::getGroup))
+                .toList();
+    }
+
+    private SingleFlight<Object, Object> group(String name) {
+        return groups.computeIfAbsent(name, SingleFlight::new);
+    }
+}
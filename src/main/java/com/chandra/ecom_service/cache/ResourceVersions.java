@@ -0,0 +1,114 @@
+// src/main/java/com/chandra/ecom_service/cache/ResourceVersions.java
+package com.chandra.ecom_service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Last known version of each product and category, keyed by id, so conditional GETs can be
+ * answered with 304 without touching the database or serializing a body. A version is the
+ * entity's optimistic-lock version column, which the database increments on every write, so
+ * it is ordered across writers and hosts regardless of their clocks. Entries only ever move
+ * to a higher version, so a slow reader cannot overwrite the version recorded by a later
+ * write. They expire after a short time, which bounds how long a write made by another
+ * instance can go unnoticed.
+ *
+ * The entity's updatedAt is kept alongside for Last-Modified; it is informational only and
+ * never decides a write precondition.
+ */
+@Component
+public class ResourceVersions {
+
+    private final Cache<Long, Known> products;
+    private final Cache<Long, Known> categories;
+
+    public ResourceVersions(long maxEntries) {
+        this(maxEntries, Duration.ofSeconds(30));
+    }
+
+    @Autowired
+    public ResourceVersions(@Value("${app.cache.versions.max-entries:1000000}") long maxEntries,
+                            @Value("${app.cache.versions.ttl:30s}") Duration ttl) {
+        this.products = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(ttl).build();
+        this.categories = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(ttl).build();
+    }
+
+    public Known productVersion(Long id) {
+        return products.getIfPresent(id);
+    }
+
+    public Known categoryVersion(Long id) {
+        return categories.getIfPresent(id);
+    }
+
+    // version and updatedAt must be read from the row after the write, never computed by the caller
+    public void recordProduct(Long id, Long version, LocalDateTime updatedAt) {
+        record(products, id, version, updatedAt);
+    }
+
+    public void recordCategory(Long id, Long version, LocalDateTime updatedAt) {
+        record(categories, id, version, updatedAt);
+    }
+
+    private static void record(Cache<Long, Known> versions, Long id, Long version, LocalDateTime updatedAt) {
+        if (id != null && version != null && updatedAt != null) {
+            versions.asMap().merge(id, new Known(version, lastModified(updatedAt)),
+                    (known, recorded) -> recorded.version() > known.version() ? recorded : known);
+        }
+    }
+
+    public static String etag(long version) {
+        return "\"" + Long.toString(version, 36) + "\"";
+    }
+
+    // For a body that also carries derived data (category product counts): "<version>.<derived>..."
+    public static String etag(long version, long... derived) {
+        StringBuilder tag = new StringBuilder("\"").append(Long.toString(version, 36));
+        for (long value : derived) {
+            tag.append('.').append(Long.toString(value, 36));
+        }
+        return tag.append('"').toString();
+    }
+
+    public static long lastModified(LocalDateTime updatedAt) {
+        return updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * If-Match check against the current row's version. Strong comparison as RFC 9110
+     * requires for If-Match, so weak tags never match; no header means an unconditional write.
+     * Only the version part of a tag counts: derived data that changed since the GET does not
+     * make an edit of the entity stale.
+     */
+    public static boolean ifMatchSatisfied(String ifMatch, Long version) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return true;
+        }
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (version != null && hasVersion(tag, version))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasVersion(String tag, long version) {
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return false;
+        }
+        String opaque = tag.substring(1, tag.length() - 1);
+        int dot = opaque.indexOf('.');
+        return (dot < 0 ? opaque : opaque.substring(0, dot)).equals(Long.toString(version, 36));
+    }
+
+    // What a 304 needs: the ETag's version and the Last-Modified time of the same row state
+    public record Known(long version, long lastModified) {}
+}
@@ -0,0 +1,83 @@
+// src/main/java/com/chandra/ecom_service/category/CategoryHierarchy.java
+package com.chandra.ecom_service.category;
+
+import com.chandra.ecom_service.entity.Category;
+import com.chandra.ecom_service.repository.CategoryClosureRepository;
+import com.chandra.ecom_service.repository.CategoryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Keeps the category_closure table in step with parentCategoryId. Every category has a row
+ * for itself and one for each ancestor, so "everything under X" is a single indexed lookup
+ * on ancestor_id instead of a walk down the tree.
+ *
+ * Runs inside the caller's write transaction, so the closure never disagrees with a committed
+ * parent change.
+ */
+@Component
+@Transactional(propagation = Propagation.MANDATORY)
+public class CategoryHierarchy {
+
+    @Autowired
+    private CategoryClosureRepository categoryClosureRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    // The category needs its id; the parent, when there is one, must already be linked
+    public void added(Category category) {
+        categoryClosureRepository.insertSelf(category.getId());
+        if (category.getParentCategoryId() != null) {
+            categoryClosureRepository.insertUnder(category.getId(), category.getParentCategoryId());
+        }
+    }
+
+    /**
+     * Rejects a parent for a new category that does not exist. The parent and its ancestor
+     * chain are locked as for a move, so the closure rows added() copies from them cannot be
+     * rewritten by a concurrent move before this transaction commits.
+     */
+    public void checkParent(Long parentId) {
+        if (parentId == null) {
+            return;
+        }
+        requireLocked(parentId, categoryRepository.lockWithAncestors(parentId));
+    }
+
+    /**
+     * Rejects a move under a missing parent, or one that would put a category under itself
+     * or one of its own subcategories. Must run before the new parent is set on the entity.
+     * The moved category and the new parent's ancestor chain are locked first, so two
+     * concurrent moves that would only form a cycle together are serialized and the second
+     * one sees the first.
+     */
+    public void checkMove(Long id, Long currentParentId, Long newParentId) {
+        if (newParentId == null || Objects.equals(currentParentId, newParentId)) {
+            return;
+        }
+        requireLocked(newParentId, categoryRepository.lockForMove(id, newParentId));
+        if (id.equals(newParentId) || categoryClosureRepository.existsByAncestorIdAndDescendantId(id, newParentId)) {
+            throw new IllegalArgumentException("Category " + id + " cannot be moved under its own subcategory " + newParentId);
+        }
+    }
+
+    private static void requireLocked(Long parentId, List<Category> locked) {
+        if (locked.stream().noneMatch(category -> category.getId().equals(parentId))) {
+            throw new RuntimeException("Category not found with id: " + parentId);
+        }
+    }
+
+    // Re-hangs the whole subtree rooted at id below its new parent (null makes it a root)
+    public void moved(Long id, Long newParentId) {
+        categoryClosureRepository.detachSubtree(id);
+        if (newParentId != null) {
+            categoryClosureRepository.attachSubtree(id, newParentId);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+// src/main/java/com/chandra/ecom_service/config/DataSourceRoutingConfig.java
+package com.chandra.ecom_service.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Replaces the single auto-configured DataSource with a primary/replica router when
+ * app.datasource.routing.enabled=true. The primary is built from spring.datasource.*;
+ * replicas come from app.datasource.routing.replicas.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties primaryProperties, DataSourceRoutingProperties routingProperties) {
+        Map<Object, Object> targets = new HashMap<>();
+        DataSource primary = primaryProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        targets.put(ReadWriteRoutingDataSource.PRIMARY, primary);
+
+        for (int i = 0; i < routingProperties.getReplicas().size(); i++) {
+            targets.put(ReadWriteRoutingDataSource.REPLICA_PREFIX + i, replicaDataSource(routingProperties.getReplicas().get(i), i));
+        }
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                routingProperties.getReplicas().size(), routingProperties.getStickinessWindow());
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(DataSourceRoutingProperties routingProperties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(routingProperties.getStickinessWindow()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    private DataSource replicaDataSource(DataSourceRoutingProperties.Replica replica, int index) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica-" + index);
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername());
+        dataSource.setPassword(replica.getPassword());
+        if (replica.getDriverClassName() != null) {
+            dataSource.setDriverClassName(replica.getDriverClassName());
+        }
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
@@ -0,0 +1,46 @@
+// src/main/java/com/chandra/ecom_service/config/ReadWriteRoutingDataSource.java
+package com.chandra.ecom_service.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes connections of read-only transactions to a replica (round robin) and everything
+ * else to the primary. Must sit behind a LazyConnectionDataSourceProxy so the physical
+ * connection is only chosen once the transaction's read-only flag is known.
+ *
+ * A thread that committed a write within the stickiness window keeps reading from the
+ * primary, so replica lag never hides a client's own writes.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA_PREFIX = "replica-";
+
+    private final int replicaCount;
+    private final Duration stickinessWindow;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(int replicaCount, Duration stickinessWindow) {
+        this.replicaCount = replicaCount;
+        this.stickinessWindow = stickinessWindow;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean inTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+
+        if (inTransaction && !readOnly) {
+            ReadYourWritesContext.markWrite();
+            return PRIMARY;
+        }
+        if (!readOnly || replicaCount == 0 || ReadYourWritesContext.isSticky(stickinessWindow)) {
+            return PRIMARY;
+        }
+        return REPLICA_PREFIX + Math.floorMod(nextReplica.getAndIncrement(), replicaCount);
+    }
+}
@@ -0,0 +1,48 @@
+// src/main/java/com/chandra/ecom_service/config/ReadYourWritesContext.java
+package com.chandra.ecom_service.config;
+
+import java.time.Duration;
+
+/**
+ * Per-thread record of the last write, used to pin reads to the primary shortly after a
+ * write. The web filter carries it across requests in a cookie/header; background
+ * threads simply keep their own value.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Long> LAST_WRITE_AT = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> WROTE = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {}
+
+    public static void markWrite() {
+        LAST_WRITE_AT.set(System.currentTimeMillis());
+        WROTE.set(Boolean.TRUE);
+    }
+
+    public static boolean isSticky(Duration window) {
+        Long lastWriteAt = LAST_WRITE_AT.get();
+        return lastWriteAt != null && System.currentTimeMillis() - lastWriteAt < window.toMillis();
+    }
+
+    public static Long getLastWriteAt() {
+        return LAST_WRITE_AT.get();
+    }
+
+    // Whether this thread wrote since the last reset, i.e. during the current request
+    public static boolean wroteSinceReset() {
+        return Boolean.TRUE.equals(WROTE.get());
+    }
+
+    public static void restore(Long lastWriteAt) {
+        if (lastWriteAt != null) {
+            LAST_WRITE_AT.set(lastWriteAt);
+        }
+        WROTE.remove();
+    }
+
+    public static void clear() {
+        LAST_WRITE_AT.remove();
+        WROTE.remove();
+    }
+}
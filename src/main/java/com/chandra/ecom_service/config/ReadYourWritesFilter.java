@@ -0,0 +1,131 @@
+// src/main/java/com/chandra/ecom_service/config/ReadYourWritesFilter.java
+package com.chandra.ecom_service.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Duration;
+
+/**
+ * Carries the client's last write time between requests so that reads issued right after
+ * a write are served by the primary. Browsers get a short-lived cookie; other clients can
+ * echo the X-Last-Write-At response header back on their next request.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "ecom-last-write";
+    public static final String HEADER_NAME = "X-Last-Write-At";
+
+    private final Duration stickinessWindow;
+
+    public ReadYourWritesFilter(Duration stickinessWindow) {
+        this.stickinessWindow = stickinessWindow;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ReadYourWritesContext.clear();
+        ReadYourWritesContext.restore(lastWriteFrom(request));
+        MarkingResponse markingResponse = new MarkingResponse(response);
+        try {
+            filterChain.doFilter(request, markingResponse);
+        } finally {
+            // Responses without a body never asked for a stream
+            markingResponse.mark();
+            ReadYourWritesContext.clear();
+        }
+    }
+
+    /**
+     * Adds the last-write marker just before the body is started. Large bodies commit the
+     * response as soon as the buffer fills, after which headers and cookies can no longer be
+     * set, so waiting for the filter chain to return would drop the marker.
+     */
+    private class MarkingResponse extends HttpServletResponseWrapper {
+
+        private Long marked;
+
+        MarkingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            mark();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            mark();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            mark();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            mark();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            mark();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            mark();
+            super.sendRedirect(location);
+        }
+
+        private void mark() {
+            Long lastWriteAt = ReadYourWritesContext.getLastWriteAt();
+            if (!ReadYourWritesContext.wroteSinceReset() || lastWriteAt == null
+                    || lastWriteAt.equals(marked) || isCommitted()) {
+                return;
+            }
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(lastWriteAt));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, stickinessWindow.toSeconds()));
+            addCookie(cookie);
+            setHeader(HEADER_NAME, Long.toString(lastWriteAt));
+            marked = lastWriteAt;
+        }
+    }
+
+    private Long lastWriteFrom(HttpServletRequest request) {
+        String value = request.getHeader(HEADER_NAME);
+        if (value == null && request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (COOKIE_NAME.equals(cookie.getName())) {
+                    value = cookie.getValue();
+                }
+            }
+        }
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
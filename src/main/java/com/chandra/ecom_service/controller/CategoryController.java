@@ -1,16 +1,39 @@
 // src/main/java/com/chandra/ecom_service/controller/CategoryController.java
 package com.chandra.ecom_service.controller;
 
+import com.chandra.ecom_service.cache.CategoryCounts;
+import com.chandra.ecom_service.cache.CategoryTree;
+import com.chandra.ecom_service.cache.ResourceVersions;
+import com.chandra.ecom_service.dto.BatchGetRequest;
+import com.chandra.ecom_service.dto.BatchGetResult;
+import com.chandra.ecom_service.dto.BulkDeactivateRequest;
+import com.chandra.ecom_service.dto.BulkDeactivateResult;
+import com.chandra.ecom_service.dto.CatalogFormat;
 import com.chandra.ecom_service.dto.CategoryDto;
+import com.chandra.ecom_service.dto.CategoryTreeNode;
 import com.chandra.ecom_service.dto.CreateCategoryRequest;
+import com.chandra.ecom_service.dto.ImportReport;
+import com.chandra.ecom_service.dto.MoveCategoryRequest;
+import com.chandra.ecom_service.dto.SubtreeDeactivateResult;
+import com.chandra.ecom_service.service.CatalogImportService;
 import com.chandra.ecom_service.service.CategoryService;
+import com.chandra.ecom_service.util.BatchLookup;
+import com.chandra.ecom_service.util.MergePatch;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 @RestController
 @RequestMapping("/api/categories")
@@ -19,6 +42,18 @@ public class CategoryController {
     @Autowired
     private CategoryService categoryService;
 
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private CatalogImportService catalogImportService;
+
+    @Autowired
+    private CategoryTree categoryTree;
+
+    @Autowired
+    private CategoryCounts categoryCounts;
+
     @PostMapping
     public ResponseEntity<CategoryDto> createCategory(@Valid @RequestBody CreateCategoryRequest request) {
         CategoryDto categoryDto = new CategoryDto();
@@ -30,10 +65,47 @@ public class CategoryController {
         return new ResponseEntity<>(createdCategory, HttpStatus.CREATED);
     }
 
+    // Bulk load from a streamed NDJSON or CSV body (gzip Content-Encoding accepted), inserted in JDBC batches
+    @PostMapping("/import")
+    public ResponseEntity<ImportReport> importCategories(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            HttpServletRequest request) throws IOException {
+        CatalogFormat importFormat = CatalogFormat.from(format);
+        InputStream body = "gzip".equalsIgnoreCase(contentEncoding)
+                ? new GZIPInputStream(request.getInputStream(), 64 * 1024)
+                : request.getInputStream();
+        return ResponseEntity.ok(catalogImportService.importCategories(body, importFormat));
+    }
+
+    // Up to 1000 ids or names per call, resolved with chunked IN queries
+    @PostMapping("/batch-get")
+    public ResponseEntity<BatchGetResult<CategoryDto>> batchGetCategories(@RequestBody BatchGetRequest request) {
+        BatchGetResult<CategoryDto> result = BatchLookup.byKeys(request)
+                ? categoryService.getCategoriesByNames(request.getKeys())
+                : categoryService.getCategoriesByIds(request.getIds());
+        return ResponseEntity.ok(result);
+    }
+
+    // No Last-Modified: the product counts change without the row, so only the ETag can revalidate the body
     @GetMapping("/{id}")
-    public ResponseEntity<CategoryDto> getCategoryById(@PathVariable Long id) {
+    public ResponseEntity<CategoryDto> getCategoryById(@PathVariable Long id, WebRequest request) {
+        // Revalidation answered from the version map and the in-memory counters: no entity load, no JSON
+        CategoryCounts.Figures counts = categoryCounts.figures(id);
+        ResourceVersions.Known known = resourceVersions.categoryVersion(id);
+        if (known != null && request.checkNotModified(countsEtag(known.version(), counts))) {
+            return null;
+        }
+
         CategoryDto category = categoryService.getCategoryById(id);
-        return ResponseEntity.ok(category);
+        if (category.getVersion() == null || category.getUpdatedAt() == null) {
+            return ResponseEntity.ok(category);
+        }
+        resourceVersions.recordCategory(id, category.getVersion(), category.getUpdatedAt());
+        counts.applyTo(category);
+        return ResponseEntity.ok()
+                .eTag(countsEtag(category.getVersion(), counts))
+                .body(category);
     }
 
     @GetMapping("/name/{name}")
@@ -66,10 +138,51 @@ public class CategoryController {
         return ResponseEntity.ok(categories);
     }
 
+    // Whole active hierarchy (roots with nested children, depth, ancestors and product counts) from memory
+    @GetMapping("/tree")
+    public ResponseEntity<List<CategoryTreeNode>> getCategoryTree(WebRequest request) {
+        CategoryTree.Snapshot tree = categoryTree.snapshot();
+        String etag = treeEtag(tree);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(categoryCounts.withCounts(tree.roots()));
+    }
+
+    @GetMapping("/{id}/tree")
+    public ResponseEntity<CategoryTreeNode> getCategorySubtree(@PathVariable Long id, WebRequest request) {
+        CategoryTree.Snapshot tree = categoryTree.snapshot();
+        CategoryTreeNode node = tree.node(id);
+        if (node == null) {
+            throw new RuntimeException("Category not found with id: " + id);
+        }
+        String etag = treeEtag(tree);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(categoryCounts.withCounts(node));
+    }
+
+    // Optional If-Match takes the ETag from a GET: 412 when the category changed since, 409 on a concurrent write
     @PutMapping("/{id}")
-    public ResponseEntity<CategoryDto> updateCategory(@PathVariable Long id, @Valid @RequestBody CategoryDto categoryDto) {
-        CategoryDto updatedCategory = categoryService.updateCategory(id, categoryDto);
-        return ResponseEntity.ok(updatedCategory);
+    public ResponseEntity<CategoryDto> updateCategory(@PathVariable Long id, @Valid @RequestBody CategoryDto categoryDto,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        CategoryDto updatedCategory = categoryService.updateCategory(id, categoryDto, ifMatch);
+        if (updatedCategory.getVersion() == null) {
+            return ResponseEntity.ok(updatedCategory);
+        }
+        return withCountsEtag(updatedCategory);
+    }
+
+    // JSON Merge Patch, e.g. {"description": ...}; members left out keep their value and null clears one
+    @PatchMapping(value = "/{id}", consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<CategoryDto> patchCategory(@PathVariable Long id, @RequestBody JsonNode patch,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        CategoryDto patchedCategory = categoryService.patchCategory(id, patch, ifMatch);
+        if (patchedCategory.getVersion() == null) {
+            return ResponseEntity.ok(patchedCategory);
+        }
+        return withCountsEtag(patchedCategory);
     }
 
     @DeleteMapping("/{id}")
@@ -78,6 +191,54 @@ public class CategoryController {
         return ResponseEntity.noContent().build();
     }
 
+    // Soft-deletes the listed categories in one statement: {"ids": [1, 2, 3]}
+    @PostMapping("/deactivate")
+    public ResponseEntity<BulkDeactivateResult> deactivateCategories(@RequestBody BulkDeactivateRequest request) {
+        if (request.getBrand() != null || request.getCategoryId() != null || request.getCategorySubtreeId() != null) {
+            throw new IllegalArgumentException("Categories can only be deactivated by ids");
+        }
+        BulkDeactivateResult result = categoryService.deactivateCategories(request.getIds());
+        return ResponseEntity.ok(result);
+    }
+
+    // Moves the category and everything below it: {"parentCategoryId": 7}, or null to make it a root
+    @PostMapping("/{id}/move")
+    public ResponseEntity<CategoryDto> moveCategory(@PathVariable Long id, @RequestBody MoveCategoryRequest request,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        CategoryDto movedCategory = categoryService.moveCategory(id, request.getParentCategoryId(), request.getVersion(), ifMatch);
+        if (movedCategory.getVersion() == null) {
+            return ResponseEntity.ok(movedCategory);
+        }
+        return withCountsEtag(movedCategory);
+    }
+
+    // Soft-deletes the category, all of its subcategories and their products with a few set-based statements
+    @PostMapping("/{id}/deactivate-subtree")
+    public ResponseEntity<SubtreeDeactivateResult> deactivateCategorySubtree(@PathVariable Long id) {
+        return ResponseEntity.ok(categoryService.deactivateCategorySubtree(id));
+    }
+
+    // Changes with the hierarchy and with any product count
+    private String treeEtag(CategoryTree.Snapshot tree) {
+        return ResourceVersions.etag(31 * tree.version() + categoryCounts.version());
+    }
+
+    // A category body carries its own product counts, so its tag is the row version plus those figures;
+    // writes to products elsewhere leave it alone
+    private static String countsEtag(long version, CategoryCounts.Figures counts) {
+        return ResourceVersions.etag(version, counts.active(), counts.inStock(), counts.subtreeActive(), counts.subtreeInStock());
+    }
+
+    // After a write the counters may have moved on since the service filled the counts in, so
+    // the body and the tag are both taken from one fresh reading
+    private ResponseEntity<CategoryDto> withCountsEtag(CategoryDto category) {
+        CategoryCounts.Figures counts = categoryCounts.figures(category.getId());
+        counts.applyTo(category);
+        return ResponseEntity.ok()
+                .eTag(countsEtag(category.getVersion(), counts))
+                .body(category);
+    }
+
     @GetMapping("/exists/{name}")
     public ResponseEntity<Boolean> checkCategoryExists(@PathVariable String name) {
         boolean exists = categoryService.existsByName(name);
@@ -0,0 +1,43 @@
+// src/main/java/com/chandra/ecom_service/controller/InventoryController.java
+package com.chandra.ecom_service.controller;
+
+import com.chandra.ecom_service.dto.HotInventoryStatus;
+import com.chandra.ecom_service.inventory.HotInventory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// Operator endpoints for flash-sale (hot) inventory; sales themselves go through /api/products/{id}/stock/*
+@RestController
+@RequestMapping("/api/inventory/hot")
+public class InventoryController {
+
+    @Autowired
+    private HotInventory hotInventory;
+
+    // Memory vs stored stock per hot product; drift should settle at zero once traffic pauses
+    @GetMapping
+    public ResponseEntity<List<HotInventoryStatus>> getHotInventory() {
+        return ResponseEntity.ok(hotInventory.reconcile());
+    }
+
+    @PutMapping("/{productId}")
+    public ResponseEntity<Void> activate(@PathVariable Long productId) {
+        hotInventory.activate(productId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{productId}")
+    public ResponseEntity<Void> deactivate(@PathVariable Long productId) {
+        hotInventory.deactivate(productId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/flush")
+    public ResponseEntity<Void> flush() {
+        hotInventory.flush();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,18 +1,45 @@
 // src/main/java/com/chandra/ecom_service/controller/ProductController.java
 package com.chandra.ecom_service.controller;
 
+import com.chandra.ecom_service.cache.ResourceVersions;
+import com.chandra.ecom_service.dto.BatchGetRequest;
+import com.chandra.ecom_service.dto.BatchGetResult;
+import com.chandra.ecom_service.dto.BulkDeactivateRequest;
+import com.chandra.ecom_service.dto.BulkDeactivateResult;
+import com.chandra.ecom_service.dto.CatalogFormat;
 import com.chandra.ecom_service.dto.CreateProductRequest;
+import com.chandra.ecom_service.dto.CursorPage;
+import com.chandra.ecom_service.dto.FacetedProductPage;
+import com.chandra.ecom_service.dto.ImportReport;
 import com.chandra.ecom_service.dto.ProductDto;
+import com.chandra.ecom_service.dto.ProductFilter;
+import com.chandra.ecom_service.dto.StockAdjustmentResult;
+import com.chandra.ecom_service.dto.StockFeedReport;
+import com.chandra.ecom_service.dto.StockUpdateItem;
+import com.chandra.ecom_service.service.CatalogImportService;
 import com.chandra.ecom_service.service.ProductService;
+import com.chandra.ecom_service.service.StockFeedService;
+import com.chandra.ecom_service.util.BatchLookup;
+import com.chandra.ecom_service.util.MergePatch;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/products")
@@ -21,6 +48,15 @@ public class ProductController {
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private CatalogImportService catalogImportService;
+
+    @Autowired
+    private StockFeedService stockFeedService;
+
     @PostMapping
     public ResponseEntity<ProductDto> createProduct(@Valid @RequestBody CreateProductRequest request) {
         ProductDto productDto = new ProductDto();
@@ -40,10 +76,61 @@ public class ProductController {
         return new ResponseEntity<>(createdProduct, HttpStatus.CREATED);
     }
 
+    // Bulk load from a streamed NDJSON or CSV body (gzip Content-Encoding accepted), inserted in JDBC batches
+    @PostMapping("/import")
+    public ResponseEntity<ImportReport> importProducts(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            HttpServletRequest request) throws IOException {
+        CatalogFormat importFormat = CatalogFormat.from(format);
+        InputStream body = "gzip".equalsIgnoreCase(contentEncoding)
+                ? new GZIPInputStream(request.getInputStream(), 64 * 1024)
+                : request.getInputStream();
+        return ResponseEntity.ok(catalogImportService.importProducts(body, importFormat));
+    }
+
+    // Up to 1000 ids or SKUs per call, resolved with chunked IN queries
+    @PostMapping("/batch-get")
+    public ResponseEntity<BatchGetResult<ProductDto>> batchGetProducts(@RequestBody BatchGetRequest request) {
+        BatchGetResult<ProductDto> result = BatchLookup.byKeys(request)
+                ? productService.getProductsBySkus(request.getKeys())
+                : productService.getProductsByIds(request.getIds());
+        return ResponseEntity.ok(result);
+    }
+
+    // Full catalog as gzip-compressed NDJSON or CSV, streamed row by row with flat memory use
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(@RequestParam(defaultValue = "ndjson") String format) {
+        CatalogFormat exportFormat = CatalogFormat.from(format);
+        StreamingResponseBody body = outputStream -> {
+            GZIPOutputStream gzip = new GZIPOutputStream(outputStream, 64 * 1024);
+            productService.exportProducts(exportFormat, gzip);
+            gzip.finish();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=products." + exportFormat.getExtension())
+                .body(body);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ProductDto> getProductById(@PathVariable Long id) {
+    public ResponseEntity<ProductDto> getProductById(@PathVariable Long id, WebRequest request) {
+        // Revalidation answered from the version map alone: no entity load, no JSON
+        ResourceVersions.Known known = resourceVersions.productVersion(id);
+        if (known != null && request.checkNotModified(ResourceVersions.etag(known.version()), known.lastModified())) {
+            return null;
+        }
+
         ProductDto product = productService.getProductById(id);
-        return ResponseEntity.ok(product);
+        if (product.getVersion() == null || product.getUpdatedAt() == null) {
+            return ResponseEntity.ok(product);
+        }
+        resourceVersions.recordProduct(id, product.getVersion(), product.getUpdatedAt());
+        return ResponseEntity.ok()
+                .eTag(ResourceVersions.etag(product.getVersion()))
+                .lastModified(ResourceVersions.lastModified(product.getUpdatedAt()))
+                .body(product);
     }
 
     @GetMapping("/sku/{sku}")
@@ -53,65 +140,157 @@ public class ProductController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ProductDto>> getAllProducts() {
+    public ResponseEntity<?> getAllProducts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        if (isCursorRequest(cursor, limit)) {
+            CursorPage<ProductDto> page = productService.getAllProducts(cursor, limit);
+            return ResponseEntity.ok(page);
+        }
         List<ProductDto> products = productService.getAllProducts();
         return ResponseEntity.ok(products);
     }
 
     @GetMapping("/active")
-    public ResponseEntity<List<ProductDto>> getActiveProducts() {
+    public ResponseEntity<?> getActiveProducts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        if (isCursorRequest(cursor, limit)) {
+            CursorPage<ProductDto> page = productService.getActiveProducts(cursor, limit);
+            return ResponseEntity.ok(page);
+        }
         List<ProductDto> products = productService.getActiveProducts();
         return ResponseEntity.ok(products);
     }
 
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<List<ProductDto>> getProductsByCategory(@PathVariable Long categoryId) {
+    public ResponseEntity<?> getProductsByCategory(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        if (isCursorRequest(cursor, limit)) {
+            CursorPage<ProductDto> page = productService.getProductsByCategory(categoryId, cursor, limit);
+            return ResponseEntity.ok(page);
+        }
         List<ProductDto> products = productService.getProductsByCategory(categoryId);
         return ResponseEntity.ok(products);
     }
 
+    // Everything under the category, e.g. all of Electronics including Phones and Laptops; always paginated
+    @GetMapping("/category/{categoryId}/subtree")
+    public ResponseEntity<CursorPage<ProductDto>> getProductsInCategorySubtree(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CursorPage<ProductDto> page = productService.getProductsInCategorySubtree(categoryId, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/featured")
-    public ResponseEntity<List<ProductDto>> getFeaturedProducts() {
+    public ResponseEntity<?> getFeaturedProducts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        if (isCursorRequest(cursor, limit)) {
+            CursorPage<ProductDto> page = productService.getFeaturedProducts(cursor, limit);
+            return ResponseEntity.ok(page);
+        }
         List<ProductDto> products = productService.getFeaturedProducts();
         return ResponseEntity.ok(products);
     }
 
     @GetMapping("/brand/{brand}")
-    public ResponseEntity<List<ProductDto>> getProductsByBrand(@PathVariable String brand) {
+    public ResponseEntity<?> getProductsByBrand(
+            @PathVariable String brand,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        if (isCursorRequest(cursor, limit)) {
+            CursorPage<ProductDto> page = productService.getProductsByBrand(brand, cursor, limit);
+            return ResponseEntity.ok(page);
+        }
         List<ProductDto> products = productService.getProductsByBrand(brand);
         return ResponseEntity.ok(products);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<ProductDto>> searchProductsByName(@RequestParam String name) {
-        List<ProductDto> products = productService.searchProductsByName(name);
+    public ResponseEntity<List<ProductDto>> searchProductsByName(
+            @RequestParam String name,
+            @RequestParam(required = false) Integer limit) {
+        List<ProductDto> products = productService.searchProducts(name, limit);
         return ResponseEntity.ok(products);
     }
 
+    // Combines category, brand, price, stock and featured filters; e.g. /filter?brand=Apple&inStock=true&maxPrice=1000
+    @GetMapping("/filter")
+    public ResponseEntity<FacetedProductPage> filterProducts(
+            @ModelAttribute ProductFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        FacetedProductPage page = productService.filterProducts(filter, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/price-range")
-    public ResponseEntity<List<ProductDto>> getProductsByPriceRange(
+    public ResponseEntity<?> getProductsByPriceRange(
             @RequestParam BigDecimal minPrice,
-            @RequestParam BigDecimal maxPrice) {
+            @RequestParam BigDecimal maxPrice,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        if (isCursorRequest(cursor, limit)) {
+            CursorPage<ProductDto> page = productService.getProductsByPriceRange(minPrice, maxPrice, cursor, limit);
+            return ResponseEntity.ok(page);
+        }
         List<ProductDto> products = productService.getProductsByPriceRange(minPrice, maxPrice);
         return ResponseEntity.ok(products);
     }
 
     @GetMapping("/in-stock")
-    public ResponseEntity<List<ProductDto>> getInStockProducts() {
+    public ResponseEntity<?> getInStockProducts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        if (isCursorRequest(cursor, limit)) {
+            CursorPage<ProductDto> page = productService.getInStockProducts(cursor, limit);
+            return ResponseEntity.ok(page);
+        }
         List<ProductDto> products = productService.getInStockProducts();
         return ResponseEntity.ok(products);
     }
 
     @GetMapping("/out-of-stock")
-    public ResponseEntity<List<ProductDto>> getOutOfStockProducts() {
+    public ResponseEntity<?> getOutOfStockProducts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        if (isCursorRequest(cursor, limit)) {
+            CursorPage<ProductDto> page = productService.getOutOfStockProducts(cursor, limit);
+            return ResponseEntity.ok(page);
+        }
         List<ProductDto> products = productService.getOutOfStockProducts();
         return ResponseEntity.ok(products);
     }
 
+    // Optional If-Match takes the ETag from a GET: 412 when the product changed since, 409 on a concurrent write
     @PutMapping("/{id}")
-    public ResponseEntity<ProductDto> updateProduct(@PathVariable Long id, @Valid @RequestBody ProductDto productDto) {
-        ProductDto updatedProduct = productService.updateProduct(id, productDto);
-        return ResponseEntity.ok(updatedProduct);
+    public ResponseEntity<ProductDto> updateProduct(@PathVariable Long id, @Valid @RequestBody ProductDto productDto,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ProductDto updatedProduct = productService.updateProduct(id, productDto, ifMatch);
+        if (updatedProduct.getVersion() == null) {
+            return ResponseEntity.ok(updatedProduct);
+        }
+        return ResponseEntity.ok()
+                .eTag(ResourceVersions.etag(updatedProduct.getVersion()))
+                .body(updatedProduct);
+    }
+
+    // JSON Merge Patch, e.g. {"isFeatured": ...}; members left out keep their value and null clears one
+    @PatchMapping(value = "/{id}", consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ProductDto> patchProduct(@PathVariable Long id, @RequestBody JsonNode patch,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ProductDto patchedProduct = productService.patchProduct(id, patch, ifMatch);
+        if (patchedProduct.getVersion() == null) {
+            return ResponseEntity.ok(patchedProduct);
+        }
+        return ResponseEntity.ok()
+                .eTag(ResourceVersions.etag(patchedProduct.getVersion()))
+                .body(patchedProduct);
     }
 
     @PatchMapping("/{id}/stock")
@@ -121,15 +300,47 @@ public class ProductController {
         return ResponseEntity.ok(updatedProduct);
     }
 
+    // Relative adjustment, e.g. {"quantity": 2}; 409 when there is not enough stock, nothing is changed then
+    @PostMapping("/{id}/stock/decrement")
+    public ResponseEntity<StockAdjustmentResult> decrementStock(@PathVariable Long id, @RequestBody Map<String, Integer> request) {
+        StockAdjustmentResult result = productService.decrementStock(id, request.get("quantity"));
+        return ResponseEntity.status(result.isApplied() ? HttpStatus.OK : HttpStatus.CONFLICT).body(result);
+    }
+
+    @PostMapping("/{id}/stock/increment")
+    public ResponseEntity<StockAdjustmentResult> incrementStock(@PathVariable Long id, @RequestBody Map<String, Integer> request) {
+        StockAdjustmentResult result = productService.incrementStock(id, request.get("quantity"));
+        return ResponseEntity.ok(result);
+    }
+
+    // Warehouse feed: a JSON array of {"sku", "quantity"} snapshots and/or {"id", "delta"} movements
+    @PostMapping("/stock/bulk")
+    public ResponseEntity<StockFeedReport> bulkUpdateStock(@RequestBody List<StockUpdateItem> items) {
+        StockFeedReport report = stockFeedService.applyStockUpdates(items);
+        return ResponseEntity.ok(report);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteProduct(@PathVariable Long id) {
         productService.deleteProduct(id);
         return ResponseEntity.noContent().build();
     }
 
+    // Soft-deletes in one statement, e.g. {"brand": "Acme"}, {"categoryId": 7} or {"ids": [1, 2, 3]}
+    @PostMapping("/deactivate")
+    public ResponseEntity<BulkDeactivateResult> deactivateProducts(@RequestBody BulkDeactivateRequest request) {
+        BulkDeactivateResult result = productService.deactivateProducts(request);
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/exists/{sku}")
     public ResponseEntity<Boolean> checkSkuExists(@PathVariable String sku) {
         boolean exists = productService.existsBySku(sku);
         return ResponseEntity.ok(exists);
     }
+
+    // Passing either cursor or limit switches a list endpoint into keyset-paginated mode
+    private boolean isCursorRequest(String cursor, Integer limit) {
+        return cursor != null || limit != null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+// src/main/java/com/chandra/ecom_service/controller/StatsController.java
+package com.chandra.ecom_service.controller;
+
+import com.chandra.ecom_service.cache.ProductCache;
+import com.chandra.ecom_service.cache.RequestCoalescer;
+import com.chandra.ecom_service.dto.CacheStatsDto;
+import com.chandra.ecom_service.dto.CoalescingStatsDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/stats")
+public class StatsController {
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @GetMapping("/product-cache")
+    public ResponseEntity<CacheStatsDto> getProductCacheStats() {
+        return ResponseEntity.ok(productCache.stats());
+    }
+
+    @GetMapping("/coalescing")
+    public ResponseEntity<List<CoalescingStatsDto>> getCoalescingStats() {
+        return ResponseEntity.ok(requestCoalescer.stats());
+    }
+}
@@ -1,12 +1,20 @@
 // src/main/java/com/chandra/ecom_service/controller/UserController.java
 package com.chandra.ecom_service.controller;
 
+import com.chandra.ecom_service.cache.ResourceVersions;
+import com.chandra.ecom_service.dto.BatchGetRequest;
+import com.chandra.ecom_service.dto.BatchGetResult;
 import com.chandra.ecom_service.dto.CreateUserRequest;
 import com.chandra.ecom_service.dto.UserDto;
 import com.chandra.ecom_service.service.UserService;
+import com.chandra.ecom_service.util.BatchLookup;
+import com.chandra.ecom_service.util.MergePatch;
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -31,10 +39,25 @@ public class UserController {
         return new ResponseEntity<>(createdUser, HttpStatus.CREATED);
     }
 
+    // Up to 1000 ids or emails per call, resolved with chunked IN queries
+    @PostMapping("/batch-get")
+    public ResponseEntity<BatchGetResult<UserDto>> batchGetUsers(@RequestBody BatchGetRequest request) {
+        BatchGetResult<UserDto> result = BatchLookup.byKeys(request)
+                ? userService.getUsersByEmails(request.getKeys())
+                : userService.getUsersByIds(request.getIds());
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<UserDto> getUserById(@PathVariable Long id) {
         UserDto user = userService.getUserById(id);
-        return ResponseEntity.ok(user);
+        if (user.getVersion() == null) {
+            return ResponseEntity.ok(user);
+        }
+        // Validator for If-Match on PUT; users have no version map, so no 304 short-cut here
+        return ResponseEntity.ok()
+                .eTag(ResourceVersions.etag(user.getVersion()))
+                .body(user);
     }
 
     @GetMapping("/email/{email}")
@@ -49,10 +72,30 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
 
+    // Optional If-Match takes the ETag from a GET: 412 when the user changed since, 409 on a concurrent write
     @PutMapping("/{id}")
-    public ResponseEntity<UserDto> updateUser(@PathVariable Long id, @Valid @RequestBody UserDto userDto) {
-        UserDto updatedUser = userService.updateUser(id, userDto);
-        return ResponseEntity.ok(updatedUser);
+    public ResponseEntity<UserDto> updateUser(@PathVariable Long id, @Valid @RequestBody UserDto userDto,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        UserDto updatedUser = userService.updateUser(id, userDto, ifMatch);
+        if (updatedUser.getVersion() == null) {
+            return ResponseEntity.ok(updatedUser);
+        }
+        return ResponseEntity.ok()
+                .eTag(ResourceVersions.etag(updatedUser.getVersion()))
+                .body(updatedUser);
+    }
+
+    // JSON Merge Patch, e.g. {"phoneNumber": ...}; members left out keep their value and null clears one
+    @PatchMapping(value = "/{id}", consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<UserDto> patchUser(@PathVariable Long id, @RequestBody JsonNode patch,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        UserDto patchedUser = userService.patchUser(id, patch, ifMatch);
+        if (patchedUser.getVersion() == null) {
+            return ResponseEntity.ok(patchedUser);
+        }
+        return ResponseEntity.ok()
+                .eTag(ResourceVersions.etag(patchedUser.getVersion()))
+                .body(patchedUser);
     }
 
     @DeleteMapping("/{id}")
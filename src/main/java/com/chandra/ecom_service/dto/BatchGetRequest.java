@@ -0,0 +1,22 @@
+// src/main/java/com/chandra/ecom_service/dto/BatchGetRequest.java
+package com.chandra.ecom_service.dto;
+
+import java.util.List;
+
+public class BatchGetRequest {
+
+    private List<Long> ids;
+
+    // Natural keys: SKU for products, name for categories, email for users
+    private List<String> keys;
+
+    // Constructors
+    public BatchGetRequest() {}
+
+    // Getters and Setters
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+
+    public List<String> getKeys() { return keys; }
+    public void setKeys(List<String> keys) { this.keys = keys; }
+}
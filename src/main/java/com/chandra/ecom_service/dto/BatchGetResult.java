@@ -0,0 +1,33 @@
+// src/main/java/com/chandra/ecom_service/dto/BatchGetResult.java
+package com.chandra.ecom_service.dto;
+
+import java.util.List;
+
+public class BatchGetResult<T> {
+
+    // One entry per requested key, in request order (duplicates included)
+    private List<BatchItem<T>> items;
+
+    private int requested;
+
+    private int found;
+
+    // Constructors
+    public BatchGetResult() {}
+
+    public BatchGetResult(List<BatchItem<T>> items) {
+        this.items = items;
+        this.requested = items.size();
+        this.found = (int) items.stream().filter(BatchItem::isFound).count();
+    }
+
+    // Getters and Setters
+    public List<BatchItem<T>> getItems() { return items; }
+    public void setItems(List<BatchItem<T>> items) { this.items = items; }
+
+    public int getRequested() { return requested; }
+    public void setRequested(int requested) { this.requested = requested; }
+
+    public int getFound() { return found; }
+    public void setFound(int found) { this.found = found; }
+}
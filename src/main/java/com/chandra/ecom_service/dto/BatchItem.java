@@ -0,0 +1,32 @@
+// src/main/java/com/chandra/ecom_service/dto/BatchItem.java
+package com.chandra.ecom_service.dto;
+
+public class BatchItem<T> {
+
+    // The id or natural key exactly as requested
+    private Object key;
+
+    private boolean found;
+
+    // Null when nothing matched the key
+    private T item;
+
+    // Constructors
+    public BatchItem() {}
+
+    public BatchItem(Object key, T item) {
+        this.key = key;
+        this.item = item;
+        this.found = item != null;
+    }
+
+    // Getters and Setters
+    public Object getKey() { return key; }
+    public void setKey(Object key) { this.key = key; }
+
+    public boolean isFound() { return found; }
+    public void setFound(boolean found) { this.found = found; }
+
+    public T getItem() { return item; }
+    public void setItem(T item) { this.item = item; }
+}
@@ -0,0 +1,56 @@
+// src/main/java/com/chandra/ecom_service/dto/BulkDeactivateRequest.java
+package com.chandra.ecom_service.dto;
+
+import java.util.List;
+
+// Exactly one criterion: an id list (up to 1000), a brand, a category id, or a category with everything below it
+public class BulkDeactivateRequest {
+
+    private List<Long> ids;
+
+    private String brand;
+
+    private Long categoryId;
+
+    private Long categorySubtreeId;
+
+    // Constructors
+    public BulkDeactivateRequest() {}
+
+    public static BulkDeactivateRequest ofIds(List<Long> ids) {
+        BulkDeactivateRequest request = new BulkDeactivateRequest();
+        request.setIds(ids);
+        return request;
+    }
+
+    public static BulkDeactivateRequest ofBrand(String brand) {
+        BulkDeactivateRequest request = new BulkDeactivateRequest();
+        request.setBrand(brand);
+        return request;
+    }
+
+    public static BulkDeactivateRequest ofCategory(Long categoryId) {
+        BulkDeactivateRequest request = new BulkDeactivateRequest();
+        request.setCategoryId(categoryId);
+        return request;
+    }
+
+    public static BulkDeactivateRequest ofCategorySubtree(Long categoryId) {
+        BulkDeactivateRequest request = new BulkDeactivateRequest();
+        request.setCategorySubtreeId(categoryId);
+        return request;
+    }
+
+    // Getters and Setters
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+
+    public String getBrand() { return brand; }
+    public void setBrand(String brand) { this.brand = brand; }
+
+    public Long getCategoryId() { return categoryId; }
+    public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
+
+    public Long getCategorySubtreeId() { return categorySubtreeId; }
+    public void setCategorySubtreeId(Long categorySubtreeId) { this.categorySubtreeId = categorySubtreeId; }
+}
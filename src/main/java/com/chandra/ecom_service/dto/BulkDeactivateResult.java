@@ -0,0 +1,25 @@
+// src/main/java/com/chandra/ecom_service/dto/BulkDeactivateResult.java
+package com.chandra.ecom_service.dto;
+
+public class BulkDeactivateResult {
+
+    // Rows switched from active to inactive; rows that were already inactive are not counted
+    private int deactivated;
+
+    private long elapsedMillis;
+
+    // Constructors
+    public BulkDeactivateResult() {}
+
+    public BulkDeactivateResult(int deactivated, long elapsedMillis) {
+        this.deactivated = deactivated;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    // Getters and Setters
+    public int getDeactivated() { return deactivated; }
+    public void setDeactivated(int deactivated) { this.deactivated = deactivated; }
+
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+}
@@ -0,0 +1,49 @@
+// src/main/java/com/chandra/ecom_service/dto/CacheStatsDto.java
+package com.chandra.ecom_service.dto;
+
+public class CacheStatsDto {
+
+    private long hitCount;
+
+    private long missCount;
+
+    private double hitRate;
+
+    private long evictionCount;
+
+    private long evictionWeight;
+
+    private long estimatedSize;
+
+    private long weightedSize;
+
+    private long maxWeight;
+
+    // Constructors
+    public CacheStatsDto() {}
+
+    // Getters and Setters
+    public long getHitCount() { return hitCount; }
+    public void setHitCount(long hitCount) { this.hitCount = hitCount; }
+
+    public long getMissCount() { return missCount; }
+    public void setMissCount(long missCount) { this.missCount = missCount; }
+
+    public double getHitRate() { return hitRate; }
+    public void setHitRate(double hitRate) { this.hitRate = hitRate; }
+
+    public long getEvictionCount() { return evictionCount; }
+    public void setEvictionCount(long evictionCount) { this.evictionCount = evictionCount; }
+
+    public long getEvictionWeight() { return evictionWeight; }
+    public void setEvictionWeight(long evictionWeight) { this.evictionWeight = evictionWeight; }
+
+    public long getEstimatedSize() { return estimatedSize; }
+    public void setEstimatedSize(long estimatedSize) { this.estimatedSize = estimatedSize; }
+
+    public long getWeightedSize() { return weightedSize; }
+    public void setWeightedSize(long weightedSize) { this.weightedSize = weightedSize; }
+
+    public long getMaxWeight() { return maxWeight; }
+    public void setMaxWeight(long maxWeight) { this.maxWeight = maxWeight; }
+}
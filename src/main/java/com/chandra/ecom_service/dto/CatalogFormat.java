@@ -0,0 +1,30 @@
+// src/main/java/com/chandra/ecom_service/dto/CatalogFormat.java
+package com.chandra.ecom_service.dto;
+
+// Line-oriented catalog formats shared by export and bulk import
+public enum CatalogFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    CatalogFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() { return contentType; }
+
+    public String getExtension() { return extension; }
+
+    public static CatalogFormat from(String value) {
+        for (CatalogFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported catalog format: " + value);
+    }
+}
@@ -4,6 +4,8 @@ package com.chandra.ecom_service.dto;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+import java.time.LocalDateTime;
+
 public class CategoryDto {
 
     private Long id;
@@ -19,6 +21,21 @@ public class CategoryDto {
 
     private Boolean isActive;
 
+    private LocalDateTime updatedAt;
+
+    // Entity version this copy was read at; sent back on update to reject a stale edit with 409
+    private Long version;
+
+    // Product counters, maintained in memory and filled in on reads. They are not part of the
+    // category's version; the ETag carries them separately so a 304 never hides a changed count
+    private Long activeProductCount;
+
+    private Long inStockProductCount;
+
+    private Long subtreeActiveProductCount;
+
+    private Long subtreeInStockProductCount;
+
     // Constructors
     public CategoryDto() {}
 
@@ -42,4 +59,22 @@ public class CategoryDto {
 
     public Boolean getIsActive() { return isActive; }
     public void setIsActive(Boolean isActive) { this.isActive = isActive; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public Long getActiveProductCount() { return activeProductCount; }
+    public void setActiveProductCount(Long activeProductCount) { this.activeProductCount = activeProductCount; }
+
+    public Long getInStockProductCount() { return inStockProductCount; }
+    public void setInStockProductCount(Long inStockProductCount) { this.inStockProductCount = inStockProductCount; }
+
+    public Long getSubtreeActiveProductCount() { return subtreeActiveProductCount; }
+    public void setSubtreeActiveProductCount(Long subtreeActiveProductCount) { this.subtreeActiveProductCount = subtreeActiveProductCount; }
+
+    public Long getSubtreeInStockProductCount() { return subtreeInStockProductCount; }
+    public void setSubtreeInStockProductCount(Long subtreeInStockProductCount) { this.subtreeInStockProductCount = subtreeInStockProductCount; }
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+// src/main/java/com/chandra/ecom_service/dto/CategoryTreeNode.java
+package com.chandra.ecom_service.dto;
+
+import java.util.List;
+
+// Immutable: one instance is shared by every request served from the same tree snapshot
+public class CategoryTreeNode {
+
+    private final Long id;
+
+    private final String name;
+
+    private final String description;
+
+    private final Long parentCategoryId;
+
+    // 0 for a root category
+    private final int depth;
+
+    // Root first, ending with the parent; empty for a root category
+    private final List<Long> ancestorIds;
+
+    // Active subcategories ordered by name
+    private final List<CategoryTreeNode> children;
+
+    // Active / in-stock products directly in this category, then in it and everything below it.
+    // Null in the cached tree; filled in on the copy that is served
+    private final Long activeProductCount;
+
+    private final Long inStockProductCount;
+
+    private final Long subtreeActiveProductCount;
+
+    private final Long subtreeInStockProductCount;
+
+    // Constructors
+    public CategoryTreeNode(Long id, String name, String description, Long parentCategoryId, int depth,
+                            List<Long> ancestorIds, List<CategoryTreeNode> children) {
+        this(id, name, description, parentCategoryId, depth, ancestorIds, children, null, null, null, null);
+    }
+
+    public CategoryTreeNode(Long id, String name, String description, Long parentCategoryId, int depth,
+                            List<Long> ancestorIds, List<CategoryTreeNode> children,
+                            Long activeProductCount, Long inStockProductCount,
+                            Long subtreeActiveProductCount, Long subtreeInStockProductCount) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.parentCategoryId = parentCategoryId;
+        this.depth = depth;
+        this.ancestorIds = List.copyOf(ancestorIds);
+        this.children = List.copyOf(children);
+        this.activeProductCount = activeProductCount;
+        this.inStockProductCount = inStockProductCount;
+        this.subtreeActiveProductCount = subtreeActiveProductCount;
+        this.subtreeInStockProductCount = subtreeInStockProductCount;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+
+    public String getName() { return name; }
+
+    public String getDescription() { return description; }
+
+    public Long getParentCategoryId() { return parentCategoryId; }
+
+    public int getDepth() { return depth; }
+
+    public List<Long> getAncestorIds() { return ancestorIds; }
+
+    public List<CategoryTreeNode> getChildren() { return children; }
+
+    public Long getActiveProductCount() { return activeProductCount; }
+
+    public Long getInStockProductCount() { return inStockProductCount; }
+
+    public Long getSubtreeActiveProductCount() { return subtreeActiveProductCount; }
+
+    public Long getSubtreeInStockProductCount() { return subtreeInStockProductCount; }
+}
@@ -0,0 +1,38 @@
+// src/main/java/com/chandra/ecom_service/dto/CoalescingStatsDto.java
+package com.chandra.ecom_service.dto;
+
+public class CoalescingStatsDto {
+
+    private String group;
+
+    // Calls that actually ran the underlying lookup
+    private long executions;
+
+    // Calls that joined a lookup already in flight instead of running their own
+    private long coalesced;
+
+    private int inFlight;
+
+    // Constructors
+    public CoalescingStatsDto() {}
+
+    public CoalescingStatsDto(String group, long executions, long coalesced, int inFlight) {
+        this.group = group;
+        this.executions = executions;
+        this.coalesced = coalesced;
+        this.inFlight = inFlight;
+    }
+
+    // Getters and Setters
+    public String getGroup() { return group; }
+    public void setGroup(String group) { this.group = group; }
+
+    public long getExecutions() { return executions; }
+    public void setExecutions(long executions) { this.executions = executions; }
+
+    public long getCoalesced() { return coalesced; }
+    public void setCoalesced(long coalesced) { this.coalesced = coalesced; }
+
+    public int getInFlight() { return inFlight; }
+    public void setInFlight(int inFlight) { this.inFlight = inFlight; }
+}
@@ -0,0 +1,39 @@
+// src/main/java/com/chandra/ecom_service/dto/CursorPage.java
+package com.chandra.ecom_service.dto;
+
+import java.util.List;
+
+public class CursorPage<T> {
+
+    private List<T> items;
+
+    // Opaque token for the next page, null when this is the last page
+    private String nextCursor;
+
+    private int limit;
+
+    private boolean hasMore;
+
+    // Constructors
+    public CursorPage() {}
+
+    public CursorPage(List<T> items, String nextCursor, int limit) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.limit = limit;
+        this.hasMore = nextCursor != null;
+    }
+
+    // Getters and Setters
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public int getLimit() { return limit; }
+    public void setLimit(int limit) { this.limit = limit; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+}
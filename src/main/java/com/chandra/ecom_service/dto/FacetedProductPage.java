@@ -0,0 +1,22 @@
+// src/main/java/com/chandra/ecom_service/dto/FacetedProductPage.java
+package com.chandra.ecom_service.dto;
+
+import java.util.List;
+
+public class FacetedProductPage extends CursorPage<ProductDto> {
+
+    // Only computed for the first page; follow-up pages share the same facet counts
+    private ProductFacets facets;
+
+    // Constructors
+    public FacetedProductPage() {}
+
+    public FacetedProductPage(List<ProductDto> items, String nextCursor, int limit, ProductFacets facets) {
+        super(items, nextCursor, limit);
+        this.facets = facets;
+    }
+
+    // Getters and Setters
+    public ProductFacets getFacets() { return facets; }
+    public void setFacets(ProductFacets facets) { this.facets = facets; }
+}
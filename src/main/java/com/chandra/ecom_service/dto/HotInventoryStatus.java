@@ -0,0 +1,45 @@
+// src/main/java/com/chandra/ecom_service/dto/HotInventoryStatus.java
+package com.chandra.ecom_service.dto;
+
+public class HotInventoryStatus {
+
+    private Long productId;
+
+    // Sellable units in memory: the authoritative figure while the product is hot
+    private long available;
+
+    // products.stock_quantity, which trails memory by the unflushed changes
+    private Integer persistedStock;
+
+    private long unflushedDelta;
+
+    // persistedStock + unflushedDelta - available; non-zero only while changes are in flight
+    private long drift;
+
+    // Constructors
+    public HotInventoryStatus() {}
+
+    public HotInventoryStatus(Long productId, long available, Integer persistedStock, long unflushedDelta) {
+        this.productId = productId;
+        this.available = available;
+        this.persistedStock = persistedStock;
+        this.unflushedDelta = unflushedDelta;
+        this.drift = (persistedStock != null ? persistedStock : 0) + unflushedDelta - available;
+    }
+
+    // Getters and Setters
+    public Long getProductId() { return productId; }
+    public void setProductId(Long productId) { this.productId = productId; }
+
+    public long getAvailable() { return available; }
+    public void setAvailable(long available) { this.available = available; }
+
+    public Integer getPersistedStock() { return persistedStock; }
+    public void setPersistedStock(Integer persistedStock) { this.persistedStock = persistedStock; }
+
+    public long getUnflushedDelta() { return unflushedDelta; }
+    public void setUnflushedDelta(long unflushedDelta) { this.unflushedDelta = unflushedDelta; }
+
+    public long getDrift() { return drift; }
+    public void setDrift(long drift) { this.drift = drift; }
+}
@@ -0,0 +1,53 @@
+// src/main/java/com/chandra/ecom_service/dto/ImportReport.java
+package com.chandra.ecom_service.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImportReport {
+
+    private long rowsRead;
+
+    private long imported;
+
+    private long failed;
+
+    private int chunks;
+
+    private long elapsedMillis;
+
+    private double rowsPerSecond;
+
+    // Capped so a bad file cannot make the report itself unbounded; see errorsTruncated
+    private List<ImportRowError> errors = new ArrayList<>();
+
+    private boolean errorsTruncated;
+
+    // Constructors
+    public ImportReport() {}
+
+    // Getters and Setters
+    public long getRowsRead() { return rowsRead; }
+    public void setRowsRead(long rowsRead) { this.rowsRead = rowsRead; }
+
+    public long getImported() { return imported; }
+    public void setImported(long imported) { this.imported = imported; }
+
+    public long getFailed() { return failed; }
+    public void setFailed(long failed) { this.failed = failed; }
+
+    public int getChunks() { return chunks; }
+    public void setChunks(int chunks) { this.chunks = chunks; }
+
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+
+    public double getRowsPerSecond() { return rowsPerSecond; }
+    public void setRowsPerSecond(double rowsPerSecond) { this.rowsPerSecond = rowsPerSecond; }
+
+    public List<ImportRowError> getErrors() { return errors; }
+    public void setErrors(List<ImportRowError> errors) { this.errors = errors; }
+
+    public boolean isErrorsTruncated() { return errorsTruncated; }
+    public void setErrorsTruncated(boolean errorsTruncated) { this.errorsTruncated = errorsTruncated; }
+}
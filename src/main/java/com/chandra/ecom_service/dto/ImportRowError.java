@@ -0,0 +1,32 @@
+// src/main/java/com/chandra/ecom_service/dto/ImportRowError.java
+package com.chandra.ecom_service.dto;
+
+public class ImportRowError {
+
+    // 1-based data row number (header excluded)
+    private long row;
+
+    // SKU or category name when the row got far enough to have one
+    private String key;
+
+    private String message;
+
+    // Constructors
+    public ImportRowError() {}
+
+    public ImportRowError(long row, String key, String message) {
+        this.row = row;
+        this.key = key;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public long getRow() { return row; }
+    public void setRow(long row) { this.row = row; }
+
+    public String getKey() { return key; }
+    public void setKey(String key) { this.key = key; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
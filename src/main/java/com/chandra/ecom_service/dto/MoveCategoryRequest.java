@@ -0,0 +1,25 @@
+// src/main/java/com/chandra/ecom_service/dto/MoveCategoryRequest.java
+package com.chandra.ecom_service.dto;
+
+public class MoveCategoryRequest {
+
+    // New parent; null makes the category a root
+    private Long parentCategoryId;
+
+    // Optional version the client read; a stale one fails with 409
+    private Long version;
+
+    // Constructors
+    public MoveCategoryRequest() {}
+
+    public MoveCategoryRequest(Long parentCategoryId) {
+        this.parentCategoryId = parentCategoryId;
+    }
+
+    // Getters and Setters
+    public Long getParentCategoryId() { return parentCategoryId; }
+    public void setParentCategoryId(Long parentCategoryId) { this.parentCategoryId = parentCategoryId; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+}
@@ -0,0 +1,34 @@
+// src/main/java/com/chandra/ecom_service/dto/PriceBucketCount.java
+package com.chandra.ecom_service.dto;
+
+import java.math.BigDecimal;
+
+public class PriceBucketCount {
+
+    // Inclusive lower bound
+    private BigDecimal min;
+
+    // Exclusive upper bound, null for the open-ended top bucket
+    private BigDecimal max;
+
+    private long count;
+
+    // Constructors
+    public PriceBucketCount() {}
+
+    public PriceBucketCount(BigDecimal min, BigDecimal max, long count) {
+        this.min = min;
+        this.max = max;
+        this.count = count;
+    }
+
+    // Getters and Setters
+    public BigDecimal getMin() { return min; }
+    public void setMin(BigDecimal min) { this.min = min; }
+
+    public BigDecimal getMax() { return max; }
+    public void setMax(BigDecimal max) { this.max = max; }
+
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+}
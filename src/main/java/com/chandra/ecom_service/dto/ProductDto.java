@@ -6,6 +6,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 public class ProductDto {
 
@@ -47,6 +48,11 @@ public class ProductDto {
 
     private Boolean isFeatured;
 
+    private LocalDateTime updatedAt;
+
+    // Entity version this copy was read at; sent back on update to reject a stale edit with 409
+    private Long version;
+
     // Constructors
     public ProductDto() {}
 
@@ -56,6 +62,25 @@ public class ProductDto {
         this.sku = sku;
     }
 
+    // Summary projection for list queries; the TEXT description column is deliberately not selected
+    public ProductDto(Long id, String name, BigDecimal price, String sku, Long categoryId, String brand,
+                      Integer stockQuantity, BigDecimal weight, String dimensions, String color, String size,
+                      Boolean isActive, Boolean isFeatured) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.sku = sku;
+        this.categoryId = categoryId;
+        this.brand = brand;
+        this.stockQuantity = stockQuantity;
+        this.weight = weight;
+        this.dimensions = dimensions;
+        this.color = color;
+        this.size = size;
+        this.isActive = isActive;
+        this.isFeatured = isFeatured;
+    }
+
     // Getters and Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -98,4 +123,10 @@ public class ProductDto {
 
     public Boolean getIsFeatured() { return isFeatured; }
     public void setIsFeatured(Boolean isFeatured) { this.isFeatured = isFeatured; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+// src/main/java/com/chandra/ecom_service/dto/ProductFacets.java
+package com.chandra.ecom_service.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class ProductFacets {
+
+    private Map<String, Long> brands;
+
+    private Map<Long, Long> categories;
+
+    private List<PriceBucketCount> priceRanges;
+
+    // Constructors
+    public ProductFacets() {}
+
+    // Getters and Setters
+    public Map<String, Long> getBrands() { return brands; }
+    public void setBrands(Map<String, Long> brands) { this.brands = brands; }
+
+    public Map<Long, Long> getCategories() { return categories; }
+    public void setCategories(Map<Long, Long> categories) { this.categories = categories; }
+
+    public List<PriceBucketCount> getPriceRanges() { return priceRanges; }
+    public void setPriceRanges(List<PriceBucketCount> priceRanges) { this.priceRanges = priceRanges; }
+}
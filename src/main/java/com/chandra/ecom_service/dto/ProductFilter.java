@@ -0,0 +1,42 @@
+// src/main/java/com/chandra/ecom_service/dto/ProductFilter.java
+package com.chandra.ecom_service.dto;
+
+import java.math.BigDecimal;
+
+public class ProductFilter {
+
+    private Long categoryId;
+
+    private String brand;
+
+    private BigDecimal minPrice;
+
+    private BigDecimal maxPrice;
+
+    // true = in stock only, false = out of stock only, null = either
+    private Boolean inStock;
+
+    private Boolean featured;
+
+    // Constructors
+    public ProductFilter() {}
+
+    // Getters and Setters
+    public Long getCategoryId() { return categoryId; }
+    public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
+
+    public String getBrand() { return brand; }
+    public void setBrand(String brand) { this.brand = brand; }
+
+    public BigDecimal getMinPrice() { return minPrice; }
+    public void setMinPrice(BigDecimal minPrice) { this.minPrice = minPrice; }
+
+    public BigDecimal getMaxPrice() { return maxPrice; }
+    public void setMaxPrice(BigDecimal maxPrice) { this.maxPrice = maxPrice; }
+
+    public Boolean getInStock() { return inStock; }
+    public void setInStock(Boolean inStock) { this.inStock = inStock; }
+
+    public Boolean getFeatured() { return featured; }
+    public void setFeatured(Boolean featured) { this.featured = featured; }
+}
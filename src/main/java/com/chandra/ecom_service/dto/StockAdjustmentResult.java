@@ -0,0 +1,32 @@
+// src/main/java/com/chandra/ecom_service/dto/StockAdjustmentResult.java
+package com.chandra.ecom_service.dto;
+
+public class StockAdjustmentResult {
+
+    private Long productId;
+
+    // Signed change that was requested: negative for a decrement
+    private int delta;
+
+    // False when a decrement would have taken stock below zero; nothing was changed
+    private boolean applied;
+
+    // Constructors
+    public StockAdjustmentResult() {}
+
+    public StockAdjustmentResult(Long productId, int delta, boolean applied) {
+        this.productId = productId;
+        this.delta = delta;
+        this.applied = applied;
+    }
+
+    // Getters and Setters
+    public Long getProductId() { return productId; }
+    public void setProductId(Long productId) { this.productId = productId; }
+
+    public int getDelta() { return delta; }
+    public void setDelta(int delta) { this.delta = delta; }
+
+    public boolean isApplied() { return applied; }
+    public void setApplied(boolean applied) { this.applied = applied; }
+}
@@ -0,0 +1,54 @@
+// src/main/java/com/chandra/ecom_service/dto/StockFeedReport.java
+package com.chandra.ecom_service.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class StockFeedReport {
+
+    private int requested;
+
+    private int updated;
+
+    // Snapshots that already matched the stored quantity
+    private int unchanged;
+
+    private int chunks;
+
+    private long elapsedMillis;
+
+    private List<String> unknownSkus = new ArrayList<>();
+
+    private List<Long> unknownIds = new ArrayList<>();
+
+    // Malformed lines and lines that were refused (negative result, hot-inventory product)
+    private List<ImportRowError> errors = new ArrayList<>();
+
+    // Constructors
+    public StockFeedReport() {}
+
+    // Getters and Setters
+    public int getRequested() { return requested; }
+    public void setRequested(int requested) { this.requested = requested; }
+
+    public int getUpdated() { return updated; }
+    public void setUpdated(int updated) { this.updated = updated; }
+
+    public int getUnchanged() { return unchanged; }
+    public void setUnchanged(int unchanged) { this.unchanged = unchanged; }
+
+    public int getChunks() { return chunks; }
+    public void setChunks(int chunks) { this.chunks = chunks; }
+
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+
+    public List<String> getUnknownSkus() { return unknownSkus; }
+    public void setUnknownSkus(List<String> unknownSkus) { this.unknownSkus = unknownSkus; }
+
+    public List<Long> getUnknownIds() { return unknownIds; }
+    public void setUnknownIds(List<Long> unknownIds) { this.unknownIds = unknownIds; }
+
+    public List<ImportRowError> getErrors() { return errors; }
+    public void setErrors(List<ImportRowError> errors) { this.errors = errors; }
+}
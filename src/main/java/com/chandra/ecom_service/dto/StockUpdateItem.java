@@ -0,0 +1,46 @@
+// src/main/java/com/chandra/ecom_service/dto/StockUpdateItem.java
+package com.chandra.ecom_service.dto;
+
+// One warehouse feed line: either a snapshot (sku + quantity) or a movement (id + delta)
+public class StockUpdateItem {
+
+    private String sku;
+
+    // Absolute on-hand quantity for the SKU
+    private Integer quantity;
+
+    private Long id;
+
+    // Relative change for the product id; a result below zero is rejected
+    private Integer delta;
+
+    // Constructors
+    public StockUpdateItem() {}
+
+    public static StockUpdateItem snapshot(String sku, Integer quantity) {
+        StockUpdateItem item = new StockUpdateItem();
+        item.setSku(sku);
+        item.setQuantity(quantity);
+        return item;
+    }
+
+    public static StockUpdateItem movement(Long id, Integer delta) {
+        StockUpdateItem item = new StockUpdateItem();
+        item.setId(id);
+        item.setDelta(delta);
+        return item;
+    }
+
+    // Getters and Setters
+    public String getSku() { return sku; }
+    public void setSku(String sku) { this.sku = sku; }
+
+    public Integer getQuantity() { return quantity; }
+    public void setQuantity(Integer quantity) { this.quantity = quantity; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Integer getDelta() { return delta; }
+    public void setDelta(Integer delta) { this.delta = delta; }
+}
@@ -0,0 +1,31 @@
+// src/main/java/com/chandra/ecom_service/dto/SubtreeDeactivateResult.java
+package com.chandra.ecom_service.dto;
+
+public class SubtreeDeactivateResult {
+
+    // Categories and products switched from active to inactive; ones already inactive are not counted
+    private int categoriesDeactivated;
+
+    private int productsDeactivated;
+
+    private long elapsedMillis;
+
+    // Constructors
+    public SubtreeDeactivateResult() {}
+
+    public SubtreeDeactivateResult(int categoriesDeactivated, int productsDeactivated, long elapsedMillis) {
+        this.categoriesDeactivated = categoriesDeactivated;
+        this.productsDeactivated = productsDeactivated;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    // Getters and Setters
+    public int getCategoriesDeactivated() { return categoriesDeactivated; }
+    public void setCategoriesDeactivated(int categoriesDeactivated) { this.categoriesDeactivated = categoriesDeactivated; }
+
+    public int getProductsDeactivated() { return productsDeactivated; }
+    public void setProductsDeactivated(int productsDeactivated) { this.productsDeactivated = productsDeactivated; }
+
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+}
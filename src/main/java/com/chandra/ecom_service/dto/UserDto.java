@@ -5,6 +5,8 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+import java.time.LocalDateTime;
+
 public class UserDto {
 
     private Long id;
@@ -24,6 +26,11 @@ public class UserDto {
     @Size(max = 15)
     private String phoneNumber;
 
+    private LocalDateTime updatedAt;
+
+    // Entity version this copy was read at; sent back on update to reject a stale edit with 409
+    private Long version;
+
     // Constructors
     public UserDto() {}
 
@@ -48,4 +55,10 @@ public class UserDto {
 
     public String getPhoneNumber() { return phoneNumber; }
     public void setPhoneNumber(String phoneNumber) { this.phoneNumber = phoneNumber; }
-}
\ No newline at end of file
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+}
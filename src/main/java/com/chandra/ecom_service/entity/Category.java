@@ -4,15 +4,18 @@ package com.chandra.ecom_service.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
 @Table(name = "categories")
 public class Category {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence("categories_seq")
     private Long id;
 
     @NotBlank(message = "Category name is required")
@@ -35,6 +38,11 @@ public class Category {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Optimistic lock: bumped on every update, a stale copy fails to flush instead of overwriting
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // Constructors
     public Category() {}
 
@@ -44,15 +52,16 @@ public class Category {
     }
 
     // Lifecycle callbacks
+    // Truncated to the column precision so the in-memory value matches what is read back (Last-Modified)
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        updatedAt = createdAt;
     }
 
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 
     // Getters and Setters
@@ -76,4 +85,7 @@ public class Category {
 
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+// src/main/java/com/chandra/ecom_service/entity/CategoryClosure.java
+package com.chandra.ecom_service.entity;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.util.Objects;
+
+// One row per (ancestor, descendant) pair of the category hierarchy, including each category with itself at depth 0
+@Entity
+@IdClass(CategoryClosure.Key.class)
+@Table(name = "category_closure", indexes = {
+        @Index(name = "idx_category_closure_descendant", columnList = "descendant_id, ancestor_id")
+})
+public class CategoryClosure {
+
+    @Id
+    @Column(name = "ancestor_id")
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id")
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private Integer depth;
+
+    // Constructors
+    public CategoryClosure() {}
+
+    public CategoryClosure(Long ancestorId, Long descendantId, Integer depth) {
+        this.ancestorId = ancestorId;
+        this.descendantId = descendantId;
+        this.depth = depth;
+    }
+
+    // Getters and Setters
+    public Long getAncestorId() { return ancestorId; }
+    public void setAncestorId(Long ancestorId) { this.ancestorId = ancestorId; }
+
+    public Long getDescendantId() { return descendantId; }
+    public void setDescendantId(Long descendantId) { this.descendantId = descendantId; }
+
+    public Integer getDepth() { return depth; }
+    public void setDepth(Integer depth) { this.depth = depth; }
+
+    public static class Key implements Serializable {
+
+        private Long ancestorId;
+
+        private Long descendantId;
+
+        public Key() {}
+
+        public Key(Long ancestorId, Long descendantId) {
+            this.ancestorId = ancestorId;
+            this.descendantId = descendantId;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key
+                    && Objects.equals(ancestorId, key.ancestorId)
+                    && Objects.equals(descendantId, key.descendantId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(ancestorId, descendantId);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+// src/main/java/com/chandra/ecom_service/entity/InventoryCheckpoint.java
+package com.chandra.ecom_service.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Last hot-inventory journal record applied to products, written in the same transaction as the stock deltas
+@Entity
+@Table(name = "inventory_checkpoints")
+public class InventoryCheckpoint {
+
+    @Id
+    @Column(name = "node_id", length = 100)
+    private String nodeId;
+
+    @Column(name = "last_seq", nullable = false)
+    private Long lastSeq = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public InventoryCheckpoint() {}
+
+    public InventoryCheckpoint(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    // Getters and Setters
+    public String getNodeId() { return nodeId; }
+    public void setNodeId(String nodeId) { this.nodeId = nodeId; }
+
+    public Long getLastSeq() { return lastSeq; }
+    public void setLastSeq(Long lastSeq) { this.lastSeq = lastSeq; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,30 @@
+// src/main/java/com/chandra/ecom_service/entity/OutboxCommitSequence.java
+package com.chandra.ecom_service.entity;
+
+import org.hibernate.boot.ResourceStreamLocator;
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.relational.Sequence;
+import org.hibernate.boot.spi.AdditionalMappingContributions;
+import org.hibernate.boot.spi.AdditionalMappingContributor;
+import org.hibernate.boot.spi.InFlightMetadataCollector;
+import org.hibernate.boot.spi.MetadataBuildingContext;
+
+/**
+ * Adds the outbox commit sequence to the mapped schema, so it is created, dropped and validated
+ * with the tables. It is read directly rather than through an id generator, so it must not be
+ * pooled: every value is one committing transaction. Registered through META-INF/services.
+ */
+public class OutboxCommitSequence implements AdditionalMappingContributor {
+
+    @Override
+    public String getContributorName() {
+        return "ecom-outbox";
+    }
+
+    @Override
+    public void contribute(AdditionalMappingContributions contributions, InFlightMetadataCollector metadata,
+                           ResourceStreamLocator resourceStreamLocator, MetadataBuildingContext buildingContext) {
+        contributions.contributeSequence(new Sequence(getContributorName(), null, null,
+                Identifier.toIdentifier(OutboxEvent.COMMIT_SEQUENCE), 1, 1));
+    }
+}
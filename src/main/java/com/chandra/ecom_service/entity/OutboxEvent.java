@@ -0,0 +1,81 @@
+// src/main/java/com/chandra/ecom_service/entity/OutboxEvent.java
+package com.chandra.ecom_service.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// A change waiting to be relayed; written in the same transaction as the change itself and deleted once delivered
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_commit_seq_id", columnList = "commit_seq, id")
+})
+public class OutboxEvent {
+
+    // Not an id generator, so it is added to the schema by OutboxCommitSequence
+    public static final String COMMIT_SEQUENCE = "outbox_commit_seq";
+
+    @Id
+    @PooledSequence("outbox_events_seq")
+    private Long id;
+
+    // Taken just before the writing transaction commits, once per transaction; the relay order
+    @Column(name = "commit_seq", nullable = false)
+    private Long commitSeq;
+
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    // Entity version after the change; lets consumers order events per aggregate and drop stale or repeated ones
+    @Column(name = "aggregate_version")
+    private Long aggregateVersion;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public OutboxEvent() {}
+
+    public OutboxEvent(String aggregateType, Long aggregateId, Long aggregateVersion, String eventType,
+                       String payload, LocalDateTime createdAt) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.aggregateVersion = aggregateVersion;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getCommitSeq() { return commitSeq; }
+    public void setCommitSeq(Long commitSeq) { this.commitSeq = commitSeq; }
+
+    public String getAggregateType() { return aggregateType; }
+    public void setAggregateType(String aggregateType) { this.aggregateType = aggregateType; }
+
+    public Long getAggregateId() { return aggregateId; }
+    public void setAggregateId(Long aggregateId) { this.aggregateId = aggregateId; }
+
+    public Long getAggregateVersion() { return aggregateVersion; }
+    public void setAggregateVersion(Long aggregateVersion) { this.aggregateVersion = aggregateVersion; }
+
+    public String getEventType() { return eventType; }
+    public void setEventType(String eventType) { this.eventType = eventType; }
+
+    public String getPayload() { return payload; }
+    public void setPayload(String payload) { this.payload = payload; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,24 @@
+// src/main/java/com/chandra/ecom_service/entity/PooledSequence.java
+package com.chandra.ecom_service.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Sequence-generated id handed out in blocks by Hibernate's pooled optimizer, so inserts
+ * need no round trip per row and can be JDBC-batched (IDENTITY disables both). The block
+ * size comes from the {@value PooledSequenceGenerator#ALLOCATION_SIZE_SETTING} setting.
+ */
+@IdGeneratorType(PooledSequenceGenerator.class)
+@Retention(RUNTIME)
+@Target(FIELD)
+public @interface PooledSequence {
+
+    // Database sequence name
+    String value();
+}
@@ -0,0 +1,48 @@
+// src/main/java/com/chandra/ecom_service/entity/PooledSequenceGenerator.java
+package com.chandra.ecom_service.entity;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.generator.AnnotationBasedGenerator;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.lang.reflect.Member;
+import java.util.Properties;
+
+/**
+ * SequenceStyleGenerator whose increment (and therefore the database sequence's INCREMENT BY)
+ * is read from configuration instead of being fixed in the mapping. Hibernate validates the
+ * sequence increment at startup, so changing the setting on an existing schema also needs an
+ * ALTER SEQUENCE.
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator implements AnnotationBasedGenerator<PooledSequence> {
+
+    public static final String ALLOCATION_SIZE_SETTING = "ecom.id.allocation_size";
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    private String sequenceName;
+
+    // Instantiated through the Spring bean container, so the mapping arrives via initialize()
+    @Override
+    public void initialize(PooledSequence annotation, Member member, GeneratorCreationContext context) {
+        this.sequenceName = annotation.value();
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        int allocationSize = serviceRegistry.requireService(ConfigurationService.class)
+                .getSetting(ALLOCATION_SIZE_SETTING, StandardConverters.INTEGER, DEFAULT_ALLOCATION_SIZE);
+        if (allocationSize < 1) {
+            throw new MappingException(ALLOCATION_SIZE_SETTING + " must be at least 1");
+        }
+        parameters.setProperty(SEQUENCE_PARAM, sequenceName);
+        parameters.setProperty(INCREMENT_PARAM, Integer.toString(allocationSize));
+        parameters.setProperty(INITIAL_PARAM, "1");
+        parameters.setProperty(OPT_PARAM, allocationSize > 1 ? "pooled" : "none");
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
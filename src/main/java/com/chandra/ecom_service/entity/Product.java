@@ -6,15 +6,25 @@ import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.DynamicUpdate;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "products")
+// UPDATEs carry only the dirty columns, so flipping a flag does not rewrite description or untouched index keys
+@DynamicUpdate
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_active_id", columnList = "is_active, id"),
+        @Index(name = "idx_products_category_active_id", columnList = "category_id, is_active, id"),
+        @Index(name = "idx_products_brand_active_id", columnList = "brand, is_active, id"),
+        @Index(name = "idx_products_featured_active_id", columnList = "is_featured, is_active, id"),
+        @Index(name = "idx_products_active_price_id", columnList = "is_active, price, id")
+})
 public class Product {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence("products_seq")
     private Long id;
 
     @NotBlank(message = "Product name is required")
@@ -68,6 +78,11 @@ public class Product {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Optimistic lock: bumped on every update, a stale copy fails to flush instead of overwriting
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // Constructors
     public Product() {}
 
@@ -78,15 +93,16 @@ public class Product {
     }
 
     // Lifecycle callbacks
+    // Truncated to the column precision so the in-memory value matches what is read back (Last-Modified)
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        updatedAt = createdAt;
     }
 
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 
     // Getters and Setters
@@ -137,4 +153,7 @@ public class Product {
 
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
\ No newline at end of file
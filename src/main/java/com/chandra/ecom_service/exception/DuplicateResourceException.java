@@ -0,0 +1,10 @@
+// src/main/java/com/chandra/ecom_service/exception/DuplicateResourceException.java
+package com.chandra.ecom_service.exception;
+
+// A create hit a unique constraint: the sku, name or email is already taken
+public class DuplicateResourceException extends RuntimeException {
+
+    public DuplicateResourceException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,10 @@
+// src/main/java/com/chandra/ecom_service/exception/PreconditionFailedException.java
+package com.chandra.ecom_service.exception;
+
+// An If-Match precondition did not hold: the client edited a representation that is no longer current
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
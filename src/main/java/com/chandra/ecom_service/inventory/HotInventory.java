@@ -0,0 +1,337 @@
+// src/main/java/com/chandra/ecom_service/inventory/HotInventory.java
+package com.chandra.ecom_service.inventory;
+
+import com.chandra.ecom_service.cache.ProductCache;
+import com.chandra.ecom_service.cache.RequestCoalescer;
+import com.chandra.ecom_service.cache.ResourceVersions;
+import com.chandra.ecom_service.dto.HotInventoryStatus;
+import com.chandra.ecom_service.entity.InventoryCheckpoint;
+import com.chandra.ecom_service.outbox.Outbox;
+import com.chandra.ecom_service.repository.InventoryCheckpointRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Optional flash-sale mode for a handful of designated products. Their stock lives in
+ * {@link StripedStock} counters and sales are decided in memory, so buyers never queue on the
+ * product row. Every accepted change is journaled (fsync, group-committed) before it is
+ * acknowledged; a background flusher sums the journaled deltas per product and applies them to
+ * products.stock_quantity in one batch, together with the journal checkpoint. After a crash the
+ * records past the checkpoint are replayed, so no acknowledged sale is lost or applied twice.
+ *
+ * A product must be hot on one instance only, and should be made hot before its sale opens:
+ * the counter is seeded from the row, and other instances would seed their own copy.
+ */
+@Component
+public class HotInventory {
+
+    private static final Logger log = LoggerFactory.getLogger(HotInventory.class);
+
+    private static final String APPLY_DELTA = "UPDATE products SET stock_quantity = stock_quantity + :delta, "
+            + "version = version + 1, updated_at = :updatedAt WHERE id = :id";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private InventoryCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private Outbox outbox;
+
+    @Value("${app.inventory.hot.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.inventory.hot.node-id:default}")
+    private String nodeId;
+
+    @Value("${app.inventory.hot.journal-dir:data/inventory}")
+    private Path journalDir;
+
+    @Value("${app.inventory.hot.fsync:true}")
+    private boolean fsync;
+
+    @Value("${app.inventory.hot.stripes:0}")
+    private int stripes;
+
+    @Value("${app.inventory.hot.flush-interval:200ms}")
+    private Duration flushInterval;
+
+    @Value("${app.inventory.hot.reconcile-interval:1m}")
+    private Duration reconcileInterval;
+
+    @Value("${app.inventory.hot.journal-compact-bytes:67108864}")
+    private long journalCompactBytes;
+
+    @Value("${app.inventory.hot.product-ids:}")
+    private List<Long> configuredProductIds;
+
+    private final Map<Long, StripedStock> hot = new ConcurrentHashMap<>();
+    private final Map<Long, Long> lastDrift = new HashMap<>();
+
+    // Drained but not yet committed; only touched under the flush lock
+    private final List<JournalRecord> pending = new ArrayList<>();
+
+    private InventoryJournal journal;
+    private ScheduledExecutorService background;
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        journal = new InventoryJournal(journalDir.resolve(nodeId + ".journal"), fsync);
+        recover();
+        for (Long productId : configuredProductIds) {
+            activate(productId);
+        }
+        background = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hot-inventory-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        background.scheduleWithFixedDelay(this::flushQuietly,
+                flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        background.scheduleWithFixedDelay(this::checkDrift,
+                reconcileInterval.toMillis(), reconcileInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (journal == null) {
+            return;
+        }
+        background.shutdown();
+        flushQuietly();
+        journal.close();
+    }
+
+    public boolean isHot(Long productId) {
+        return productId != null && hot.containsKey(productId);
+    }
+
+    public List<Long> hotProductIds() {
+        return new ArrayList<>(hot.keySet());
+    }
+
+    public void activate(Long productId) {
+        if (!enabled) {
+            throw new IllegalArgumentException("Hot inventory mode is disabled");
+        }
+        flush();
+        if (!pending.isEmpty()) {
+            throw new IllegalStateException("Hot inventory has unapplied changes; cannot seed product " + productId);
+        }
+        Integer stock = persistedStock(productId);
+        if (stock == null) {
+            throw new RuntimeException("Product not found with id: " + productId);
+        }
+        hot.computeIfAbsent(productId, id -> new StripedStock(stripeCount(), Math.max(0, stock)));
+    }
+
+    // Back to row-level stock; everything sold in memory is applied first
+    public void deactivate(Long productId) {
+        if (hot.remove(productId) != null) {
+            flush();
+        }
+    }
+
+    public boolean tryDecrement(Long productId, int quantity) {
+        StripedStock stock = requireHot(productId);
+        if (!stock.tryTake(quantity)) {
+            return false;
+        }
+        // The units stay taken even if the journal write fails: under-selling is the safe side
+        record(productId, -quantity);
+        return true;
+    }
+
+    public void increment(Long productId, int quantity) {
+        StripedStock stock = requireHot(productId);
+        // Sellable only once the restock is durable
+        record(productId, quantity);
+        stock.add(quantity);
+    }
+
+    public synchronized void flush() {
+        if (journal == null) {
+            return;
+        }
+        pending.addAll(journal.drain());
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        long maxSeq = 0;
+        for (JournalRecord record : pending) {
+            deltas.merge(record.productId(), (long) record.delta(), Long::sum);
+            maxSeq = Math.max(maxSeq, record.seq());
+        }
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        SqlParameterSource[] batch = deltas.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("id", entry.getKey())
+                        .addValue("delta", entry.getValue())
+                        .addValue("updatedAt", now))
+                .toArray(SqlParameterSource[]::new);
+        long appliedSeq = maxSeq;
+        Map<Long, Long> versions = new HashMap<>();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            if (batch.length > 0) {
+                jdbcTemplate.batchUpdate(APPLY_DELTA, batch);
+                // Read back under the UPDATEs' row locks, so each version is the one this flush committed
+                jdbcTemplate.query("SELECT id, version FROM products WHERE id IN (:ids)",
+                        Map.of("ids", deltas.entrySet().stream().filter(entry -> entry.getValue() != 0).map(Map.Entry::getKey).toList()),
+                        rs -> {
+                            versions.put(rs.getLong("id"), rs.getLong("version"));
+                        });
+            }
+            // One event per product per flush, not per sale
+            deltas.forEach((productId, delta) -> {
+                if (delta != 0) {
+                    outbox.stockAdjusted(productId, versions.get(productId), delta);
+                }
+            });
+            InventoryCheckpoint checkpoint = checkpointRepository.findById(nodeId)
+                    .orElseGet(() -> new InventoryCheckpoint(nodeId));
+            checkpoint.setLastSeq(appliedSeq);
+            checkpoint.setUpdatedAt(now);
+            checkpointRepository.save(checkpoint);
+        });
+        pending.clear();
+
+        for (Long productId : deltas.keySet()) {
+            productCache.invalidate(productId);
+            requestCoalescer.forget(RequestCoalescer.PRODUCT_BY_ID, productId);
+        }
+        versions.forEach((productId, version) -> resourceVersions.recordProduct(productId, version, now));
+        requestCoalescer.forget(RequestCoalescer.FEATURED_PRODUCTS, RequestCoalescer.FEATURED_PRODUCTS);
+        try {
+            journal.compactIfApplied(appliedSeq, journalCompactBytes);
+        } catch (IOException e) {
+            log.warn("Could not compact hot inventory journal", e);
+        }
+    }
+
+    /**
+     * Compares memory with the row plus what is still waiting to be flushed. Drift is expected
+     * for a moment while a sale sits between the counter and the journal; a value that persists
+     * means the row was changed behind the engine's back (or a change was lost).
+     */
+    public synchronized List<HotInventoryStatus> reconcile() {
+        List<HotInventoryStatus> statuses = new ArrayList<>();
+        for (Map.Entry<Long, StripedStock> entry : hot.entrySet()) {
+            Long productId = entry.getKey();
+            long unflushed = journal.unflushedDelta(productId);
+            for (JournalRecord record : pending) {
+                if (record.productId() == productId) {
+                    unflushed += record.delta();
+                }
+            }
+            statuses.add(new HotInventoryStatus(productId, entry.getValue().available(), persistedStock(productId), unflushed));
+        }
+        return statuses;
+    }
+
+    private void recover() {
+        long applied = checkpointRepository.findById(nodeId).map(InventoryCheckpoint::getLastSeq).orElse(0L);
+        journal.continueAfter(applied);
+        for (JournalRecord record : journal.recoveredRecords()) {
+            if (record.seq() > applied) {
+                pending.add(record);
+            }
+        }
+        if (!pending.isEmpty()) {
+            log.info("Replaying {} hot inventory changes after checkpoint {}", pending.size(), applied);
+            flush();
+        }
+    }
+
+    private void record(Long productId, int delta) {
+        try {
+            journal.awaitDurable(journal.append(productId, delta));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Hot inventory journal write failed", e);
+        }
+    }
+
+    private StripedStock requireHot(Long productId) {
+        StripedStock stock = hot.get(productId);
+        if (stock == null) {
+            throw new IllegalArgumentException("Product " + productId + " is not in hot inventory mode");
+        }
+        return stock;
+    }
+
+    private Integer persistedStock(Long productId) {
+        List<Integer> rows = jdbcTemplate.queryForList("SELECT stock_quantity FROM products WHERE id = :id",
+                Map.of("id", productId), Integer.class);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private int stripeCount() {
+        return stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Hot inventory flush failed; {} changes will be retried", pending.size(), e);
+        }
+    }
+
+    private synchronized void checkDrift() {
+        try {
+            for (HotInventoryStatus status : reconcile()) {
+                Long previous = lastDrift.put(status.getProductId(), status.getDrift());
+                if (status.getDrift() != 0 && previous != null && previous == status.getDrift()) {
+                    log.warn("Hot inventory drift of {} for product {}: memory {}, stored {}, unflushed {}",
+                            status.getDrift(), status.getProductId(), status.getAvailable(),
+                            status.getPersistedStock(), status.getUnflushedDelta());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Hot inventory reconciliation failed", e);
+        }
+    }
+}
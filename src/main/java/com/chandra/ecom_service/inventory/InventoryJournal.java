@@ -0,0 +1,168 @@
+// src/main/java/com/chandra/ecom_service/inventory/InventoryJournal.java
+package com.chandra.ecom_service.inventory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only write-ahead log of hot-inventory stock changes. A change is acknowledged only
+ * once its record is on disk; concurrent callers share one fsync (group commit), so the disk
+ * flush rate stays flat as buyers pile up. Records also wait in memory until the flusher has
+ * applied them to the database. On restart, records past the database checkpoint are replayed.
+ *
+ * Each record is fixed-size with a CRC, so a write torn by a crash is detected and cut off.
+ */
+public class InventoryJournal implements Closeable {
+
+    static final int RECORD_BYTES = 24; // seq(8) productId(8) delta(4) crc(4)
+
+    private final FileChannel channel;
+    private final boolean fsync;
+    private final Object appendLock = new Object();
+    private final Object forceLock = new Object();
+    private final ConcurrentLinkedQueue<JournalRecord> unflushed = new ConcurrentLinkedQueue<>();
+    private final List<JournalRecord> recovered;
+
+    private long lastSeq; // guarded by appendLock
+    private volatile long durableSeq;
+
+    public InventoryJournal(Path file, boolean fsync) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.fsync = fsync;
+        this.recovered = readValidPrefix();
+        this.lastSeq = recovered.isEmpty() ? 0 : recovered.get(recovered.size() - 1).seq();
+        this.durableSeq = lastSeq;
+    }
+
+    // Records that survived the last run, in append order; the caller skips those already applied
+    public List<JournalRecord> recoveredRecords() {
+        return recovered;
+    }
+
+    // New records must sort after everything the database has applied, even if the file was compacted
+    public void continueAfter(long appliedSeq) {
+        synchronized (appendLock) {
+            lastSeq = Math.max(lastSeq, appliedSeq);
+            durableSeq = Math.max(durableSeq, lastSeq);
+        }
+    }
+
+    public long append(long productId, int delta) throws IOException {
+        synchronized (appendLock) {
+            long seq = lastSeq + 1;
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES);
+            buffer.putLong(seq).putLong(productId).putInt(delta);
+            buffer.putInt(checksum(buffer.array()));
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            lastSeq = seq;
+            unflushed.add(new JournalRecord(seq, productId, delta));
+            return seq;
+        }
+    }
+
+    // Whoever gets the lock forces everything written so far; later waiters usually find their record covered
+    public void awaitDurable(long seq) throws IOException {
+        if (!fsync || durableSeq >= seq) {
+            return;
+        }
+        synchronized (forceLock) {
+            if (durableSeq >= seq) {
+                return;
+            }
+            long target;
+            synchronized (appendLock) {
+                target = lastSeq;
+            }
+            channel.force(false);
+            durableSeq = target;
+        }
+    }
+
+    // Hands over every record appended so far, in seq order
+    public List<JournalRecord> drain() {
+        List<JournalRecord> records = new ArrayList<>();
+        JournalRecord record;
+        while ((record = unflushed.poll()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+
+    public long unflushedDelta(long productId) {
+        long delta = 0;
+        for (JournalRecord record : unflushed) {
+            if (record.productId() == productId) {
+                delta += record.delta();
+            }
+        }
+        return delta;
+    }
+
+    // Starts the file over once every record in it is reflected in the database
+    public void compactIfApplied(long appliedSeq, long maxBytes) throws IOException {
+        synchronized (appendLock) {
+            if (lastSeq == appliedSeq && unflushed.isEmpty() && channel.size() > maxBytes) {
+                channel.truncate(0);
+                channel.position(0);
+                channel.force(true);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (appendLock) {
+            if (fsync) {
+                channel.force(false);
+            }
+            channel.close();
+        }
+    }
+
+    private List<JournalRecord> readValidPrefix() throws IOException {
+        List<JournalRecord> records = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES);
+        long position = 0;
+        while (true) {
+            buffer.clear();
+            while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) >= 0) {
+                // positional reads may return short; loop until the record is complete or the file ends
+            }
+            if (buffer.hasRemaining()) {
+                break;
+            }
+            buffer.flip();
+            long seq = buffer.getLong();
+            long productId = buffer.getLong();
+            int delta = buffer.getInt();
+            if (buffer.getInt() != checksum(buffer.array())) {
+                break;
+            }
+            records.add(new JournalRecord(seq, productId, delta));
+            position += RECORD_BYTES;
+        }
+        // Drop a torn tail so new records append right after the last good one
+        channel.truncate(position);
+        channel.position(position);
+        return records;
+    }
+
+    private static int checksum(byte[] record) {
+        CRC32 crc = new CRC32();
+        crc.update(record, 0, RECORD_BYTES - 4);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,6 @@
+// src/main/java/com/chandra/ecom_service/inventory/JournalRecord.java
+package com.chandra.ecom_service.inventory;
+
+// One acknowledged stock change: negative delta for a sale, positive for a restock
+public record JournalRecord(long seq, long productId, int delta) {
+}
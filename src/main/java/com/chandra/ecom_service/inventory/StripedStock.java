@@ -0,0 +1,97 @@
+// src/main/java/com/chandra/ecom_service/inventory/StripedStock.java
+package com.chandra.ecom_service.inventory;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Stock of one product split across independent CAS cells, so buyers on different threads
+ * rarely touch the same cache line. A taker starts on its own stripe and moves on when that
+ * one runs dry; only when no single stripe holds enough does it gather units from several.
+ * The sum of all stripes is the available stock and can never go below zero.
+ */
+public final class StripedStock {
+
+    // Cells sit 128 bytes apart so neighbouring stripes never share a cache line
+    private static final int PADDING = 16;
+
+    private final AtomicLongArray cells;
+    private final int stripes;
+
+    public StripedStock(int stripes, long initial) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("Stripe count must be at least 1");
+        }
+        if (initial < 0) {
+            throw new IllegalArgumentException("Initial stock cannot be negative");
+        }
+        this.stripes = stripes;
+        this.cells = new AtomicLongArray(stripes * PADDING);
+        for (int i = 0; i < stripes; i++) {
+            cells.set(i * PADDING, initial / stripes + (i < initial % stripes ? 1 : 0));
+        }
+    }
+
+    public boolean tryTake(int quantity) {
+        int home = home();
+        for (int i = 0; i < stripes; i++) {
+            int cell = ((home + i) % stripes) * PADDING;
+            long current;
+            while ((current = cells.get(cell)) >= quantity) {
+                if (cells.compareAndSet(cell, current, current - quantity)) {
+                    return true;
+                }
+            }
+        }
+        return gather(quantity, home);
+    }
+
+    public void add(int quantity) {
+        cells.addAndGet(home() * PADDING, quantity);
+    }
+
+    // Weakly consistent under concurrent updates; exact once traffic stops
+    public long available() {
+        long total = 0;
+        for (int i = 0; i < stripes; i++) {
+            total += cells.get(i * PADDING);
+        }
+        return total;
+    }
+
+    // Units are spread thinner than the request: take what each stripe has, give it all back if short
+    private boolean gather(int quantity, int home) {
+        long[] taken = new long[stripes];
+        long remaining = quantity;
+        for (int i = 0; i < stripes && remaining > 0; i++) {
+            int stripe = (home + i) % stripes;
+            int cell = stripe * PADDING;
+            long current;
+            while ((current = cells.get(cell)) > 0) {
+                long take = Math.min(current, remaining);
+                if (cells.compareAndSet(cell, current, current - take)) {
+                    taken[stripe] = take;
+                    remaining -= take;
+                    break;
+                }
+            }
+        }
+        if (remaining == 0) {
+            return true;
+        }
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            if (taken[stripe] > 0) {
+                cells.addAndGet(stripe * PADDING, taken[stripe]);
+            }
+        }
+        return false;
+    }
+
+    private int home() {
+        // Murmur3 finaliser spreads sequential thread ids over the stripes
+        long h = Thread.currentThread().getId();
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) Math.floorMod(h, (long) stripes);
+    }
+}
@@ -0,0 +1,20 @@
+// src/main/java/com/chandra/ecom_service/outbox/ChangeEvent.java
+package com.chandra.ecom_service.outbox;
+
+import com.chandra.ecom_service.entity.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * What sinks receive. Delivery is at-least-once, so the same id may arrive again after a relay
+ * failure; consumers should skip ids (or aggregate versions) they have already applied.
+ */
+public record ChangeEvent(Long id, String aggregateType, Long aggregateId, Long aggregateVersion,
+                          ChangeType type, String payload, LocalDateTime occurredAt) {
+
+    static ChangeEvent of(OutboxEvent event) {
+        return new ChangeEvent(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getAggregateVersion(), ChangeType.valueOf(event.getEventType()), event.getPayload(),
+                event.getCreatedAt());
+    }
+}
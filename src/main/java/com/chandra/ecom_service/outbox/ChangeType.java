@@ -0,0 +1,10 @@
+// src/main/java/com/chandra/ecom_service/outbox/ChangeType.java
+package com.chandra.ecom_service.outbox;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    // Payload is {"stockQuantity": n} for an absolute value or {"delta": n} for a relative change
+    STOCK_CHANGED,
+    DELETED
+}
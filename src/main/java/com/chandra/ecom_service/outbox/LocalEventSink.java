@@ -0,0 +1,33 @@
+// src/main/java/com/chandra/ecom_service/outbox/LocalEventSink.java
+package com.chandra.ecom_service.outbox;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// In-JVM sink: hands relayed events to listeners in this process (tests, local caches)
+@Component
+public class LocalEventSink implements OutboxSink {
+
+    private final List<Consumer<ChangeEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    public void subscribe(Consumer<ChangeEvent> listener) {
+        listeners.add(listener);
+    }
+
+    public void unsubscribe(Consumer<ChangeEvent> listener) {
+        listeners.remove(listener);
+    }
+
+    // A listener that throws fails the whole batch, which is then redelivered
+    @Override
+    public void deliver(List<ChangeEvent> events) {
+        for (ChangeEvent event : events) {
+            for (Consumer<ChangeEvent> listener : listeners) {
+                listener.accept(event);
+            }
+        }
+    }
+}
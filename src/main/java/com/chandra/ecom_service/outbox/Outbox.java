@@ -0,0 +1,130 @@
+// src/main/java/com/chandra/ecom_service/outbox/Outbox.java
+package com.chandra.ecom_service.outbox;
+
+import com.chandra.ecom_service.entity.Category;
+import com.chandra.ecom_service.entity.OutboxEvent;
+import com.chandra.ecom_service.entity.Product;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes change events into the outbox table. Every method requires the caller's transaction, so
+ * an event exists exactly when the change it describes was committed; {@link OutboxRelay} takes
+ * them from there. Entity payloads are the row as JSON, taken after the change was flushed.
+ * <p>
+ * Events are held until the transaction is about to commit. The pending changes are flushed
+ * first, so the transaction holds the row locks of everything it wrote, then one commit sequence
+ * number is taken for all of its events. Another writer of the same row cannot commit until this
+ * one has, so per aggregate the commit sequence follows commit order, which pooled ids do not.
+ */
+@Component
+@Transactional(propagation = Propagation.MANDATORY)
+public class Outbox {
+
+    public static final String PRODUCT = "product";
+    public static final String CATEGORY = "category";
+
+    private static final String PENDING_EVENTS = Outbox.class.getName() + ".pendingEvents";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+    public void productChanged(Product product, ChangeType type) {
+        record(PRODUCT, product.getId(), product.getVersion(), type, product);
+    }
+
+    public void categoryChanged(Category category, ChangeType type) {
+        record(CATEGORY, category.getId(), category.getVersion(), type, category);
+    }
+
+    // The version arguments are the row's version after the write, read back in the same transaction
+    public void stockSet(Long productId, Long version, int quantity) {
+        record(PRODUCT, productId, version, ChangeType.STOCK_CHANGED, Map.of("stockQuantity", quantity));
+    }
+
+    public void stockAdjusted(Long productId, Long version, long delta) {
+        record(PRODUCT, productId, version, ChangeType.STOCK_CHANGED, Map.of("delta", delta));
+    }
+
+    // Soft deletes: the row stays, consumers drop it
+    public void deleted(String aggregateType, Long aggregateId, Long version) {
+        record(aggregateType, aggregateId, version, ChangeType.DELETED, null);
+    }
+
+    public void record(String aggregateType, Long aggregateId, Long aggregateVersion, ChangeType type, Object payload) {
+        String json;
+        try {
+            json = payload != null ? objectMapper.writeValueAsString(payload) : null;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + aggregateType + " " + aggregateId + " change", e);
+        }
+        pendingEvents().add(new OutboxEvent(aggregateType, aggregateId, aggregateVersion, type.name(), json,
+                LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<OutboxEvent> pendingEvents() {
+        List<OutboxEvent> pending = (List<OutboxEvent>) TransactionSynchronizationManager.getResource(PENDING_EVENTS);
+        if (pending != null) {
+            return pending;
+        }
+        List<OutboxEvent> events = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(PENDING_EVENTS, events);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResource(PENDING_EVENTS);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(PENDING_EVENTS, events);
+            }
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                write(events);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_EVENTS);
+            }
+        });
+        return events;
+    }
+
+    private void write(List<OutboxEvent> events) {
+        entityManager.flush();
+        long commitSeq = nextCommitSeq();
+        for (OutboxEvent event : events) {
+            event.setCommitSeq(commitSeq);
+            entityManager.persist(event);
+        }
+    }
+
+    private long nextCommitSeq() {
+        Dialect dialect = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect();
+        String sql = dialect.getSequenceSupport().getSequenceNextValString(OutboxEvent.COMMIT_SEQUENCE);
+        return ((Number) entityManager.createNativeQuery(sql).getSingleResult()).longValue();
+    }
+}
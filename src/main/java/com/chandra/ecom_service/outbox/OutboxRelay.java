@@ -0,0 +1,108 @@
+// src/main/java/com/chandra/ecom_service/outbox/OutboxRelay.java
+package com.chandra.ecom_service.outbox;
+
+import com.chandra.ecom_service.entity.OutboxEvent;
+import com.chandra.ecom_service.repository.OutboxEventRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains the outbox in commit sequence order (see {@link Outbox}). Each batch is locked, handed to
+ * every {@link OutboxSink} and deleted in one transaction: if a sink fails the batch stays and is
+ * retried on the next run, so nothing is lost and nothing overtakes it (at-least-once, in order).
+ * The order is commit order per aggregate; unrelated transactions may commit in a different order
+ * than they took their numbers, and the aggregate version stays authoritative for consumers.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private List<OutboxSink> sinks;
+
+    @Value("${app.outbox.relay.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.outbox.relay.interval:200ms}")
+    private Duration interval;
+
+    private ScheduledExecutorService background;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        background = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        background.scheduleWithFixedDelay(this::drainQuietly, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (background != null) {
+            background.shutdown();
+        }
+    }
+
+    // Relays batches until the outbox is empty; returns the number of events delivered
+    public synchronized int drain() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int delivered = 0;
+        while (true) {
+            Integer relayed = transaction.execute(status -> relayBatch());
+            delivered += relayed;
+            if (relayed < batchSize) {
+                return delivered;
+            }
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.findAllByOrderByCommitSeqAscIdAsc(Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<ChangeEvent> events = batch.stream().map(ChangeEvent::of).toList();
+        for (OutboxSink sink : sinks) {
+            sink.deliver(events);
+        }
+        outboxEventRepository.deleteAllInBatch(batch);
+        return batch.size();
+    }
+
+    private void drainQuietly() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay failed; undelivered events will be retried", e);
+        }
+    }
+}
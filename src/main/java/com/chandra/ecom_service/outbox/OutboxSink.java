@@ -0,0 +1,14 @@
+// src/main/java/com/chandra/ecom_service/outbox/OutboxSink.java
+package com.chandra.ecom_service.outbox;
+
+import java.util.List;
+
+/**
+ * A destination for relayed change events; every sink bean receives every batch, in commit sequence order.
+ * Throwing leaves the batch in the outbox and it is delivered again (to all sinks) on the next
+ * attempt, so a sink must tolerate repeats.
+ */
+public interface OutboxSink {
+
+    void deliver(List<ChangeEvent> events);
+}
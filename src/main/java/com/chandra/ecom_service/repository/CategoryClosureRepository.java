@@ -0,0 +1,40 @@
+// src/main/java/com/chandra/ecom_service/repository/CategoryClosureRepository.java
+package com.chandra.ecom_service.repository;
+
+import com.chandra.ecom_service.entity.CategoryClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CategoryClosureRepository extends JpaRepository<CategoryClosure, CategoryClosure.Key> {
+
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+
+    // A new leaf: itself at depth 0, then every ancestor of its parent one level further away
+    @Modifying
+    @Query("INSERT INTO CategoryClosure (ancestorId, descendantId, depth) VALUES (:id, :id, 0)")
+    int insertSelf(@Param("id") Long id);
+
+    @Modifying
+    @Query("INSERT INTO CategoryClosure (ancestorId, descendantId, depth) "
+            + "SELECT c.ancestorId, :id, c.depth + 1 FROM CategoryClosure c WHERE c.descendantId = :parentId")
+    int insertUnder(@Param("id") Long id, @Param("parentId") Long parentId);
+
+    // Moving a subtree: first cut every path that enters it from outside...
+    @Modifying
+    @Query("DELETE FROM CategoryClosure c WHERE "
+            + "c.descendantId IN (SELECT s.descendantId FROM CategoryClosure s WHERE s.ancestorId = :id) "
+            + "AND c.ancestorId NOT IN (SELECT s.descendantId FROM CategoryClosure s WHERE s.ancestorId = :id)")
+    int detachSubtree(@Param("id") Long id);
+
+    // ...then connect each ancestor of the new parent to each node of the subtree
+    @Modifying
+    @Query("INSERT INTO CategoryClosure (ancestorId, descendantId, depth) "
+            + "SELECT up.ancestorId, down.descendantId, up.depth + down.depth + 1 "
+            + "FROM CategoryClosure up, CategoryClosure down "
+            + "WHERE up.descendantId = :parentId AND down.ancestorId = :id")
+    int attachSubtree(@Param("id") Long id, @Param("parentId") Long parentId);
+}
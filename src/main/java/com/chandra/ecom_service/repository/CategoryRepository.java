@@ -2,10 +2,21 @@
 package com.chandra.ecom_service.repository;
 
 import com.chandra.ecom_service.entity.Category;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
@@ -14,9 +25,58 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
 
     boolean existsByName(String name);
 
+    // Every name, for the existence filter; must be consumed inside a transaction and closed afterwards
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c.name FROM Category c")
+    Stream<String> streamAllNames();
+
+    List<Category> findByNameIn(Collection<String> names);
+
     List<Category> findByIsActiveTrue();
 
     List<Category> findByParentCategoryIdAndIsActiveTrue(Long parentCategoryId);
 
     List<Category> findByParentCategoryIdIsNullAndIsActiveTrue(); // Root categories
-}
\ No newline at end of file
+
+    // Set-based soft delete; see ProductRepository.deactivateByIdIn
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Category c SET c.isActive = false, c.updatedAt = :updatedAt, c.version = c.version + 1 "
+            + "WHERE c.id IN :ids AND c.isActive = true")
+    int deactivateByIdIn(@Param("ids") Collection<Long> ids, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT c.id AS id, c.version AS version FROM Category c "
+            + "WHERE c.id IN :ids AND c.isActive = false AND c.updatedAt = :updatedAt")
+    List<CategoryKey> findKeysByIdInDeactivatedAt(@Param("ids") Collection<Long> ids, @Param("updatedAt") LocalDateTime updatedAt);
+
+    // The category and all of its descendants, found through the closure table
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Category c SET c.isActive = false, c.updatedAt = :updatedAt, c.version = c.version + 1 "
+            + "WHERE c.isActive = true AND c.id IN "
+            + "(SELECT cc.descendantId FROM CategoryClosure cc WHERE cc.ancestorId = :id)")
+    int deactivateSubtree(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT c.id AS id, c.version AS version FROM Category c WHERE c.id IN "
+            + "(SELECT cc.descendantId FROM CategoryClosure cc WHERE cc.ancestorId = :id) "
+            + "AND c.isActive = false AND c.updatedAt = :updatedAt")
+    List<CategoryKey> findKeysInSubtreeDeactivatedAt(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
+
+    // The category being moved plus the new parent and its ancestors, locked in id order; see CategoryHierarchy.checkMove
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Category c WHERE c.id = :id "
+            + "OR c.id IN (SELECT cc.ancestorId FROM CategoryClosure cc WHERE cc.descendantId = :parentId) ORDER BY c.id")
+    List<Category> lockForMove(@Param("id") Long id, @Param("parentId") Long parentId);
+
+    // A new category's parent and its ancestors, locked in id order; see CategoryHierarchy.checkParent
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Category c WHERE c.id = :id "
+            + "OR c.id IN (SELECT cc.ancestorId FROM CategoryClosure cc WHERE cc.descendantId = :id) ORDER BY c.id")
+    List<Category> lockWithAncestors(@Param("id") Long id);
+
+    interface CategoryKey {
+        Long getId();
+        Long getVersion();
+    }
+}
@@ -0,0 +1,10 @@
+// src/main/java/com/chandra/ecom_service/repository/InventoryCheckpointRepository.java
+package com.chandra.ecom_service.repository;
+
+import com.chandra.ecom_service.entity.InventoryCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface InventoryCheckpointRepository extends JpaRepository<InventoryCheckpoint, String> {
+}
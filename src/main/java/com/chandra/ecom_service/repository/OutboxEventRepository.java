@@ -0,0 +1,20 @@
+// src/main/java/com/chandra/ecom_service/repository/OutboxEventRepository.java
+package com.chandra.ecom_service.repository;
+
+import com.chandra.ecom_service.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Commit order, ids keeping a transaction's events in the order they were recorded; the row
+    // locks make a second relay wait for this batch instead of delivering it again
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<OutboxEvent> findAllByOrderByCommitSeqAscIdAsc(Limit limit);
+}
@@ -0,0 +1,22 @@
+// src/main/java/com/chandra/ecom_service/repository/ProductFacetRepository.java
+package com.chandra.ecom_service.repository;
+
+import com.chandra.ecom_service.dto.ProductDto;
+import com.chandra.ecom_service.dto.ProductFilter;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+public interface ProductFacetRepository {
+
+    List<ProductDto> findFilteredPageAfter(ProductFilter filter, long afterId, int limit);
+
+    // Facet counts ignore their own dimension's filter, so the client can see the alternatives
+    Map<String, Long> countByBrand(ProductFilter filter);
+
+    Map<Long, Long> countByCategory(ProductFilter filter);
+
+    // One count per bucket delimited by the given ascending boundaries (boundaries.size() + 1 buckets)
+    List<Long> countByPriceBuckets(ProductFilter filter, List<BigDecimal> boundaries);
+}
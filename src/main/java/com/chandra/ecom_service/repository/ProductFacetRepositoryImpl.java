@@ -0,0 +1,161 @@
+// src/main/java/com/chandra/ecom_service/repository/ProductFacetRepositoryImpl.java
+package com.chandra.ecom_service.repository;
+
+import com.chandra.ecom_service.dto.ProductDto;
+import com.chandra.ecom_service.dto.ProductFilter;
+import com.chandra.ecom_service.entity.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Criteria-based queries behind the faceted product listing. All filter values are bound
+ * as parameters, so with hibernate.criteria.plan_cache_enabled the translated SQL for each
+ * filter combination is cached like a JPQL query.
+ */
+public class ProductFacetRepositoryImpl implements ProductFacetRepository {
+
+    private enum Dimension { NONE, BRAND, CATEGORY, PRICE }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ProductDto> findFilteredPageAfter(ProductFilter filter, long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductDto> query = cb.createQuery(ProductDto.class);
+        Root<Product> product = query.from(Product.class);
+
+        List<Predicate> predicates = predicates(cb, product, filter, Dimension.NONE);
+        predicates.add(cb.greaterThan(product.get("id"), afterId));
+        // Same summary projection as the JPQL list queries: no description, no managed entities
+        query.select(cb.construct(ProductDto.class,
+                        product.get("id"), product.get("name"), product.get("price"), product.get("sku"),
+                        product.get("categoryId"), product.get("brand"), product.get("stockQuantity"),
+                        product.get("weight"), product.get("dimensions"), product.get("color"), product.get("size"),
+                        product.get("isActive"), product.get("isFeatured")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(product.get("id")));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Map<String, Long> countByBrand(ProductFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> product = query.from(Product.class);
+        Path<String> brand = product.get("brand");
+        Expression<Long> count = cb.count(product);
+
+        List<Predicate> predicates = predicates(cb, product, filter, Dimension.BRAND);
+        predicates.add(cb.isNotNull(brand));
+        query.multiselect(brand, count)
+                .where(predicates.toArray(new Predicate[0]))
+                .groupBy(brand)
+                .orderBy(cb.desc(count), cb.asc(brand));
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            counts.put(row.get(0, String.class), row.get(1, Long.class));
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<Long, Long> countByCategory(ProductFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> product = query.from(Product.class);
+        Path<Long> categoryId = product.get("categoryId");
+        Expression<Long> count = cb.count(product);
+
+        List<Predicate> predicates = predicates(cb, product, filter, Dimension.CATEGORY);
+        predicates.add(cb.isNotNull(categoryId));
+        query.multiselect(categoryId, count)
+                .where(predicates.toArray(new Predicate[0]))
+                .groupBy(categoryId)
+                .orderBy(cb.desc(count), cb.asc(categoryId));
+
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            counts.put(row.get(0, Long.class), row.get(1, Long.class));
+        }
+        return counts;
+    }
+
+    @Override
+    public List<Long> countByPriceBuckets(ProductFilter filter, List<BigDecimal> boundaries) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> product = query.from(Product.class);
+        Path<BigDecimal> price = product.get("price");
+
+        // One SUM(CASE ...) column per bucket keeps all buckets in a single table pass
+        List<Selection<?>> columns = new ArrayList<>();
+        for (int i = 0; i <= boundaries.size(); i++) {
+            Predicate inBucket;
+            if (boundaries.isEmpty()) {
+                // No boundaries configured: one bucket covering every price
+                inBucket = cb.conjunction();
+            } else if (i == 0) {
+                inBucket = cb.lessThan(price, boundaries.get(0));
+            } else if (i == boundaries.size()) {
+                inBucket = cb.greaterThanOrEqualTo(price, boundaries.get(i - 1));
+            } else {
+                inBucket = cb.and(cb.greaterThanOrEqualTo(price, boundaries.get(i - 1)), cb.lessThan(price, boundaries.get(i)));
+            }
+            columns.add(cb.sum(cb.<Long>selectCase().when(inBucket, 1L).otherwise(0L)));
+        }
+        query.multiselect(columns).where(predicates(cb, product, filter, Dimension.PRICE).toArray(new Predicate[0]));
+
+        Tuple row = entityManager.createQuery(query).getSingleResult();
+        List<Long> counts = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            Number value = (Number) row.get(i);
+            counts.add(value != null ? value.longValue() : 0L);
+        }
+        return counts;
+    }
+
+    private List<Predicate> predicates(CriteriaBuilder cb, Root<Product> product, ProductFilter filter, Dimension exclude) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.isTrue(product.get("isActive")));
+        if (filter.getCategoryId() != null && exclude != Dimension.CATEGORY) {
+            predicates.add(cb.equal(product.get("categoryId"), filter.getCategoryId()));
+        }
+        if (filter.getBrand() != null && exclude != Dimension.BRAND) {
+            predicates.add(cb.equal(product.get("brand"), filter.getBrand()));
+        }
+        if (exclude != Dimension.PRICE) {
+            if (filter.getMinPrice() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(product.get("price"), filter.getMinPrice()));
+            }
+            if (filter.getMaxPrice() != null) {
+                predicates.add(cb.lessThanOrEqualTo(product.get("price"), filter.getMaxPrice()));
+            }
+        }
+        if (filter.getInStock() != null) {
+            predicates.add(filter.getInStock()
+                    ? cb.greaterThan(product.get("stockQuantity"), 0)
+                    : cb.equal(product.get("stockQuantity"), 0));
+        }
+        if (filter.getFeatured() != null) {
+            predicates.add(cb.equal(product.get("isFeatured"), filter.getFeatured()));
+        }
+        return predicates;
+    }
+}
@@ -1,22 +1,47 @@
 // src/main/java/com/chandra/ecom_service/repository/ProductRepository.java
 package com.chandra.ecom_service.repository;
 
+import com.chandra.ecom_service.dto.ProductDto;
 import com.chandra.ecom_service.entity.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductFacetRepository {
+
+    // Constructor projection for list views: no entity instances, no dirty-check snapshots, no description column
+    String SUMMARY_SELECT = "SELECT new com.chandra.ecom_service.dto.ProductDto(p.id, p.name, p.price, p.sku, "
+            + "p.categoryId, p.brand, p.stockQuantity, p.weight, p.dimensions, p.color, p.size, p.isActive, p.isFeatured) "
+            + "FROM Product p ";
 
     Optional<Product> findBySku(String sku);
 
     boolean existsBySku(String sku);
 
+    // Every SKU, for the existence filter; must be consumed inside a transaction and closed afterwards
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p.sku FROM Product p")
+    Stream<String> streamAllSkus();
+
+    List<Product> findBySkuIn(Collection<String> skus);
+
     List<Product> findByIsActiveTrue();
 
     List<Product> findByCategoryIdAndIsActiveTrue(Long categoryId);
@@ -36,4 +61,180 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     @Query("SELECT p FROM Product p WHERE p.stockQuantity = 0 AND p.isActive = true")
     List<Product> findOutOfStockProducts();
-}
\ No newline at end of file
+
+    // Keyset (cursor) pagination: each query seeks past the last id of the previous page,
+    // so every page is an index range scan no matter how deep the client has paged.
+    // Pages are read as summary projections straight into ProductDto.
+
+    @Query(SUMMARY_SELECT + "WHERE p.id > :afterId ORDER BY p.id ASC")
+    List<ProductDto> findPageAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE p.isActive = true AND p.id > :afterId ORDER BY p.id ASC")
+    List<ProductDto> findActivePageAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE p.categoryId = :categoryId AND p.isActive = true AND p.id > :afterId ORDER BY p.id ASC")
+    List<ProductDto> findByCategoryPageAfter(@Param("categoryId") Long categoryId, @Param("afterId") Long afterId, Limit limit);
+
+    // The category and everything below it: closure rows for the ancestor, joined to products on category_id
+    @Query(SUMMARY_SELECT + "JOIN CategoryClosure cc ON cc.descendantId = p.categoryId "
+            + "WHERE cc.ancestorId = :categoryId AND p.isActive = true AND p.id > :afterId ORDER BY p.id ASC")
+    List<ProductDto> findByCategorySubtreePageAfter(@Param("categoryId") Long categoryId, @Param("afterId") Long afterId, Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE p.isFeatured = true AND p.isActive = true AND p.id > :afterId ORDER BY p.id ASC")
+    List<ProductDto> findFeaturedPageAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE p.brand = :brand AND p.isActive = true AND p.id > :afterId ORDER BY p.id ASC")
+    List<ProductDto> findByBrandPageAfter(@Param("brand") String brand, @Param("afterId") Long afterId, Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE p.stockQuantity > 0 AND p.isActive = true AND p.id > :afterId ORDER BY p.id ASC")
+    List<ProductDto> findInStockPageAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE p.stockQuantity = 0 AND p.isActive = true AND p.id > :afterId ORDER BY p.id ASC")
+    List<ProductDto> findOutOfStockPageAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // Seeks on (price, id) so the page is ordered by price with id as the tie-breaker
+    @Query(SUMMARY_SELECT + "WHERE p.isActive = true AND p.price BETWEEN :minPrice AND :maxPrice " +
+            "AND (p.price > :lastPrice OR (p.price = :lastPrice AND p.id > :lastId)) ORDER BY p.price ASC, p.id ASC")
+    List<ProductDto> findByPriceRangePageAfter(@Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice,
+                                            @Param("lastPrice") BigDecimal lastPrice, @Param("lastId") Long lastId, Limit limit);
+
+    // Full-catalog cursor for exports; must be consumed inside a transaction and closed afterwards
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Product p ORDER BY p.id ASC")
+    Stream<Product> streamAll();
+
+    @Query("SELECT MIN(p.id) FROM Product p")
+    Long findMinId();
+
+    @Query("SELECT MAX(p.id) FROM Product p")
+    Long findMaxId();
+
+    // Bounded keyset scan used to split full-table work into id-range partitions
+    @Query("SELECT p FROM Product p WHERE p.isActive = true AND p.id > :afterId AND p.id <= :maxId ORDER BY p.id ASC")
+    List<Product> findActivePageBetween(@Param("afterId") Long afterId, @Param("maxId") Long maxId, Limit limit);
+
+    // Summary projections backing the list endpoints
+    @Query(SUMMARY_SELECT)
+    List<ProductDto> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE p.isActive = true")
+    List<ProductDto> findActiveSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE p.categoryId = :categoryId AND p.isActive = true")
+    List<ProductDto> findSummariesByCategory(@Param("categoryId") Long categoryId);
+
+    @Query(SUMMARY_SELECT + "WHERE p.isFeatured = true AND p.isActive = true")
+    List<ProductDto> findFeaturedSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE p.brand = :brand AND p.isActive = true")
+    List<ProductDto> findSummariesByBrand(@Param("brand") String brand);
+
+    @Query(SUMMARY_SELECT + "WHERE p.price BETWEEN :minPrice AND :maxPrice AND p.isActive = true")
+    List<ProductDto> findSummariesByPriceRange(@Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice);
+
+    @Query(SUMMARY_SELECT + "WHERE p.stockQuantity > 0 AND p.isActive = true")
+    List<ProductDto> findInStockSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE p.stockQuantity = 0 AND p.isActive = true")
+    List<ProductDto> findOutOfStockSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids")
+    List<ProductDto> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Single-statement stock adjustments: the row lock taken by the UPDATE serialises concurrent
+    // callers, and the guard makes an oversell match zero rows instead of going negative. The
+    // version bump makes a full update loaded before the adjustment fail instead of undoing it
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity, p.updatedAt = :updatedAt, "
+            + "p.version = p.version + 1 "
+            + "WHERE p.id = :id AND p.stockQuantity >= :quantity")
+    int decrementStock(@Param("id") Long id, @Param("quantity") int quantity, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity + :quantity, p.updatedAt = :updatedAt, "
+            + "p.version = p.version + 1 WHERE p.id = :id")
+    int incrementStock(@Param("id") Long id, @Param("quantity") int quantity, @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Set-based soft deletes. Each stamps the rows it switches with :updatedAt, so the matching
+    // find...DeactivatedAt query can then read back exactly those rows (already locked by the UPDATE)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.isActive = false, p.updatedAt = :updatedAt, p.version = p.version + 1 "
+            + "WHERE p.id IN :ids AND p.isActive = true")
+    int deactivateByIdIn(@Param("ids") Collection<Long> ids, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.isActive = false, p.updatedAt = :updatedAt, p.version = p.version + 1 "
+            + "WHERE p.brand = :brand AND p.isActive = true")
+    int deactivateByBrand(@Param("brand") String brand, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.isActive = false, p.updatedAt = :updatedAt, p.version = p.version + 1 "
+            + "WHERE p.categoryId = :categoryId AND p.isActive = true")
+    int deactivateByCategoryId(@Param("categoryId") Long categoryId, @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Products anywhere under the category, found through the closure table
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.isActive = false, p.updatedAt = :updatedAt, p.version = p.version + 1 "
+            + "WHERE p.isActive = true AND p.categoryId IN "
+            + "(SELECT cc.descendantId FROM CategoryClosure cc WHERE cc.ancestorId = :categoryId)")
+    int deactivateByCategorySubtree(@Param("categoryId") Long categoryId, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT p.id AS id, p.sku AS sku, p.categoryId AS categoryId, p.stockQuantity AS stockQuantity, p.version AS version "
+            + "FROM Product p "
+            + "WHERE p.id IN :ids AND p.isActive = false AND p.updatedAt = :updatedAt")
+    List<ProductKey> findKeysByIdInDeactivatedAt(@Param("ids") Collection<Long> ids, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT p.id AS id, p.sku AS sku, p.categoryId AS categoryId, p.stockQuantity AS stockQuantity, p.version AS version "
+            + "FROM Product p "
+            + "WHERE p.brand = :brand AND p.isActive = false AND p.updatedAt = :updatedAt")
+    List<ProductKey> findKeysByBrandDeactivatedAt(@Param("brand") String brand, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT p.id AS id, p.sku AS sku, p.categoryId AS categoryId, p.stockQuantity AS stockQuantity, p.version AS version "
+            + "FROM Product p "
+            + "WHERE p.categoryId = :categoryId AND p.isActive = false AND p.updatedAt = :updatedAt")
+    List<ProductKey> findKeysByCategoryIdDeactivatedAt(@Param("categoryId") Long categoryId, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT p.id AS id, p.sku AS sku, p.categoryId AS categoryId, p.stockQuantity AS stockQuantity, p.version AS version "
+            + "FROM Product p "
+            + "WHERE p.categoryId IN (SELECT cc.descendantId FROM CategoryClosure cc WHERE cc.ancestorId = :categoryId) "
+            + "AND p.isActive = false AND p.updatedAt = :updatedAt")
+    List<ProductKey> findKeysByCategorySubtreeDeactivatedAt(@Param("categoryId") Long categoryId, @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Row state right after a stock UPDATE in the same transaction, for the category counters and the version map
+    @Query("SELECT p.categoryId AS categoryId, p.stockQuantity AS stockQuantity, p.isActive AS isActive, "
+            + "p.version AS version, p.updatedAt AS updatedAt FROM Product p WHERE p.id = :id")
+    StockState findStockStateById(@Param("id") Long id);
+
+    // Exact per-category figures the incrementally maintained counters are reconciled against
+    @Query("SELECT p.categoryId AS categoryId, COUNT(p) AS activeProducts, "
+            + "SUM(CASE WHEN p.stockQuantity > 0 THEN 1 ELSE 0 END) AS inStockProducts "
+            + "FROM Product p WHERE p.isActive = true AND p.categoryId IS NOT NULL GROUP BY p.categoryId")
+    List<CategoryProductCount> countActiveByCategory();
+
+    interface ProductKey {
+        Long getId();
+        String getSku();
+        Long getCategoryId();
+        Integer getStockQuantity();
+        Long getVersion();
+    }
+
+    interface StockState {
+        Long getCategoryId();
+        Integer getStockQuantity();
+        Boolean getIsActive();
+        Long getVersion();
+        LocalDateTime getUpdatedAt();
+    }
+
+    interface CategoryProductCount {
+        Long getCategoryId();
+        Long getActiveProducts();
+        Long getInStockProducts();
+    }
+}
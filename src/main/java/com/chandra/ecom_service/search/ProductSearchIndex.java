@@ -0,0 +1,328 @@
+// src/main/java/com/chandra/ecom_service/search/ProductSearchIndex.java
+package com.chandra.ecom_service.search;
+
+import com.chandra.ecom_service.entity.Product;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process inverted index over product name, brand and description.
+ *
+ * Documents are scored with BM25F: per-field term frequencies are length-normalised,
+ * weighted (name over brand over description) and then saturated with the usual k1/b
+ * parameters. Only active products are indexed. The last query term is also matched as
+ * a prefix so partial words still find results while the user is typing.
+ *
+ * The service layer applies updates once the write has committed, and callers hydrate
+ * hits from the database. A transaction that has written products searches the database
+ * until it commits, since the index does not hold its changes yet. After-commit callbacks
+ * of concurrent writes can run in either order, so an update older than the indexed
+ * document (by version, or updatedAt for rows without one) or than the removal of that
+ * product is dropped.
+ */
+@Component
+public class ProductSearchIndex {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double NAME_WEIGHT = 3.0;
+    private static final double BRAND_WEIGHT = 2.0;
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+    private static final int MAX_PREFIX_EXPANSIONS = 32;
+
+    // term -> (product id -> per-field frequencies); sorted so prefixes can be expanded
+    private final ConcurrentSkipListMap<String, ConcurrentHashMap<Long, TermFrequency>> postings = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Long, IndexedDocument> documents = new ConcurrentHashMap<>();
+
+    private final AtomicLong nameLengthTotal = new AtomicLong();
+    private final AtomicLong brandLengthTotal = new AtomicLong();
+    private final AtomicLong descriptionLengthTotal = new AtomicLong();
+
+    // Version at which each product was removed, so a late older update cannot bring it back; one entry per removal
+    private final ConcurrentHashMap<Long, Long> removedAtVersion = new ConcurrentHashMap<>();
+
+    // Ids removed while a rebuild is running, so the rebuild does not resurrect them from a stale read
+    private final Set<Long> removedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public void index(Product product) {
+        if (!Boolean.TRUE.equals(product.getIsActive())) {
+            remove(product.getId(), product.getVersion());
+            return;
+        }
+        IndexedDocument document = analyze(product);
+        documents.compute(product.getId(), (id, existing) -> {
+            if (existing != null ? compareAge(existing, document) > 0 : removedSince(document)) {
+                return existing;
+            }
+            if (existing != null) {
+                unpost(existing);
+            }
+            removedAtVersion.remove(id);
+            post(document);
+            return document;
+        });
+    }
+
+    public void remove(Long productId) {
+        remove(productId, null);
+    }
+
+    // version is the row's version after the deactivation; null removes whatever is indexed
+    public void remove(Long productId, Long version) {
+        if (rebuilding) {
+            removedDuringRebuild.add(productId);
+        }
+        documents.compute(productId, (id, existing) -> {
+            if (existing != null && version != null && existing.version != null && existing.version > version) {
+                return existing;
+            }
+            if (version != null) {
+                removedAtVersion.merge(id, version, Math::max);
+            }
+            if (existing != null) {
+                unpost(existing);
+            }
+            return null;
+        });
+    }
+
+    public void beginRebuild() {
+        removedDuringRebuild.clear();
+        rebuilding = true;
+    }
+
+    /**
+     * Indexes a row read by the startup rebuild, unless a live write has already indexed the
+     * same or a newer version of it or removed it since the rebuild started.
+     */
+    public void indexFromRebuild(Product product) {
+        if (!Boolean.TRUE.equals(product.getIsActive()) || removedDuringRebuild.contains(product.getId())) {
+            return;
+        }
+        IndexedDocument document = analyze(product);
+        documents.compute(product.getId(), (id, existing) -> {
+            if (existing != null ? compareAge(existing, document) >= 0 : removedSince(document)) {
+                return existing;
+            }
+            if (existing != null) {
+                unpost(existing);
+            }
+            post(document);
+            return document;
+        });
+    }
+
+    public void finishRebuild() {
+        rebuilding = false;
+        removedDuringRebuild.clear();
+        ready = true;
+    }
+
+    public List<SearchHit> search(String query, int limit) {
+        List<String> queryTerms = Tokenizer.tokenize(query);
+        if (queryTerms.isEmpty() || documents.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int documentCount = documents.size();
+        double avgName = average(nameLengthTotal, documentCount);
+        double avgBrand = average(brandLengthTotal, documentCount);
+        double avgDescription = average(descriptionLengthTotal, documentCount);
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (int i = 0; i < queryTerms.size(); i++) {
+            boolean last = i == queryTerms.size() - 1;
+            // Variants of one query term (exact plus prefix expansions) contribute their best score only once
+            Map<Long, Double> termScores = new HashMap<>();
+            for (Map.Entry<String, ConcurrentHashMap<Long, TermFrequency>> entry : expand(queryTerms.get(i), last)) {
+                Map<Long, TermFrequency> postingList = entry.getValue();
+                int df = postingList.size();
+                if (df == 0) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+                for (Map.Entry<Long, TermFrequency> posting : postingList.entrySet()) {
+                    IndexedDocument document = documents.get(posting.getKey());
+                    if (document == null) {
+                        continue;
+                    }
+                    TermFrequency tf = posting.getValue();
+                    double weightedTf = NAME_WEIGHT * normalize(tf.name, document.nameLength, avgName)
+                            + BRAND_WEIGHT * normalize(tf.brand, document.brandLength, avgBrand)
+                            + DESCRIPTION_WEIGHT * normalize(tf.description, document.descriptionLength, avgDescription);
+                    double score = idf * weightedTf * (K1 + 1) / (K1 + weightedTf);
+                    termScores.merge(posting.getKey(), score, Math::max);
+                }
+            }
+            termScores.forEach((id, score) -> scores.merge(id, score, Double::sum));
+        }
+
+        return topK(scores, limit);
+    }
+
+    private List<Map.Entry<String, ConcurrentHashMap<Long, TermFrequency>>> expand(String term, boolean prefix) {
+        List<Map.Entry<String, ConcurrentHashMap<Long, TermFrequency>>> variants = new ArrayList<>();
+        if (!prefix) {
+            ConcurrentHashMap<Long, TermFrequency> exact = postings.get(term);
+            if (exact != null) {
+                variants.add(Map.entry(term, exact));
+            }
+            return variants;
+        }
+        for (Map.Entry<String, ConcurrentHashMap<Long, TermFrequency>> entry
+                : postings.subMap(term, true, term + Character.MAX_VALUE, false).entrySet()) {
+            variants.add(entry);
+            if (variants.size() >= MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+        }
+        return variants;
+    }
+
+    private List<SearchHit> topK(Map<Long, Double> scores, int limit) {
+        Comparator<Map.Entry<Long, Double>> byRelevance = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed());
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(limit + 1, byRelevance);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<SearchHit> hits = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            Map.Entry<Long, Double> entry = heap.poll();
+            hits.add(new SearchHit(entry.getKey(), entry.getValue()));
+        }
+        Collections.reverse(hits);
+        return hits;
+    }
+
+    private IndexedDocument analyze(Product product) {
+        List<String> name = Tokenizer.tokenize(product.getName());
+        List<String> brand = Tokenizer.tokenize(product.getBrand());
+        List<String> description = Tokenizer.tokenize(product.getDescription());
+
+        Map<String, int[]> frequencies = new HashMap<>();
+        count(frequencies, name, 0);
+        count(frequencies, brand, 1);
+        count(frequencies, description, 2);
+
+        Map<String, TermFrequency> terms = new HashMap<>();
+        frequencies.forEach((term, f) -> terms.put(term, new TermFrequency(f[0], f[1], f[2])));
+        return new IndexedDocument(product.getId(), terms, name.size(), brand.size(), description.size(),
+                product.getVersion(), product.getUpdatedAt());
+    }
+
+    private void count(Map<String, int[]> frequencies, List<String> tokens, int field) {
+        for (String token : tokens) {
+            frequencies.computeIfAbsent(token, t -> new int[3])[field]++;
+        }
+    }
+
+    private void post(IndexedDocument document) {
+        document.terms.forEach((term, tf) ->
+                postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(document.id, tf));
+        nameLengthTotal.addAndGet(document.nameLength);
+        brandLengthTotal.addAndGet(document.brandLength);
+        descriptionLengthTotal.addAndGet(document.descriptionLength);
+    }
+
+    // Empty posting lists are left in place; they cost a map header and are skipped at query time
+    private void unpost(IndexedDocument document) {
+        for (String term : document.terms.keySet()) {
+            ConcurrentHashMap<Long, TermFrequency> postingList = postings.get(term);
+            if (postingList != null) {
+                postingList.remove(document.id);
+            }
+        }
+        nameLengthTotal.addAndGet(-document.nameLength);
+        brandLengthTotal.addAndGet(-document.brandLength);
+        descriptionLengthTotal.addAndGet(-document.descriptionLength);
+    }
+
+    private static double normalize(int tf, int length, double averageLength) {
+        if (tf == 0) {
+            return 0;
+        }
+        return tf / (1 - B + B * (averageLength > 0 ? length / averageLength : 1));
+    }
+
+    private static double average(AtomicLong total, int count) {
+        return count > 0 ? (double) total.get() / count : 0;
+    }
+
+    // Positive when current is newer than candidate, zero when they are the same state
+    private static int compareAge(IndexedDocument current, IndexedDocument candidate) {
+        if (current.version != null && candidate.version != null) {
+            return Long.compare(current.version, candidate.version);
+        }
+        if (current.updatedAt == null) {
+            return candidate.updatedAt == null ? 0 : -1;
+        }
+        return candidate.updatedAt == null ? 1 : current.updatedAt.compareTo(candidate.updatedAt);
+    }
+
+    private boolean removedSince(IndexedDocument candidate) {
+        Long removed = removedAtVersion.get(candidate.id);
+        return removed != null && candidate.version != null && removed >= candidate.version;
+    }
+
+    private static final class TermFrequency {
+        private final int name;
+        private final int brand;
+        private final int description;
+
+        private TermFrequency(int name, int brand, int description) {
+            this.name = name;
+            this.brand = brand;
+            this.description = description;
+        }
+    }
+
+    private static final class IndexedDocument {
+        private final Long id;
+        private final Map<String, TermFrequency> terms;
+        private final int nameLength;
+        private final int brandLength;
+        private final int descriptionLength;
+        private final Long version;
+        private final LocalDateTime updatedAt;
+
+        private IndexedDocument(Long id, Map<String, TermFrequency> terms, int nameLength, int brandLength,
+                                int descriptionLength, Long version, LocalDateTime updatedAt) {
+            this.id = id;
+            this.terms = terms;
+            this.nameLength = nameLength;
+            this.brandLength = brandLength;
+            this.descriptionLength = descriptionLength;
+            this.version = version;
+            this.updatedAt = updatedAt;
+        }
+    }
+}
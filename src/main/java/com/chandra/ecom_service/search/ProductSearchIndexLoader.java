@@ -0,0 +1,95 @@
+// src/main/java/com/chandra/ecom_service/search/ProductSearchIndexLoader.java
+package com.chandra.ecom_service.search;
+
+import com.chandra.ecom_service.entity.Product;
+import com.chandra.ecom_service.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Rebuilds the search index once the application is up. The id range is split into
+ * partitions that are scanned concurrently with keyset queries; searches fall back to
+ * the database until the rebuild completes.
+ */
+@Component
+public class ProductSearchIndexLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSearchIndexLoader.class);
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Value("${app.search.rebuild-partitions:0}")
+    private int partitions;
+
+    @Value("${app.search.rebuild-batch-size:1000}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        CompletableFuture.runAsync(this::rebuild);
+    }
+
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        productSearchIndex.beginRebuild();
+        try {
+            Long minId = productRepository.findMinId();
+            Long maxId = productRepository.findMaxId();
+            if (minId != null) {
+                rebuildRange(minId - 1, maxId);
+            }
+            log.info("Product search index rebuilt with {} documents in {} ms",
+                    productSearchIndex.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("Product search index rebuild failed; searches keep using the database", e);
+            return;
+        }
+        productSearchIndex.finishRebuild();
+    }
+
+    private void rebuildRange(long fromExclusive, long toInclusive) {
+        int workers = partitions > 0 ? partitions : Runtime.getRuntime().availableProcessors();
+        long span = Math.max(1, (toInclusive - fromExclusive + workers - 1) / workers);
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            List<CompletableFuture<Void>> tasks = new ArrayList<>();
+            for (long lower = fromExclusive; lower < toInclusive; lower += span) {
+                long start = lower;
+                long end = Math.min(lower + span, toInclusive);
+                tasks.add(CompletableFuture.runAsync(() -> indexPartition(start, end), executor));
+            }
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void indexPartition(long afterId, long maxId) {
+        long cursor = afterId;
+        while (true) {
+            List<Product> batch = productRepository.findActivePageBetween(cursor, maxId, Limit.of(batchSize));
+            batch.forEach(productSearchIndex::indexFromRebuild);
+            if (batch.size() < batchSize) {
+                return;
+            }
+            cursor = batch.get(batch.size() - 1).getId();
+        }
+    }
+}
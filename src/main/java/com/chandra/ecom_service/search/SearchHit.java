@@ -0,0 +1,17 @@
+// src/main/java/com/chandra/ecom_service/search/SearchHit.java
+package com.chandra.ecom_service.search;
+
+public class SearchHit {
+
+    private final Long productId;
+    private final double score;
+
+    public SearchHit(Long productId, double score) {
+        this.productId = productId;
+        this.score = score;
+    }
+
+    public Long getProductId() { return productId; }
+
+    public double getScore() { return score; }
+}
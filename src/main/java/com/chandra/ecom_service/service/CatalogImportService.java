@@ -0,0 +1,15 @@
+// src/main/java/com/chandra/ecom_service/service/CatalogImportService.java
+package com.chandra.ecom_service.service;
+
+import com.chandra.ecom_service.dto.CatalogFormat;
+import com.chandra.ecom_service.dto.ImportReport;
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface CatalogImportService {
+
+    // Rows are read, validated and inserted chunk by chunk; each chunk commits on its own
+    ImportReport importProducts(InputStream inputStream, CatalogFormat format) throws IOException;
+
+    ImportReport importCategories(InputStream inputStream, CatalogFormat format) throws IOException;
+}
@@ -1,7 +1,11 @@
 // src/main/java/com/chandra/ecom_service/service/CategoryService.java
 package com.chandra.ecom_service.service;
 
+import com.chandra.ecom_service.dto.BatchGetResult;
+import com.chandra.ecom_service.dto.BulkDeactivateResult;
 import com.chandra.ecom_service.dto.CategoryDto;
+import com.chandra.ecom_service.dto.SubtreeDeactivateResult;
+import com.fasterxml.jackson.databind.JsonNode;
 import java.util.List;
 
 public interface CategoryService {
@@ -22,7 +26,27 @@ public interface CategoryService {
 
     CategoryDto updateCategory(Long id, CategoryDto categoryDto);
 
+    // ifMatch is the request's If-Match header (null when absent); a mismatch fails with 412
+    CategoryDto updateCategory(Long id, CategoryDto categoryDto, String ifMatch);
+
+    // JSON Merge Patch: only the members present are changed, and only changed columns are written
+    CategoryDto patchCategory(Long id, JsonNode patch, String ifMatch);
+
     void deleteCategory(Long id);
 
+    // One UPDATE for all listed categories; their products are left as they are
+    BulkDeactivateResult deactivateCategories(List<Long> ids);
+
+    // Re-parents the category; its whole subtree moves with it in a fixed number of statements
+    CategoryDto moveCategory(Long id, Long parentCategoryId, Long version, String ifMatch);
+
+    // Deactivates the category, every category below it and all of their products
+    SubtreeDeactivateResult deactivateCategorySubtree(Long id);
+
     boolean existsByName(String name);
+
+    // Many categories in one round trip; results follow request order with not-found markers
+    BatchGetResult<CategoryDto> getCategoriesByIds(List<Long> ids);
+
+    BatchGetResult<CategoryDto> getCategoriesByNames(List<String> names);
 }
\ No newline at end of file
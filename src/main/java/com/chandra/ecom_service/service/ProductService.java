@@ -1,7 +1,18 @@
 // src/main/java/com/chandra/ecom_service/service/ProductService.java
 package com.chandra.ecom_service.service;
 
+import com.chandra.ecom_service.dto.BatchGetResult;
+import com.chandra.ecom_service.dto.BulkDeactivateRequest;
+import com.chandra.ecom_service.dto.BulkDeactivateResult;
+import com.chandra.ecom_service.dto.CatalogFormat;
+import com.chandra.ecom_service.dto.CursorPage;
+import com.chandra.ecom_service.dto.FacetedProductPage;
 import com.chandra.ecom_service.dto.ProductDto;
+import com.chandra.ecom_service.dto.ProductFilter;
+import com.chandra.ecom_service.dto.StockAdjustmentResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.util.List;
 
@@ -25,6 +36,9 @@ public interface ProductService {
 
     List<ProductDto> searchProductsByName(String name);
 
+    // Relevance-ranked full-text search over name, brand and description
+    List<ProductDto> searchProducts(String query, Integer limit);
+
     List<ProductDto> getProductsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice);
 
     List<ProductDto> getInStockProducts();
@@ -33,9 +47,54 @@ public interface ProductService {
 
     ProductDto updateProduct(Long id, ProductDto productDto);
 
+    // ifMatch is the request's If-Match header (null when absent); a mismatch fails with 412
+    ProductDto updateProduct(Long id, ProductDto productDto, String ifMatch);
+
+    // JSON Merge Patch: only the members present are changed, and only changed columns are written
+    ProductDto patchProduct(Long id, JsonNode patch, String ifMatch);
+
     ProductDto updateStock(Long id, Integer quantity);
 
+    // Relative stock changes applied by one conditional UPDATE; a decrement that would go below zero is not applied
+    StockAdjustmentResult decrementStock(Long id, Integer quantity);
+
+    StockAdjustmentResult incrementStock(Long id, Integer quantity);
+
     void deleteProduct(Long id);
 
+    // One UPDATE for every active product matching the request's single criterion
+    BulkDeactivateResult deactivateProducts(BulkDeactivateRequest request);
+
     boolean existsBySku(String sku);
+
+    // Many products in one round trip; results follow request order with not-found markers
+    BatchGetResult<ProductDto> getProductsByIds(List<Long> ids);
+
+    BatchGetResult<ProductDto> getProductsBySkus(List<String> skus);
+
+    // Cursor-based variants of the list queries; cursor is the nextCursor of the previous page
+    CursorPage<ProductDto> getAllProducts(String cursor, Integer limit);
+
+    CursorPage<ProductDto> getActiveProducts(String cursor, Integer limit);
+
+    CursorPage<ProductDto> getProductsByCategory(Long categoryId, String cursor, Integer limit);
+
+    // Active products of the category and all of its subcategories, one keyset page at a time
+    CursorPage<ProductDto> getProductsInCategorySubtree(Long categoryId, String cursor, Integer limit);
+
+    CursorPage<ProductDto> getFeaturedProducts(String cursor, Integer limit);
+
+    CursorPage<ProductDto> getProductsByBrand(String brand, String cursor, Integer limit);
+
+    CursorPage<ProductDto> getProductsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice, String cursor, Integer limit);
+
+    CursorPage<ProductDto> getInStockProducts(String cursor, Integer limit);
+
+    CursorPage<ProductDto> getOutOfStockProducts(String cursor, Integer limit);
+
+    // Any combination of filters in one query, plus brand/category/price facet counts on the first page
+    FacetedProductPage filterProducts(ProductFilter filter, String cursor, Integer limit);
+
+    // Streams the whole catalog to the given output and returns the number of rows written
+    long exportProducts(CatalogFormat format, OutputStream outputStream) throws IOException;
 }
\ No newline at end of file
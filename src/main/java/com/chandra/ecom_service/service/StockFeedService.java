@@ -0,0 +1,12 @@
+// src/main/java/com/chandra/ecom_service/service/StockFeedService.java
+package com.chandra.ecom_service.service;
+
+import com.chandra.ecom_service.dto.StockFeedReport;
+import com.chandra.ecom_service.dto.StockUpdateItem;
+import java.util.List;
+
+public interface StockFeedService {
+
+    // Applies a warehouse feed as batched UPDATEs, one transaction per chunk; bad lines are reported, not fatal
+    StockFeedReport applyStockUpdates(List<StockUpdateItem> items);
+}
@@ -1,7 +1,9 @@
 // src/main/java/com/chandra/ecom_service/service/UserService.java
 package com.chandra.ecom_service.service;
 
+import com.chandra.ecom_service.dto.BatchGetResult;
 import com.chandra.ecom_service.dto.UserDto;
+import com.fasterxml.jackson.databind.JsonNode;
 import java.util.List;
 
 public interface UserService {
@@ -16,7 +18,18 @@ public interface UserService {
 
     UserDto updateUser(Long id, UserDto userDto);
 
+    // ifMatch is the request's If-Match header (null when absent); a mismatch fails with 412
+    UserDto updateUser(Long id, UserDto userDto, String ifMatch);
+
+    // JSON Merge Patch: only the members present are changed, and only changed columns are written
+    UserDto patchUser(Long id, JsonNode patch, String ifMatch);
+
     void deleteUser(Long id);
 
     boolean existsByEmail(String email);
+
+    // Many users in one round trip; results follow request order with not-found markers
+    BatchGetResult<UserDto> getUsersByIds(List<Long> ids);
+
+    BatchGetResult<UserDto> getUsersByEmails(List<String> emails);
 }
\ No newline at end of file
@@ -0,0 +1,386 @@
+// src/main/java/com/chandra/ecom_service/service/impl/CatalogImportServiceImpl.java
+package com.chandra.ecom_service.service.impl;
+
+import com.chandra.ecom_service.cache.CategoryCounts;
+import com.chandra.ecom_service.cache.CategoryTree;
+import com.chandra.ecom_service.cache.ExistenceFilters;
+import com.chandra.ecom_service.category.CategoryHierarchy;
+import com.chandra.ecom_service.dto.CatalogFormat;
+import com.chandra.ecom_service.dto.CategoryDto;
+import com.chandra.ecom_service.dto.ImportReport;
+import com.chandra.ecom_service.dto.ImportRowError;
+import com.chandra.ecom_service.dto.ProductDto;
+import com.chandra.ecom_service.entity.Category;
+import com.chandra.ecom_service.entity.Product;
+import com.chandra.ecom_service.outbox.ChangeType;
+import com.chandra.ecom_service.outbox.Outbox;
+import com.chandra.ecom_service.search.ProductSearchIndex;
+import com.chandra.ecom_service.service.CatalogImportService;
+import com.chandra.ecom_service.util.CsvReader;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk catalog loader. The request body is consumed one row at a time and rows are written
+ * in chunks, so memory stays at one chunk no matter how large the upload is. Reading blocks
+ * while a chunk is being written, which pushes back on the client through the socket instead
+ * of buffering. Each chunk commits on its own: a bad row is reported and skipped, it never
+ * rolls back rows that were already imported. Entities take pooled sequence ids, so
+ * Hibernate sends each chunk as JDBC insert batches (hibernate.jdbc.batch_size).
+ */
+@Service
+public class CatalogImportServiceImpl implements CatalogImportService {
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private Outbox outbox;
+
+    @Autowired
+    private CategoryTree categoryTree;
+
+    @Autowired
+    private CategoryHierarchy categoryHierarchy;
+
+    @Autowired
+    private CategoryCounts categoryCounts;
+
+    @Autowired
+    private ExistenceFilters existenceFilters;
+
+    @Value("${app.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    @Override
+    public ImportReport importProducts(InputStream inputStream, CatalogFormat format) throws IOException {
+        Table<ProductDto, Product> products = new Table<>("Product with SKU", "SELECT sku FROM products WHERE sku IN (:keys)",
+                ProductDto::getSku, this::toProduct, product -> {
+                    existenceFilters.added(ExistenceFilters.KeySpace.PRODUCT_SKU, product.getSku());
+                    outbox.productChanged(product, ChangeType.CREATED);
+                    categoryCounts.changed(null, CategoryCounts.ProductState.of(product));
+                },
+                inserted -> inserted.forEach(productSearchIndex::index));
+        return runImport(inputStream, format, ProductDto.class, products);
+    }
+
+    @Override
+    public ImportReport importCategories(InputStream inputStream, CatalogFormat format) throws IOException {
+        Table<CategoryDto, Category> categories = new Table<>("Category with name", "SELECT name FROM categories WHERE name IN (:keys)",
+                CategoryDto::getName, this::toCategory, category -> {
+                    existenceFilters.added(ExistenceFilters.KeySpace.CATEGORY_NAME, category.getName());
+                    categoryHierarchy.added(category);
+                    outbox.categoryChanged(category, ChangeType.CREATED);
+                },
+                inserted -> {});
+        ImportReport report = runImport(inputStream, format, CategoryDto.class, categories);
+        // Once for the whole import rather than per chunk
+        if (report.getImported() > 0) {
+            categoryTree.refresh();
+        }
+        return report;
+    }
+
+    private <T, E> ImportReport runImport(InputStream inputStream, CatalogFormat format, Class<T> type,
+                                          Table<T, E> table) throws IOException {
+        long started = System.nanoTime();
+        ImportReport report = new ImportReport();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), 64 * 1024);
+        RowSource source = format == CatalogFormat.CSV ? new CsvRowSource(new CsvReader(reader)) : new NdjsonRowSource(reader);
+
+        List<Row<T>> chunk = new ArrayList<>(chunkSize);
+        long rowNumber = 0;
+        while (true) {
+            JsonNode node;
+            try {
+                node = source.next();
+            } catch (MalformedRowException e) {
+                reject(report, ++rowNumber, null, e.getMessage());
+                continue;
+            } catch (IllegalArgumentException e) {
+                // Broken CSV framing: nothing after this point can be trusted
+                reject(report, ++rowNumber, null, e.getMessage());
+                break;
+            }
+            if (node == null) {
+                break;
+            }
+            rowNumber++;
+
+            T item;
+            try {
+                item = objectMapper.treeToValue(node, type);
+            } catch (JsonProcessingException e) {
+                reject(report, rowNumber, null, "Invalid value: " + e.getOriginalMessage());
+                continue;
+            }
+            Set<ConstraintViolation<T>> violations = validator.validate(item);
+            if (!violations.isEmpty()) {
+                reject(report, rowNumber, table.keyOf.apply(item), describe(violations));
+                continue;
+            }
+
+            chunk.add(new Row<>(rowNumber, item));
+            if (chunk.size() >= chunkSize) {
+                table.afterChunk.accept(writeChunk(chunk, table, report));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            table.afterChunk.accept(writeChunk(chunk, table, report));
+        }
+
+        report.setRowsRead(rowNumber);
+        long elapsedNanos = System.nanoTime() - started;
+        report.setElapsedMillis(elapsedNanos / 1_000_000);
+        report.setRowsPerSecond(elapsedNanos == 0 ? 0 : rowNumber * 1_000_000_000.0 / elapsedNanos);
+        return report;
+    }
+
+    /**
+     * Drops keys that repeat within the chunk or already exist (one IN query), then persists the
+     * rest in one transaction, flushed as insert batches. If a concurrent writer claims a key in
+     * between, the chunk is replayed row by row so only the conflicting rows are rejected.
+     * Returns the committed (now detached) entities.
+     */
+    private <T, E> List<E> writeChunk(List<Row<T>> chunk, Table<T, E> table, ImportReport report) {
+        report.setChunks(report.getChunks() + 1);
+
+        Map<String, Row<T>> byKey = new LinkedHashMap<>();
+        for (Row<T> row : chunk) {
+            String key = table.keyOf.apply(row.item());
+            if (byKey.putIfAbsent(key, row) != null) {
+                reject(report, row.number(), key, "Duplicate key within the import");
+            }
+        }
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(
+                table.existingKeysSql, Map.of("keys", byKey.keySet()), String.class));
+
+        List<Row<T>> toInsert = new ArrayList<>(byKey.size());
+        for (Map.Entry<String, Row<T>> entry : byKey.entrySet()) {
+            if (existing.contains(entry.getKey())) {
+                reject(report, entry.getValue().number(), entry.getKey(), table.label + " " + entry.getKey() + " already exists");
+            } else {
+                toInsert.add(entry.getValue());
+            }
+        }
+        if (toInsert.isEmpty()) {
+            return List.of();
+        }
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        try {
+            List<E> inserted = transaction.execute(status -> persistAll(toInsert.stream().map(row -> table.toEntity.apply(row.item())).toList(), table.onPersisted));
+            report.setImported(report.getImported() + inserted.size());
+            return inserted;
+        } catch (DataIntegrityViolationException e) {
+            List<E> inserted = new ArrayList<>();
+            for (Row<T> row : toInsert) {
+                String key = table.keyOf.apply(row.item());
+                try {
+                    inserted.addAll(transaction.execute(status -> persistAll(List.of(table.toEntity.apply(row.item())), table.onPersisted)));
+                    report.setImported(report.getImported() + 1);
+                } catch (DataIntegrityViolationException rowFailure) {
+                    reject(report, row.number(), key, table.label + " " + key + " conflicts with existing data");
+                }
+            }
+            return inserted;
+        }
+    }
+
+    // Flush sends the pending inserts (and their outbox events) as JDBC batches; clear keeps the persistence context at one chunk
+    private <E> List<E> persistAll(List<E> entities, Consumer<E> onPersisted) {
+        for (E entity : entities) {
+            entityManager.persist(entity);
+            onPersisted.accept(entity);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return entities;
+    }
+
+    private Product toProduct(ProductDto dto) {
+        Product product = new Product();
+        product.setName(dto.getName());
+        product.setDescription(dto.getDescription());
+        product.setPrice(dto.getPrice());
+        product.setSku(dto.getSku());
+        product.setCategoryId(dto.getCategoryId());
+        product.setBrand(dto.getBrand());
+        product.setStockQuantity(dto.getStockQuantity() != null ? dto.getStockQuantity() : 0);
+        product.setWeight(dto.getWeight());
+        product.setDimensions(dto.getDimensions());
+        product.setColor(dto.getColor());
+        product.setSize(dto.getSize());
+        product.setIsActive(dto.getIsActive() != null ? dto.getIsActive() : Boolean.TRUE);
+        product.setIsFeatured(dto.getIsFeatured() != null ? dto.getIsFeatured() : Boolean.FALSE);
+        return product;
+    }
+
+    private Category toCategory(CategoryDto dto) {
+        Category category = new Category();
+        category.setName(dto.getName());
+        category.setDescription(dto.getDescription());
+        category.setParentCategoryId(dto.getParentCategoryId());
+        category.setIsActive(dto.getIsActive() != null ? dto.getIsActive() : Boolean.TRUE);
+        return category;
+    }
+
+    private void reject(ImportReport report, long row, String key, String message) {
+        report.setFailed(report.getFailed() + 1);
+        if (report.getErrors().size() < maxReportedErrors) {
+            report.getErrors().add(new ImportRowError(row, key, message));
+        } else {
+            report.setErrorsTruncated(true);
+        }
+    }
+
+    private static <T> String describe(Set<ConstraintViolation<T>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private record Row<T>(long number, T item) {}
+
+    // How one target table is de-duplicated, mapped and post-processed
+    private static final class Table<T, E> {
+        private final String label;
+        private final String existingKeysSql;
+        private final Function<T, String> keyOf;
+        private final Function<T, E> toEntity;
+        // Runs in the chunk's transaction once the entity has its id
+        private final Consumer<E> onPersisted;
+        private final Consumer<List<E>> afterChunk;
+
+        private Table(String label, String existingKeysSql, Function<T, String> keyOf,
+                      Function<T, E> toEntity, Consumer<E> onPersisted, Consumer<List<E>> afterChunk) {
+            this.label = label;
+            this.existingKeysSql = existingKeysSql;
+            this.keyOf = keyOf;
+            this.toEntity = toEntity;
+            this.onPersisted = onPersisted;
+            this.afterChunk = afterChunk;
+        }
+    }
+
+    private interface RowSource {
+        // Next row as a JSON tree, or null at end of input
+        JsonNode next() throws IOException;
+    }
+
+    private static final class MalformedRowException extends RuntimeException {
+        private MalformedRowException(String message) {
+            super(message);
+        }
+    }
+
+    private final class NdjsonRowSource implements RowSource {
+        private final BufferedReader reader;
+
+        private NdjsonRowSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public JsonNode next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+            try {
+                JsonNode node = objectMapper.readTree(line);
+                if (!node.isObject()) {
+                    throw new MalformedRowException("Expected a JSON object");
+                }
+                return node;
+            } catch (JsonProcessingException e) {
+                throw new MalformedRowException("Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    // First record is the header; columns are matched to fields by name, empty cells are null
+    private final class CsvRowSource implements RowSource {
+        private final CsvReader reader;
+        private List<String> header;
+
+        private CsvRowSource(CsvReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public JsonNode next() throws IOException {
+            if (header == null) {
+                header = reader.readRecord();
+                if (header == null) {
+                    return null;
+                }
+            }
+            List<String> record = reader.readRecord();
+            if (record == null) {
+                return null;
+            }
+            if (record.size() != header.size()) {
+                throw new MalformedRowException("Expected " + header.size() + " columns but found " + record.size());
+            }
+            ObjectNode node = objectMapper.createObjectNode();
+            for (int i = 0; i < header.size(); i++) {
+                if (!record.get(i).isEmpty()) {
+                    node.put(header.get(i).trim(), record.get(i));
+                }
+            }
+            return node;
+        }
+    }
+}
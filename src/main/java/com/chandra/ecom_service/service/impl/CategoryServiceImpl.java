@@ -1,55 +1,127 @@
 // src/main/java/com/chandra/ecom_service/service/impl/CategoryServiceImpl.java
 package com.chandra.ecom_service.service.impl;
 
+import com.chandra.ecom_service.cache.CategoryCounts;
+import com.chandra.ecom_service.cache.CategoryTree;
+import com.chandra.ecom_service.cache.ExistenceFilters;
+import com.chandra.ecom_service.cache.RequestCoalescer;
+import com.chandra.ecom_service.cache.ResourceVersions;
+import com.chandra.ecom_service.category.CategoryHierarchy;
+import com.chandra.ecom_service.dto.BatchGetResult;
+import com.chandra.ecom_service.dto.BulkDeactivateRequest;
+import com.chandra.ecom_service.dto.BulkDeactivateResult;
 import com.chandra.ecom_service.dto.CategoryDto;
+import com.chandra.ecom_service.dto.SubtreeDeactivateResult;
 import com.chandra.ecom_service.entity.Category;
+import com.chandra.ecom_service.outbox.ChangeType;
+import com.chandra.ecom_service.outbox.Outbox;
 import com.chandra.ecom_service.repository.CategoryRepository;
 import com.chandra.ecom_service.service.CategoryService;
+import com.chandra.ecom_service.service.ProductService;
+import com.chandra.ecom_service.util.BatchLookup;
+import com.chandra.ecom_service.util.MergePatch;
+import com.chandra.ecom_service.util.OptimisticRetry;
+import com.chandra.ecom_service.util.TransactionCallbacks;
+import com.chandra.ecom_service.util.UniqueConstraints;
+import com.chandra.ecom_service.util.WritePreconditions;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class CategoryServiceImpl implements CategoryService {
 
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private OptimisticRetry optimisticRetry;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private MergePatch mergePatch;
+
+    @Autowired
+    private Outbox outbox;
+
+    @Autowired
+    private CategoryTree categoryTree;
+
+    @Autowired
+    private CategoryHierarchy categoryHierarchy;
+
+    @Autowired
+    private CategoryCounts categoryCounts;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ExistenceFilters existenceFilters;
+
+    private static final Map<String, BiConsumer<Category, CategoryDto>> PATCHABLE = Map.of(
+            "name", (category, dto) -> category.setName(dto.getName()),
+            "description", (category, dto) -> category.setDescription(dto.getDescription()),
+            "parentCategoryId", (category, dto) -> category.setParentCategoryId(dto.getParentCategoryId()));
+
     @Override
+    @Transactional
     public CategoryDto createCategory(CategoryDto categoryDto) {
-        if (existsByName(categoryDto.getName())) {
-            throw new RuntimeException("Category with name " + categoryDto.getName() + " already exists");
-        }
-
         Category category = new Category();
         category.setName(categoryDto.getName());
         category.setDescription(categoryDto.getDescription());
         category.setParentCategoryId(categoryDto.getParentCategoryId());
+        categoryHierarchy.checkParent(category.getParentCategoryId());
 
-        Category savedCategory = categoryRepository.save(category);
+        // The unique constraint on name rejects duplicates; no exists query first
+        existenceFilters.added(ExistenceFilters.KeySpace.CATEGORY_NAME, category.getName());
+        Category savedCategory = UniqueConstraints.insert(() -> categoryRepository.saveAndFlush(category),
+                "Category with name " + categoryDto.getName() + " already exists");
+        categoryHierarchy.added(savedCategory);
+        outbox.categoryChanged(savedCategory, ChangeType.CREATED);
+        recordVersionAfterCommit(savedCategory);
+        TransactionCallbacks.afterCommit(categoryTree::refresh);
         return convertToDto(savedCategory);
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public CategoryDto getCategoryById(Long id) {
-        Category category = categoryRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Category not found with id: " + id));
-        return convertToDto(category);
+        return requestCoalescer.execute(RequestCoalescer.CATEGORY_BY_ID, id, () -> {
+            Category category = categoryRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Category not found with id: " + id));
+            return withCounts(convertToDto(category));
+        });
     }
 
     @Override
     public CategoryDto getCategoryByName(String name) {
         Category category = categoryRepository.findByName(name)
                 .orElseThrow(() -> new RuntimeException("Category not found with name: " + name));
-        return convertToDto(category);
+        return withCounts(convertToDto(category));
     }
 
     @Override
     public List<CategoryDto> getAllCategories() {
         return categoryRepository.findAll().stream()
                 .map(this::convertToDto)
+                .map(this::withCounts)
                 .collect(Collectors.toList());
     }
 
@@ -57,6 +129,7 @@ public class CategoryServiceImpl implements CategoryService {
     public List<CategoryDto> getActiveCategories() {
         return categoryRepository.findByIsActiveTrue().stream()
                 .map(this::convertToDto)
+                .map(this::withCounts)
                 .collect(Collectors.toList());
     }
 
@@ -64,6 +137,7 @@ public class CategoryServiceImpl implements CategoryService {
     public List<CategoryDto> getRootCategories() {
         return categoryRepository.findByParentCategoryIdIsNullAndIsActiveTrue().stream()
                 .map(this::convertToDto)
+                .map(this::withCounts)
                 .collect(Collectors.toList());
     }
 
@@ -71,37 +145,185 @@ public class CategoryServiceImpl implements CategoryService {
     public List<CategoryDto> getSubCategories(Long parentCategoryId) {
         return categoryRepository.findByParentCategoryIdAndIsActiveTrue(parentCategoryId).stream()
                 .map(this::convertToDto)
+                .map(this::withCounts)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional
     public CategoryDto updateCategory(Long id, CategoryDto categoryDto) {
+        return updateCategory(id, categoryDto, null);
+    }
+
+    @Override
+    @Transactional
+    public CategoryDto updateCategory(Long id, CategoryDto categoryDto, String ifMatch) {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Category not found with id: " + id));
+        WritePreconditions.check(Category.class, id, category.getVersion(), categoryDto.getVersion(), ifMatch);
+        Long parentBefore = category.getParentCategoryId();
+        categoryHierarchy.checkMove(id, parentBefore, categoryDto.getParentCategoryId());
 
         category.setName(categoryDto.getName());
         category.setDescription(categoryDto.getDescription());
         category.setParentCategoryId(categoryDto.getParentCategoryId());
+        existenceFilters.added(ExistenceFilters.KeySpace.CATEGORY_NAME, category.getName());
+
+        // Flushed here so a version conflict surfaces now and the DTO carries the new updatedAt/version
+        Category updatedCategory = categoryRepository.saveAndFlush(category);
+        if (!Objects.equals(parentBefore, updatedCategory.getParentCategoryId())) {
+            categoryHierarchy.moved(id, updatedCategory.getParentCategoryId());
+        }
+        outbox.categoryChanged(updatedCategory, ChangeType.UPDATED);
+        recordVersionAfterCommit(updatedCategory);
+        TransactionCallbacks.afterCommit(categoryTree::refresh);
+        requestCoalescer.forget(RequestCoalescer.CATEGORY_BY_ID, id);
+        return convertToDto(updatedCategory);
+    }
+
+    @Override
+    @Transactional
+    public CategoryDto patchCategory(Long id, JsonNode patch, String ifMatch) {
+        Category category = categoryRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Category not found with id: " + id));
+        MergePatch.Patched<CategoryDto> patched = mergePatch.apply(convertToDto(category), patch, PATCHABLE.keySet());
+        WritePreconditions.check(Category.class, id, category.getVersion(), patched.value().getVersion(), ifMatch);
+
+        Long versionBefore = category.getVersion();
+        Long parentBefore = category.getParentCategoryId();
+        if (patched.touches("parentCategoryId")) {
+            categoryHierarchy.checkMove(id, parentBefore, patched.value().getParentCategoryId());
+        }
+        for (String field : patched.fields()) {
+            PATCHABLE.get(field).accept(category, patched.value());
+        }
+        if (patched.touches("name")) {
+            existenceFilters.added(ExistenceFilters.KeySpace.CATEGORY_NAME, category.getName());
+        }
 
-        Category updatedCategory = categoryRepository.save(category);
+        Category updatedCategory = categoryRepository.saveAndFlush(category);
+        if (!Objects.equals(parentBefore, updatedCategory.getParentCategoryId())) {
+            categoryHierarchy.moved(id, updatedCategory.getParentCategoryId());
+        }
+        if (!updatedCategory.getVersion().equals(versionBefore)) {
+            outbox.categoryChanged(updatedCategory, ChangeType.UPDATED);
+            TransactionCallbacks.afterCommit(categoryTree::refresh);
+        }
+        recordVersionAfterCommit(updatedCategory);
+        requestCoalescer.forget(RequestCoalescer.CATEGORY_BY_ID, id);
         return convertToDto(updatedCategory);
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void deleteCategory(Long id) {
+        optimisticRetry.run(() -> softDelete(id));
+    }
+
+    private void softDelete(Long id) {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Category not found with id: " + id));
 
         // Soft delete
         category.setIsActive(false);
-        categoryRepository.save(category);
+        categoryRepository.saveAndFlush(category);
+        outbox.deleted(Outbox.CATEGORY, id, category.getVersion());
+        recordVersionAfterCommit(category);
+        TransactionCallbacks.afterCommit(categoryTree::refresh);
+        requestCoalescer.forget(RequestCoalescer.CATEGORY_BY_ID, id);
+    }
+
+    @Override
+    @Transactional
+    public BulkDeactivateResult deactivateCategories(List<Long> ids) {
+        long started = System.nanoTime();
+        BatchLookup.validate(ids);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int deactivated = categoryRepository.deactivateByIdIn(ids, now);
+        deactivated(categoryRepository.findKeysByIdInDeactivatedAt(ids, now), now);
+        return new BulkDeactivateResult(deactivated, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Override
+    @Transactional
+    public CategoryDto moveCategory(Long id, Long parentCategoryId, Long version, String ifMatch) {
+        Category category = categoryRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Category not found with id: " + id));
+        WritePreconditions.check(Category.class, id, category.getVersion(), version, ifMatch);
+        Long parentBefore = category.getParentCategoryId();
+        if (Objects.equals(parentBefore, parentCategoryId)) {
+            return convertToDto(category);
+        }
+        categoryHierarchy.checkMove(id, parentBefore, parentCategoryId);
+
+        // One row changes; the closure rows of the subtree are rewritten with one DELETE and one INSERT ... SELECT
+        category.setParentCategoryId(parentCategoryId);
+        Category movedCategory = categoryRepository.saveAndFlush(category);
+        categoryHierarchy.moved(id, parentCategoryId);
+        outbox.categoryChanged(movedCategory, ChangeType.UPDATED);
+        recordVersionAfterCommit(movedCategory);
+        TransactionCallbacks.afterCommit(categoryTree::refresh);
+        requestCoalescer.forget(RequestCoalescer.CATEGORY_BY_ID, id);
+        return convertToDto(movedCategory);
+    }
+
+    @Override
+    @Transactional
+    public SubtreeDeactivateResult deactivateCategorySubtree(Long id) {
+        long started = System.nanoTime();
+        if (!categoryRepository.existsById(id)) {
+            throw new RuntimeException("Category not found with id: " + id);
+        }
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int categoriesDeactivated = categoryRepository.deactivateSubtree(id, now);
+        deactivated(categoryRepository.findKeysInSubtreeDeactivatedAt(id, now), now);
+        // Products under categories that were already inactive are included; none may stay reachable
+        BulkDeactivateResult products = productService.deactivateProducts(BulkDeactivateRequest.ofCategorySubtree(id));
+        return new SubtreeDeactivateResult(categoriesDeactivated, products.getDeactivated(),
+                (System.nanoTime() - started) / 1_000_000);
     }
 
     @Override
     public boolean existsByName(String name) {
+        if (!existenceFilters.mightExist(ExistenceFilters.KeySpace.CATEGORY_NAME, name)) {
+            return false;
+        }
         return categoryRepository.existsByName(name);
     }
 
+    @Override
+    public BatchGetResult<CategoryDto> getCategoriesByIds(List<Long> ids) {
+        return BatchLookup.fetch(ids, categoryRepository::findAllById, Category::getId, this::convertToDto);
+    }
+
+    @Override
+    public BatchGetResult<CategoryDto> getCategoriesByNames(List<String> names) {
+        return BatchLookup.fetch(names, categoryRepository::findByNameIn, Category::getName, this::convertToDto);
+    }
+
+    // Follow-up for categories switched off by a set-based UPDATE
+    private void deactivated(List<CategoryRepository.CategoryKey> keys, LocalDateTime updatedAt) {
+        for (CategoryRepository.CategoryKey key : keys) {
+            outbox.deleted(Outbox.CATEGORY, key.getId(), key.getVersion());
+            requestCoalescer.forget(RequestCoalescer.CATEGORY_BY_ID, key.getId());
+        }
+        TransactionCallbacks.afterCommit(() -> keys.forEach(key -> resourceVersions.recordCategory(key.getId(), key.getVersion(), updatedAt)));
+        if (!keys.isEmpty()) {
+            TransactionCallbacks.afterCommit(categoryTree::refresh);
+        }
+    }
+
+    // version and updatedAt are only final once the commit-time flush has run
+    private void recordVersionAfterCommit(Category category) {
+        TransactionCallbacks.afterCommit(() -> resourceVersions.recordCategory(category.getId(), category.getVersion(), category.getUpdatedAt()));
+    }
+
+    // Read paths only: the counters are in memory, so this costs no query
+    private CategoryDto withCounts(CategoryDto dto) {
+        categoryCounts.fill(dto);
+        return dto;
+    }
+
     private CategoryDto convertToDto(Category category) {
         CategoryDto dto = new CategoryDto();
         dto.setId(category.getId());
@@ -109,6 +331,8 @@ public class CategoryServiceImpl implements CategoryService {
         dto.setDescription(category.getDescription());
         dto.setParentCategoryId(category.getParentCategoryId());
         dto.setIsActive(category.getIsActive());
+        dto.setUpdatedAt(category.getUpdatedAt());
+        dto.setVersion(category.getVersion());
         return dto;
     }
 }
\ No newline at end of file
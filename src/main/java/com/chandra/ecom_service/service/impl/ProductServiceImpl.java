@@ -1,29 +1,148 @@
 // src/main/java/com/chandra/ecom_service/service/impl/ProductServiceImpl.java
 package com.chandra.ecom_service.service.impl;
 
+import com.chandra.ecom_service.cache.CategoryCounts;
+import com.chandra.ecom_service.cache.ExistenceFilters;
+import com.chandra.ecom_service.cache.ProductCache;
+import com.chandra.ecom_service.cache.RequestCoalescer;
+import com.chandra.ecom_service.cache.ResourceVersions;
+import com.chandra.ecom_service.dto.BatchGetResult;
+import com.chandra.ecom_service.dto.BulkDeactivateRequest;
+import com.chandra.ecom_service.dto.BulkDeactivateResult;
+import com.chandra.ecom_service.dto.CatalogFormat;
+import com.chandra.ecom_service.dto.CursorPage;
+import com.chandra.ecom_service.dto.FacetedProductPage;
+import com.chandra.ecom_service.dto.PriceBucketCount;
 import com.chandra.ecom_service.dto.ProductDto;
+import com.chandra.ecom_service.dto.ProductFacets;
+import com.chandra.ecom_service.dto.ProductFilter;
+import com.chandra.ecom_service.dto.StockAdjustmentResult;
 import com.chandra.ecom_service.entity.Product;
+import com.chandra.ecom_service.inventory.HotInventory;
+import com.chandra.ecom_service.outbox.ChangeType;
+import com.chandra.ecom_service.outbox.Outbox;
 import com.chandra.ecom_service.repository.ProductRepository;
+import com.chandra.ecom_service.search.ProductSearchIndex;
+import com.chandra.ecom_service.search.SearchHit;
 import com.chandra.ecom_service.service.ProductService;
+import com.chandra.ecom_service.util.BatchLookup;
+import com.chandra.ecom_service.util.CursorCodec;
+import com.chandra.ecom_service.util.MergePatch;
+import com.chandra.ecom_service.util.OptimisticRetry;
+import com.chandra.ecom_service.util.TransactionCallbacks;
+import com.chandra.ecom_service.util.UniqueConstraints;
+import com.chandra.ecom_service.util.WritePreconditions;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Transactional(readOnly = true)
 public class ProductServiceImpl implements ProductService {
 
+    // Bound to a transaction that has search index updates waiting for its commit
+    private static final String PENDING_INDEX_UPDATES = ProductServiceImpl.class.getName() + ".pendingIndexUpdates";
+
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private OptimisticRetry optimisticRetry;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private HotInventory hotInventory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MergePatch mergePatch;
+
+    @Autowired
+    private Outbox outbox;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CategoryCounts categoryCounts;
+
+    @Autowired
+    private ExistenceFilters existenceFilters;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.facets.price-buckets:50,100,250,500,1000}")
+    private List<BigDecimal> priceBuckets;
+
+    // Members a merge patch may set; sku stays immutable as on PUT. Removed members fall back to the create defaults
+    private static final Map<String, BiConsumer<Product, ProductDto>> PATCHABLE = Map.ofEntries(
+            Map.entry("name", (product, dto) -> product.setName(dto.getName())),
+            Map.entry("description", (product, dto) -> product.setDescription(dto.getDescription())),
+            Map.entry("price", (product, dto) -> product.setPrice(dto.getPrice())),
+            Map.entry("categoryId", (product, dto) -> product.setCategoryId(dto.getCategoryId())),
+            Map.entry("brand", (product, dto) -> product.setBrand(dto.getBrand())),
+            Map.entry("stockQuantity", (product, dto) -> product.setStockQuantity(
+                    dto.getStockQuantity() != null ? dto.getStockQuantity() : 0)),
+            Map.entry("weight", (product, dto) -> product.setWeight(dto.getWeight())),
+            Map.entry("dimensions", (product, dto) -> product.setDimensions(dto.getDimensions())),
+            Map.entry("color", (product, dto) -> product.setColor(dto.getColor())),
+            Map.entry("size", (product, dto) -> product.setSize(dto.getSize())),
+            Map.entry("isFeatured", (product, dto) -> product.setIsFeatured(Boolean.TRUE.equals(dto.getIsFeatured()))));
+
+    private static final String CSV_HEADER = "id,sku,name,description,price,categoryId,brand,stockQuantity,"
+            + "weight,dimensions,color,size,isActive,isFeatured";
+
     @Override
+    @Transactional
     public ProductDto createProduct(ProductDto productDto) {
-        if (existsBySku(productDto.getSku())) {
-            throw new RuntimeException("Product with SKU " + productDto.getSku() + " already exists");
-        }
-
         Product product = new Product();
         product.setName(productDto.getName());
         product.setDescription(productDto.getDescription());
@@ -37,98 +156,136 @@ public class ProductServiceImpl implements ProductService {
         product.setColor(productDto.getColor());
         product.setSize(productDto.getSize());
 
-        Product savedProduct = productRepository.save(product);
+        // The unique constraint on sku rejects duplicates; no exists query first
+        existenceFilters.added(ExistenceFilters.KeySpace.PRODUCT_SKU, product.getSku());
+        Product savedProduct = UniqueConstraints.insert(() -> productRepository.saveAndFlush(product),
+                "Product with SKU " + productDto.getSku() + " already exists");
+        outbox.productChanged(savedProduct, ChangeType.CREATED);
+        categoryCounts.changed(null, CategoryCounts.ProductState.of(savedProduct));
+        productCache.invalidateSku(savedProduct.getSku());
+        forgetInFlightLookups(savedProduct);
+        recordVersionAfterCommit(savedProduct);
+        indexAfterCommit(savedProduct);
         return convertToDto(savedProduct);
     }
 
+    // SUPPORTS: a cache hit or a coalesced caller never holds a connection; a miss runs in the repository's transaction
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public ProductDto getProductById(Long id) {
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
-        return convertToDto(product);
+        return requestCoalescer.execute(RequestCoalescer.PRODUCT_BY_ID, id, () -> productCache.getById(id, key -> {
+            Product product = productRepository.findById(key)
+                    .orElseThrow(() -> new RuntimeException("Product not found with id: " + key));
+            return convertToDto(product);
+        }));
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public ProductDto getProductBySku(String sku) {
-        Product product = productRepository.findBySku(sku)
-                .orElseThrow(() -> new RuntimeException("Product not found with SKU: " + sku));
-        return convertToDto(product);
+        return requestCoalescer.execute(RequestCoalescer.PRODUCT_BY_SKU, sku, () -> productCache.getBySku(sku, key -> {
+            Product product = productRepository.findBySku(key)
+                    .orElseThrow(() -> new RuntimeException("Product not found with SKU: " + key));
+            return convertToDto(product);
+        }));
     }
 
     @Override
     public List<ProductDto> getAllProducts() {
-        return productRepository.findAll().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return productRepository.findAllSummaries();
     }
 
     @Override
     public List<ProductDto> getActiveProducts() {
-        return productRepository.findByIsActiveTrue().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return productRepository.findActiveSummaries();
     }
 
     @Override
     public List<ProductDto> getProductsByCategory(Long categoryId) {
-        return productRepository.findByCategoryIdAndIsActiveTrue(categoryId).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return productRepository.findSummariesByCategory(categoryId);
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<ProductDto> getFeaturedProducts() {
-        return productRepository.findByIsFeaturedTrueAndIsActiveTrue().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return requestCoalescer.execute(RequestCoalescer.FEATURED_PRODUCTS, RequestCoalescer.FEATURED_PRODUCTS,
+                productRepository::findFeaturedSummaries);
     }
 
     @Override
     public List<ProductDto> getProductsByBrand(String brand) {
-        return productRepository.findByBrandAndIsActiveTrue(brand).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return productRepository.findSummariesByBrand(brand);
     }
 
     @Override
     public List<ProductDto> searchProductsByName(String name) {
-        return productRepository.findByNameContainingAndIsActiveTrue(name).stream()
-                .map(this::convertToDto)
+        return searchProducts(name, null);
+    }
+
+    @Override
+    public List<ProductDto> searchProducts(String query, Integer limit) {
+        // Until the startup rebuild has finished the index is incomplete, and it never holds this
+        // transaction's own uncommitted writes; in both cases use the database
+        if (!productSearchIndex.isReady() || TransactionSynchronizationManager.hasResource(PENDING_INDEX_UPDATES)) {
+            return productRepository.findByNameContainingAndIsActiveTrue(query).stream()
+                    .map(this::convertToDto)
+                    .collect(Collectors.toList());
+        }
+
+        int topK = limit == null || limit <= 0 ? ProductSearchIndex.DEFAULT_LIMIT : Math.min(limit, ProductSearchIndex.MAX_LIMIT);
+        List<SearchHit> hits = productSearchIndex.search(query, topK);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = hits.stream().map(SearchHit::getProductId).collect(Collectors.toList());
+        Map<Long, ProductDto> products = productRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(ProductDto::getId, Function.identity()));
+        return ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .filter(ProductDto::getIsActive)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<ProductDto> getProductsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
-        return productRepository.findByPriceBetweenAndIsActiveTrue(minPrice, maxPrice).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return productRepository.findSummariesByPriceRange(minPrice, maxPrice);
     }
 
     @Override
     public List<ProductDto> getInStockProducts() {
-        return productRepository.findInStockProducts().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return productRepository.findInStockSummaries();
     }
 
     @Override
     public List<ProductDto> getOutOfStockProducts() {
-        return productRepository.findOutOfStockProducts().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return productRepository.findOutOfStockSummaries();
     }
 
     @Override
+    @Transactional
     public ProductDto updateProduct(Long id, ProductDto productDto) {
+        return updateProduct(id, productDto, null);
+    }
+
+    @Override
+    @Transactional
+    public ProductDto updateProduct(Long id, ProductDto productDto, String ifMatch) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
+        WritePreconditions.check(Product.class, id, product.getVersion(), productDto.getVersion(), ifMatch);
+        CategoryCounts.ProductState before = CategoryCounts.ProductState.of(product);
 
         product.setName(productDto.getName());
         product.setDescription(productDto.getDescription());
         product.setPrice(productDto.getPrice());
         product.setCategoryId(productDto.getCategoryId());
         product.setBrand(productDto.getBrand());
-        product.setStockQuantity(productDto.getStockQuantity());
+        // Hot-inventory stock is owned by the in-memory counters and their flusher
+        if (!hotInventory.isHot(id)) {
+            product.setStockQuantity(productDto.getStockQuantity());
+        }
         product.setWeight(productDto.getWeight());
         product.setDimensions(productDto.getDimensions());
         product.setColor(productDto.getColor());
@@ -136,35 +293,440 @@ public class ProductServiceImpl implements ProductService {
         product.setIsFeatured(productDto.getIsFeatured());
         // SKU is not updated to maintain uniqueness
 
-        Product updatedProduct = productRepository.save(product);
+        // Flushed here so a version conflict surfaces now and the DTO carries the new updatedAt/version
+        Product updatedProduct = productRepository.saveAndFlush(product);
+        outbox.productChanged(updatedProduct, ChangeType.UPDATED);
+        categoryCounts.changed(before, CategoryCounts.ProductState.of(updatedProduct));
+        productCache.invalidate(id);
+        forgetInFlightLookups(product);
+        recordVersionAfterCommit(updatedProduct);
+        indexAfterCommit(updatedProduct);
+        return convertToDto(updatedProduct);
+    }
+
+    @Override
+    @Transactional
+    public ProductDto patchProduct(Long id, JsonNode patch, String ifMatch) {
+        Product product = productRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
+        MergePatch.Patched<ProductDto> patched = mergePatch.apply(convertToDto(product), patch, PATCHABLE.keySet());
+        WritePreconditions.check(Product.class, id, product.getVersion(), patched.value().getVersion(), ifMatch);
+        if (patched.touches("stockQuantity") && hotInventory.isHot(id)) {
+            throw new IllegalArgumentException("Stock of product " + id + " is managed by hot inventory; use increment/decrement");
+        }
+
+        Long versionBefore = product.getVersion();
+        CategoryCounts.ProductState before = CategoryCounts.ProductState.of(product);
+        for (String field : patched.fields()) {
+            PATCHABLE.get(field).accept(product, patched.value());
+        }
+
+        // With @DynamicUpdate the UPDATE lists only the columns the patch changed; an idempotent patch writes nothing
+        Product updatedProduct = productRepository.saveAndFlush(product);
+        if (!updatedProduct.getVersion().equals(versionBefore)) {
+            outbox.productChanged(updatedProduct, ChangeType.UPDATED);
+            categoryCounts.changed(before, CategoryCounts.ProductState.of(updatedProduct));
+        }
+        productCache.invalidate(id);
+        forgetInFlightLookups(product);
+        recordVersionAfterCommit(updatedProduct);
+        indexAfterCommit(updatedProduct);
         return convertToDto(updatedProduct);
     }
 
+    // A blind set: losing an optimistic race only means re-reading the row and setting it again
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ProductDto updateStock(Long id, Integer quantity) {
+        if (hotInventory.isHot(id)) {
+            throw new IllegalArgumentException("Stock of product " + id + " is managed by hot inventory; use increment/decrement");
+        }
+        return optimisticRetry.execute(() -> setStock(id, quantity));
+    }
+
+    private ProductDto setStock(Long id, Integer quantity) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
 
+        CategoryCounts.ProductState before = CategoryCounts.ProductState.of(product);
         product.setStockQuantity(quantity);
-        Product updatedProduct = productRepository.save(product);
+        Product updatedProduct = productRepository.saveAndFlush(product);
+        outbox.stockSet(id, updatedProduct.getVersion(), quantity);
+        categoryCounts.changed(before, CategoryCounts.ProductState.of(updatedProduct));
+        productCache.invalidate(id);
+        forgetInFlightLookups(product);
+        recordVersionAfterCommit(updatedProduct);
         return convertToDto(updatedProduct);
     }
 
+    // A row-level UPDATE commits in its own short transaction together with its outbox event;
+    // hot-inventory products never take a connection here
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public StockAdjustmentResult decrementStock(Long id, Integer quantity) {
+        int amount = requirePositiveQuantity(quantity);
+        if (hotInventory.isHot(id)) {
+            return new StockAdjustmentResult(id, -amount, hotInventory.tryDecrement(id, amount));
+        }
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        ProductRepository.StockState after = new TransactionTemplate(transactionManager).execute(status -> {
+            if (productRepository.decrementStock(id, amount, now) != 1) {
+                return null;
+            }
+            ProductRepository.StockState state = stockCountsChanged(id, -amount);
+            outbox.stockAdjusted(id, state.getVersion(), -amount);
+            return state;
+        });
+        if (after == null && !productRepository.existsById(id)) {
+            throw new RuntimeException("Product not found with id: " + id);
+        }
+        if (after != null) {
+            stockChanged(id, after);
+        }
+        return new StockAdjustmentResult(id, -amount, after != null);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public StockAdjustmentResult incrementStock(Long id, Integer quantity) {
+        int amount = requirePositiveQuantity(quantity);
+        if (hotInventory.isHot(id)) {
+            hotInventory.increment(id, amount);
+            return new StockAdjustmentResult(id, amount, true);
+        }
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        ProductRepository.StockState after = new TransactionTemplate(transactionManager).execute(status -> {
+            if (productRepository.incrementStock(id, amount, now) == 0) {
+                throw new RuntimeException("Product not found with id: " + id);
+            }
+            ProductRepository.StockState state = stockCountsChanged(id, amount);
+            outbox.stockAdjusted(id, state.getVersion(), amount);
+            return state;
+        });
+        stockChanged(id, after);
+        return new StockAdjustmentResult(id, amount, true);
+    }
+
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void deleteProduct(Long id) {
+        optimisticRetry.run(() -> softDelete(id));
+    }
+
+    private void softDelete(Long id) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
 
+        CategoryCounts.ProductState before = CategoryCounts.ProductState.of(product);
         // Soft delete
         product.setIsActive(false);
-        productRepository.save(product);
+        productRepository.saveAndFlush(product);
+        outbox.deleted(Outbox.PRODUCT, id, product.getVersion());
+        categoryCounts.changed(before, null);
+        productCache.invalidate(id);
+        forgetInFlightLookups(product);
+        recordVersionAfterCommit(product);
+        searchIndexAfterCommit(() -> productSearchIndex.remove(id, product.getVersion()));
+    }
+
+    @Override
+    @Transactional
+    public BulkDeactivateResult deactivateProducts(BulkDeactivateRequest request) {
+        long started = System.nanoTime();
+        int criteria = (request.getIds() != null ? 1 : 0) + (request.getBrand() != null ? 1 : 0)
+                + (request.getCategoryId() != null ? 1 : 0) + (request.getCategorySubtreeId() != null ? 1 : 0);
+        if (criteria != 1) {
+            throw new IllegalArgumentException("Exactly one of ids, brand, categoryId or categorySubtreeId is required");
+        }
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int deactivated;
+        List<ProductRepository.ProductKey> keys;
+        if (request.getIds() != null) {
+            BatchLookup.validate(request.getIds());
+            deactivated = productRepository.deactivateByIdIn(request.getIds(), now);
+            keys = productRepository.findKeysByIdInDeactivatedAt(request.getIds(), now);
+        } else if (request.getBrand() != null) {
+            deactivated = productRepository.deactivateByBrand(request.getBrand(), now);
+            keys = productRepository.findKeysByBrandDeactivatedAt(request.getBrand(), now);
+        } else if (request.getCategoryId() != null) {
+            deactivated = productRepository.deactivateByCategoryId(request.getCategoryId(), now);
+            keys = productRepository.findKeysByCategoryIdDeactivatedAt(request.getCategoryId(), now);
+        } else {
+            deactivated = productRepository.deactivateByCategorySubtree(request.getCategorySubtreeId(), now);
+            keys = productRepository.findKeysByCategorySubtreeDeactivatedAt(request.getCategorySubtreeId(), now);
+        }
+
+        List<Long> ids = keys.stream().map(ProductRepository.ProductKey::getId).toList();
+        for (ProductRepository.ProductKey key : keys) {
+            outbox.deleted(Outbox.PRODUCT, key.getId(), key.getVersion());
+            categoryCounts.changed(CategoryCounts.ProductState.of(key.getCategoryId(), true, key.getStockQuantity()), null);
+            requestCoalescer.forget(RequestCoalescer.PRODUCT_BY_ID, key.getId());
+            requestCoalescer.forget(RequestCoalescer.PRODUCT_BY_SKU, key.getSku());
+        }
+        searchIndexAfterCommit(() -> keys.forEach(key -> productSearchIndex.remove(key.getId(), key.getVersion())));
+        productCache.invalidateAll(ids);
+        requestCoalescer.forget(RequestCoalescer.FEATURED_PRODUCTS, RequestCoalescer.FEATURED_PRODUCTS);
+        TransactionCallbacks.afterCommit(() -> keys.forEach(key -> resourceVersions.recordProduct(key.getId(), key.getVersion(), now)));
+        return new BulkDeactivateResult(deactivated, (System.nanoTime() - started) / 1_000_000);
     }
 
     @Override
     public boolean existsBySku(String sku) {
+        // Most lookups are for SKUs that were never used; those are answered without a query
+        if (!existenceFilters.mightExist(ExistenceFilters.KeySpace.PRODUCT_SKU, sku)) {
+            return false;
+        }
         return productRepository.existsBySku(sku);
     }
 
+    @Override
+    public BatchGetResult<ProductDto> getProductsByIds(List<Long> ids) {
+        return BatchLookup.fetch(ids, productRepository::findAllById, Product::getId, this::convertToDto);
+    }
+
+    @Override
+    public BatchGetResult<ProductDto> getProductsBySkus(List<String> skus) {
+        return BatchLookup.fetch(skus, productRepository::findBySkuIn, Product::getSku, this::convertToDto);
+    }
+
+    @Override
+    public CursorPage<ProductDto> getAllProducts(String cursor, Integer limit) {
+        int pageSize = CursorCodec.normalizeLimit(limit);
+        List<ProductDto> rows = productRepository.findPageAfter(CursorCodec.decodeId(cursor), Limit.of(pageSize + 1));
+        return toIdPage(rows, pageSize);
+    }
+
+    @Override
+    public CursorPage<ProductDto> getActiveProducts(String cursor, Integer limit) {
+        int pageSize = CursorCodec.normalizeLimit(limit);
+        List<ProductDto> rows = productRepository.findActivePageAfter(CursorCodec.decodeId(cursor), Limit.of(pageSize + 1));
+        return toIdPage(rows, pageSize);
+    }
+
+    @Override
+    public CursorPage<ProductDto> getProductsByCategory(Long categoryId, String cursor, Integer limit) {
+        int pageSize = CursorCodec.normalizeLimit(limit);
+        List<ProductDto> rows = productRepository.findByCategoryPageAfter(categoryId, CursorCodec.decodeId(cursor), Limit.of(pageSize + 1));
+        return toIdPage(rows, pageSize);
+    }
+
+    @Override
+    public CursorPage<ProductDto> getProductsInCategorySubtree(Long categoryId, String cursor, Integer limit) {
+        int pageSize = CursorCodec.normalizeLimit(limit);
+        List<ProductDto> rows = productRepository.findByCategorySubtreePageAfter(categoryId, CursorCodec.decodeId(cursor), Limit.of(pageSize + 1));
+        return toIdPage(rows, pageSize);
+    }
+
+    @Override
+    public CursorPage<ProductDto> getFeaturedProducts(String cursor, Integer limit) {
+        int pageSize = CursorCodec.normalizeLimit(limit);
+        List<ProductDto> rows = productRepository.findFeaturedPageAfter(CursorCodec.decodeId(cursor), Limit.of(pageSize + 1));
+        return toIdPage(rows, pageSize);
+    }
+
+    @Override
+    public CursorPage<ProductDto> getProductsByBrand(String brand, String cursor, Integer limit) {
+        int pageSize = CursorCodec.normalizeLimit(limit);
+        List<ProductDto> rows = productRepository.findByBrandPageAfter(brand, CursorCodec.decodeId(cursor), Limit.of(pageSize + 1));
+        return toIdPage(rows, pageSize);
+    }
+
+    @Override
+    public CursorPage<ProductDto> getProductsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice, String cursor, Integer limit) {
+        int pageSize = CursorCodec.normalizeLimit(limit);
+        CursorCodec.PricePosition position = CursorCodec.decodePrice(cursor);
+        BigDecimal lastPrice = position != null ? position.getPrice() : minPrice;
+        long lastId = position != null ? position.getId() : 0L;
+
+        List<ProductDto> rows = productRepository.findByPriceRangePageAfter(minPrice, maxPrice, lastPrice, lastId, Limit.of(pageSize + 1));
+        return toPage(rows, pageSize, last -> CursorCodec.encodePrice(last.getPrice(), last.getId()));
+    }
+
+    @Override
+    public CursorPage<ProductDto> getInStockProducts(String cursor, Integer limit) {
+        int pageSize = CursorCodec.normalizeLimit(limit);
+        List<ProductDto> rows = productRepository.findInStockPageAfter(CursorCodec.decodeId(cursor), Limit.of(pageSize + 1));
+        return toIdPage(rows, pageSize);
+    }
+
+    @Override
+    public CursorPage<ProductDto> getOutOfStockProducts(String cursor, Integer limit) {
+        int pageSize = CursorCodec.normalizeLimit(limit);
+        List<ProductDto> rows = productRepository.findOutOfStockPageAfter(CursorCodec.decodeId(cursor), Limit.of(pageSize + 1));
+        return toIdPage(rows, pageSize);
+    }
+
+    @Override
+    public FacetedProductPage filterProducts(ProductFilter filter, String cursor, Integer limit) {
+        int pageSize = CursorCodec.normalizeLimit(limit);
+        List<ProductDto> rows = productRepository.findFilteredPageAfter(filter, CursorCodec.decodeId(cursor), pageSize + 1);
+        CursorPage<ProductDto> page = toIdPage(rows, pageSize);
+
+        ProductFacets facets = cursor == null ? computeFacets(filter) : null;
+        return new FacetedProductPage(page.getItems(), page.getNextCursor(), pageSize, facets);
+    }
+
+    private ProductFacets computeFacets(ProductFilter filter) {
+        ProductFacets facets = new ProductFacets();
+        facets.setBrands(productRepository.countByBrand(filter));
+        facets.setCategories(productRepository.countByCategory(filter));
+
+        List<Long> counts = productRepository.countByPriceBuckets(filter, priceBuckets);
+        List<PriceBucketCount> priceRanges = new ArrayList<>();
+        for (int i = 0; i < counts.size(); i++) {
+            BigDecimal min = i == 0 ? BigDecimal.ZERO : priceBuckets.get(i - 1);
+            BigDecimal max = i < priceBuckets.size() ? priceBuckets.get(i) : null;
+            priceRanges.add(new PriceBucketCount(min, max, counts.get(i)));
+        }
+        facets.setPriceRanges(priceRanges);
+        return facets;
+    }
+
+    @Override
+    public long exportProducts(CatalogFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+        JsonGenerator generator = null;
+        // Flushing after each value would send one chunk per product; the buffers decide instead
+        ObjectWriter rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        if (format == CatalogFormat.NDJSON) {
+            generator = objectMapper.getFactory().createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+        } else {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long count = 0;
+        try (Stream<Product> products = productRepository.streamAll()) {
+            Iterator<Product> iterator = products.iterator();
+            while (iterator.hasNext()) {
+                Product product = iterator.next();
+                if (generator != null) {
+                    rowWriter.writeValue(generator, convertToDto(product));
+                } else {
+                    writeCsvRow(writer, product);
+                }
+                // Evict each row once written so the persistence context never grows with the catalog
+                entityManager.detach(product);
+                count++;
+            }
+        }
+
+        if (generator != null) {
+            if (count > 0) {
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+        }
+        writer.flush();
+        return count;
+    }
+
+    private void writeCsvRow(Writer writer, Product product) throws IOException {
+        Object[] values = {
+                product.getId(), product.getSku(), product.getName(), product.getDescription(), product.getPrice(),
+                product.getCategoryId(), product.getBrand(), product.getStockQuantity(), product.getWeight(),
+                product.getDimensions(), product.getColor(), product.getSize(), product.getIsActive(), product.getIsFeatured()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(values[i]));
+        }
+        writer.write('\n');
+    }
+
+    private String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof BigDecimal ? ((BigDecimal) value).toPlainString() : value.toString();
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    private CursorPage<ProductDto> toIdPage(List<ProductDto> rows, int pageSize) {
+        return toPage(rows, pageSize, last -> CursorCodec.encodeId(last.getId()));
+    }
+
+    // Queries fetch pageSize + 1 rows; the extra row only tells us whether another page exists
+    private CursorPage<ProductDto> toPage(List<ProductDto> rows, int pageSize, Function<ProductDto, String> cursorOf) {
+        boolean hasMore = rows.size() > pageSize;
+        List<ProductDto> items = hasMore ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+        String nextCursor = hasMore ? cursorOf.apply(items.get(items.size() - 1)) : null;
+        return new CursorPage<>(items, nextCursor, pageSize);
+    }
+
+    private void forgetInFlightLookups(Product product) {
+        requestCoalescer.forget(RequestCoalescer.PRODUCT_BY_ID, product.getId());
+        requestCoalescer.forget(RequestCoalescer.PRODUCT_BY_SKU, product.getSku());
+        requestCoalescer.forget(RequestCoalescer.FEATURED_PRODUCTS, RequestCoalescer.FEATURED_PRODUCTS);
+    }
+
+    private int requirePositiveQuantity(Integer quantity) {
+        if (quantity == null || quantity < 1) {
+            throw new IllegalArgumentException("Quantity must be a positive number");
+        }
+        return quantity;
+    }
+
+    // The bulk UPDATE bypasses the entity, so nothing here knows the SKU: evicting by id also
+    // drops the SKU mapping, and only the by-id and featured in-flight lookups can be forgotten
+    private void stockChanged(Long id, ProductRepository.StockState after) {
+        productCache.invalidate(id);
+        requestCoalescer.forget(RequestCoalescer.PRODUCT_BY_ID, id);
+        requestCoalescer.forget(RequestCoalescer.FEATURED_PRODUCTS, RequestCoalescer.FEATURED_PRODUCTS);
+        TransactionCallbacks.afterCommit(() -> resourceVersions.recordProduct(id, after.getVersion(), after.getUpdatedAt()));
+    }
+
+    // Reads the row back under the UPDATE's lock: only a move across zero stock changes a counter
+    private ProductRepository.StockState stockCountsChanged(Long id, int delta) {
+        ProductRepository.StockState after = productRepository.findStockStateById(id);
+        categoryCounts.changed(
+                CategoryCounts.ProductState.of(after.getCategoryId(), after.getIsActive(), after.getStockQuantity() - delta),
+                CategoryCounts.ProductState.of(after.getCategoryId(), after.getIsActive(), after.getStockQuantity()));
+        return after;
+    }
+
+    private void indexAfterCommit(Product product) {
+        searchIndexAfterCommit(() -> productSearchIndex.index(product));
+    }
+
+    // A rolled-back write must not reach the index, which is only rebuilt at startup. Until the
+    // commit, the transaction is marked so its own searches read the database instead.
+    private void searchIndexAfterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.hasResource(PENDING_INDEX_UPDATES)) {
+            TransactionSynchronizationManager.bindResource(PENDING_INDEX_UPDATES, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void suspend() {
+                    TransactionSynchronizationManager.unbindResource(PENDING_INDEX_UPDATES);
+                }
+
+                @Override
+                public void resume() {
+                    TransactionSynchronizationManager.bindResource(PENDING_INDEX_UPDATES, Boolean.TRUE);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_INDEX_UPDATES);
+                }
+            });
+        }
+        TransactionCallbacks.afterCommit(update);
+    }
+
+    // version and updatedAt are only final once the commit-time flush has run
+    private void recordVersionAfterCommit(Product product) {
+        TransactionCallbacks.afterCommit(() -> resourceVersions.recordProduct(product.getId(), product.getVersion(), product.getUpdatedAt()));
+    }
+
     private ProductDto convertToDto(Product product) {
         ProductDto dto = new ProductDto();
         dto.setId(product.getId());
@@ -181,6 +743,8 @@ public class ProductServiceImpl implements ProductService {
         dto.setSize(product.getSize());
         dto.setIsActive(product.getIsActive());
         dto.setIsFeatured(product.getIsFeatured());
+        dto.setUpdatedAt(product.getUpdatedAt());
+        dto.setVersion(product.getVersion());
         return dto;
     }
 }
\ No newline at end of file
@@ -0,0 +1,248 @@
+// src/main/java/com/chandra/ecom_service/service/impl/StockFeedServiceImpl.java
+package com.chandra.ecom_service.service.impl;
+
+import com.chandra.ecom_service.cache.CategoryCounts;
+import com.chandra.ecom_service.cache.ProductCache;
+import com.chandra.ecom_service.cache.RequestCoalescer;
+import com.chandra.ecom_service.cache.ResourceVersions;
+import com.chandra.ecom_service.dto.ImportRowError;
+import com.chandra.ecom_service.dto.StockFeedReport;
+import com.chandra.ecom_service.dto.StockUpdateItem;
+import com.chandra.ecom_service.inventory.HotInventory;
+import com.chandra.ecom_service.outbox.Outbox;
+import com.chandra.ecom_service.service.StockFeedService;
+import com.chandra.ecom_service.util.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Warehouse stock feeds. Each chunk resolves its SKUs and ids with one IN query apiece and
+ * then sends all of its UPDATEs as JDBC batches, in a single transaction; no entity is loaded.
+ * Snapshots that match the stored quantity are skipped by the UPDATE itself, so a feed that
+ * repeats mostly unchanged figures costs neither version bumps nor cache evictions.
+ * Within a chunk, snapshots are applied before movements. Every applied line leaves a
+ * STOCK_CHANGED outbox event in the chunk's transaction.
+ */
+@Service
+public class StockFeedServiceImpl implements StockFeedService {
+
+    private static final String SET_STOCK = "UPDATE products SET stock_quantity = :quantity, version = version + 1, "
+            + "updated_at = :updatedAt WHERE id = :id AND stock_quantity <> :quantity";
+
+    private static final String ADJUST_STOCK = "UPDATE products SET stock_quantity = stock_quantity + :delta, "
+            + "version = version + 1, updated_at = :updatedAt WHERE id = :id AND stock_quantity + :delta >= 0";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private HotInventory hotInventory;
+
+    @Autowired
+    private Outbox outbox;
+
+    @Autowired
+    private CategoryCounts categoryCounts;
+
+    @Value("${app.inventory.feed.chunk-size:1000}")
+    private int chunkSize;
+
+    @Override
+    public StockFeedReport applyStockUpdates(List<StockUpdateItem> items) {
+        long started = System.nanoTime();
+        StockFeedReport report = new StockFeedReport();
+        report.setRequested(items.size());
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            int first = from;
+            List<StockUpdateItem> chunk = items.subList(from, Math.min(from + chunkSize, items.size()));
+            transaction.executeWithoutResult(status -> applyChunk(chunk, first, report));
+            report.setChunks(report.getChunks() + 1);
+        }
+        // Snapshot lines overwrite stock without knowing the old value, so recount instead of tracking zero crossings
+        if (report.getUpdated() > 0) {
+            categoryCounts.reconcile();
+        }
+        report.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+        return report;
+    }
+
+    private void applyChunk(List<StockUpdateItem> chunk, int offset, StockFeedReport report) {
+        List<Line> snapshots = new ArrayList<>();
+        List<Line> movements = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            StockUpdateItem item = chunk.get(i);
+            long row = offset + i + 1L;
+            boolean snapshot = item.getSku() != null || item.getQuantity() != null;
+            boolean movement = item.getId() != null || item.getDelta() != null;
+            if (snapshot == movement) {
+                reject(report, row, null, "Expected either sku and quantity, or id and delta");
+            } else if (snapshot && (item.getSku() == null || item.getQuantity() == null)) {
+                reject(report, row, item.getSku(), "Snapshot needs both sku and quantity");
+            } else if (snapshot && item.getQuantity() < 0) {
+                reject(report, row, item.getSku(), "Quantity cannot be negative");
+            } else if (movement && (item.getId() == null || item.getDelta() == null)) {
+                reject(report, row, idKey(item.getId()), "Movement needs both id and delta");
+            } else {
+                (snapshot ? snapshots : movements).add(new Line(row, item));
+            }
+        }
+
+        Map<String, Long> idsBySku = lookup("SELECT id, sku FROM products WHERE sku IN (:keys)",
+                snapshots.stream().map(line -> line.item().getSku()).distinct().toList());
+        Map<Long, String> skusById = new HashMap<>();
+        idsBySku.forEach((sku, id) -> skusById.put(id, sku));
+        lookup("SELECT id, sku FROM products WHERE id IN (:keys)",
+                movements.stream().map(line -> line.item().getId()).distinct().toList())
+                .forEach((sku, id) -> skusById.put(id, sku));
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<Line> setLines = new ArrayList<>();
+        List<SqlParameterSource> setParams = new ArrayList<>();
+        for (Line line : snapshots) {
+            Long id = idsBySku.get(line.item().getSku());
+            if (id == null) {
+                report.getUnknownSkus().add(line.item().getSku());
+            } else if (!isHot(id, line, report)) {
+                setLines.add(line);
+                setParams.add(new MapSqlParameterSource().addValue("id", id)
+                        .addValue("quantity", line.item().getQuantity()).addValue("updatedAt", now));
+            }
+        }
+        List<Line> adjustLines = new ArrayList<>();
+        List<SqlParameterSource> adjustParams = new ArrayList<>();
+        for (Line line : movements) {
+            Long id = line.item().getId();
+            if (!skusById.containsKey(id)) {
+                report.getUnknownIds().add(id);
+            } else if (!isHot(id, line, report)) {
+                adjustLines.add(line);
+                adjustParams.add(new MapSqlParameterSource().addValue("id", id)
+                        .addValue("delta", line.item().getDelta()).addValue("updatedAt", now));
+            }
+        }
+
+        List<Long> changed = new ArrayList<>();
+        List<StockUpdateItem> appliedItems = new ArrayList<>();
+        int[] setCounts = jdbcTemplate.batchUpdate(SET_STOCK, setParams.toArray(SqlParameterSource[]::new));
+        for (int i = 0; i < setCounts.length; i++) {
+            // Zero rows here means the quantity was already current
+            if (applied(setCounts[i])) {
+                Long id = idsBySku.get(setLines.get(i).item().getSku());
+                changed.add(id);
+                appliedItems.add(setLines.get(i).item());
+            } else {
+                report.setUnchanged(report.getUnchanged() + 1);
+            }
+        }
+        int[] adjustCounts = jdbcTemplate.batchUpdate(ADJUST_STOCK, adjustParams.toArray(SqlParameterSource[]::new));
+        for (int i = 0; i < adjustCounts.length; i++) {
+            Line line = adjustLines.get(i);
+            if (applied(adjustCounts[i])) {
+                changed.add(line.item().getId());
+                appliedItems.add(line.item());
+            } else {
+                reject(report, line.row(), idKey(line.item().getId()), "Delta would take stock below zero");
+            }
+        }
+        report.setUpdated(report.getUpdated() + changed.size());
+
+        // Read back under the UPDATEs' row locks, so each version is the one this chunk committed
+        Map<Long, Long> versions = versions(changed);
+        // Each applied line added one to its product's version, in the order the lines ran
+        Map<Long, Long> lineVersions = new HashMap<>(versions);
+        changed.forEach(id -> lineVersions.merge(id, -1L, Long::sum));
+        for (int i = 0; i < changed.size(); i++) {
+            Long id = changed.get(i);
+            StockUpdateItem item = appliedItems.get(i);
+            long version = lineVersions.merge(id, 1L, Long::sum);
+            if (item.getQuantity() != null) {
+                outbox.stockSet(id, version, item.getQuantity());
+            } else {
+                outbox.stockAdjusted(id, version, item.getDelta());
+            }
+        }
+        for (Long id : changed) {
+            productCache.invalidate(id);
+            requestCoalescer.forget(RequestCoalescer.PRODUCT_BY_ID, id);
+            requestCoalescer.forget(RequestCoalescer.PRODUCT_BY_SKU, skusById.get(id));
+        }
+        TransactionCallbacks.afterCommit(() -> versions.forEach((id, version) -> resourceVersions.recordProduct(id, version, now)));
+        if (!changed.isEmpty()) {
+            requestCoalescer.forget(RequestCoalescer.FEATURED_PRODUCTS, RequestCoalescer.FEATURED_PRODUCTS);
+        }
+    }
+
+    // sku -> id for the rows matching the given keys
+    private Map<String, Long> lookup(String sql, List<?> keys) {
+        Map<String, Long> found = new HashMap<>();
+        if (keys.isEmpty()) {
+            return found;
+        }
+        jdbcTemplate.query(sql, Map.of("keys", keys), rs -> {
+            found.put(rs.getString("sku"), rs.getLong("id"));
+        });
+        return found;
+    }
+
+    private Map<Long, Long> versions(List<Long> ids) {
+        Map<Long, Long> found = new HashMap<>();
+        if (ids.isEmpty()) {
+            return found;
+        }
+        jdbcTemplate.query("SELECT id, version FROM products WHERE id IN (:keys)", Map.of("keys", ids), rs -> {
+            found.put(rs.getLong("id"), rs.getLong("version"));
+        });
+        return found;
+    }
+
+    private boolean isHot(Long id, Line line, StockFeedReport report) {
+        if (!hotInventory.isHot(id)) {
+            return false;
+        }
+        reject(report, line.row(), line.item().getSku() != null ? line.item().getSku() : idKey(id),
+                "Stock is managed by hot inventory");
+        return true;
+    }
+
+    private static boolean applied(int count) {
+        return count > 0 || count == Statement.SUCCESS_NO_INFO;
+    }
+
+    private static String idKey(Long id) {
+        return id != null ? id.toString() : null;
+    }
+
+    private static void reject(StockFeedReport report, long row, String key, String message) {
+        report.getErrors().add(new ImportRowError(row, key, message));
+    }
+
+    private record Line(long row, StockUpdateItem item) {
+    }
+}
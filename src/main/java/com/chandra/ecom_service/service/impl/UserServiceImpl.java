@@ -1,28 +1,53 @@
 // src/main/java/com/chandra/ecom_service/service/impl/UserServiceImpl.java
 package com.chandra.ecom_service.service.impl;
 
+import com.chandra.ecom_service.cache.ExistenceFilters;
+import com.chandra.ecom_service.dto.BatchGetResult;
 import com.chandra.ecom_service.dto.UserDto;
 import com.chandra.ecom_service.entity.User;
 import com.chandra.ecom_service.repository.UserRepository;
 import com.chandra.ecom_service.service.UserService;
+import com.chandra.ecom_service.util.BatchLookup;
+import com.chandra.ecom_service.util.MergePatch;
+import com.chandra.ecom_service.util.OptimisticRetry;
+import com.chandra.ecom_service.util.UniqueConstraints;
+import com.chandra.ecom_service.util.WritePreconditions;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class UserServiceImpl implements UserService {
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MergePatch mergePatch;
+
+    @Autowired
+    private ExistenceFilters existenceFilters;
+
+    @Autowired
+    private OptimisticRetry optimisticRetry;
+
+    // Email stays immutable as on PUT
+    private static final Map<String, BiConsumer<User, UserDto>> PATCHABLE = Map.of(
+            "firstName", (user, dto) -> user.setFirstName(dto.getFirstName()),
+            "lastName", (user, dto) -> user.setLastName(dto.getLastName()),
+            "phoneNumber", (user, dto) -> user.setPhoneNumber(dto.getPhoneNumber()));
+
     @Override
+    @Transactional
     public UserDto createUser(UserDto userDto, String password) {
-        if (existsByEmail(userDto.getEmail())) {
-            throw new RuntimeException("User with email " + userDto.getEmail() + " already exists");
-        }
-
         User user = new User();
         user.setFirstName(userDto.getFirstName());
         user.setLastName(userDto.getLastName());
@@ -30,7 +55,10 @@ public class UserServiceImpl implements UserService {
         user.setPhoneNumber(userDto.getPhoneNumber());
         user.setPassword(password); // In real app, this should be hashed
 
-        User savedUser = userRepository.save(user);
+        // The unique constraint on email rejects duplicates; no exists query first
+        existenceFilters.added(ExistenceFilters.KeySpace.USER_EMAIL, user.getEmail());
+        User savedUser = UniqueConstraints.insert(() -> userRepository.saveAndFlush(user),
+                "User with email " + userDto.getEmail() + " already exists");
         return convertToDto(savedUser);
     }
 
@@ -57,21 +85,51 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
     public UserDto updateUser(Long id, UserDto userDto) {
+        return updateUser(id, userDto, null);
+    }
+
+    @Override
+    @Transactional
+    public UserDto updateUser(Long id, UserDto userDto, String ifMatch) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
+        WritePreconditions.check(User.class, id, user.getVersion(), userDto.getVersion(), ifMatch);
 
         user.setFirstName(userDto.getFirstName());
         user.setLastName(userDto.getLastName());
         user.setPhoneNumber(userDto.getPhoneNumber());
         // Email update would need additional validation in real app
 
-        User updatedUser = userRepository.save(user);
+        // Flushed here so a version conflict surfaces now and the DTO carries the new updatedAt/version
+        User updatedUser = userRepository.saveAndFlush(user);
+        return convertToDto(updatedUser);
+    }
+
+    @Override
+    @Transactional
+    public UserDto patchUser(Long id, JsonNode patch, String ifMatch) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
+        MergePatch.Patched<UserDto> patched = mergePatch.apply(convertToDto(user), patch, PATCHABLE.keySet());
+        WritePreconditions.check(User.class, id, user.getVersion(), patched.value().getVersion(), ifMatch);
+
+        for (String field : patched.fields()) {
+            PATCHABLE.get(field).accept(user, patched.value());
+        }
+
+        User updatedUser = userRepository.saveAndFlush(user);
         return convertToDto(updatedUser);
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void deleteUser(Long id) {
+        optimisticRetry.run(() -> softDelete(id));
+    }
+
+    private void softDelete(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
 
@@ -82,9 +140,23 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public boolean existsByEmail(String email) {
+        // Signup checks are mostly for unused addresses; those are answered without a query
+        if (!existenceFilters.mightExist(ExistenceFilters.KeySpace.USER_EMAIL, email)) {
+            return false;
+        }
         return userRepository.existsByEmail(email);
     }
 
+    @Override
+    public BatchGetResult<UserDto> getUsersByIds(List<Long> ids) {
+        return BatchLookup.fetch(ids, userRepository::findAllById, User::getId, this::convertToDto);
+    }
+
+    @Override
+    public BatchGetResult<UserDto> getUsersByEmails(List<String> emails) {
+        return BatchLookup.fetch(emails, userRepository::findByEmailIn, User::getEmail, this::convertToDto);
+    }
+
     private UserDto convertToDto(User user) {
         UserDto dto = new UserDto();
         dto.setId(user.getId());
@@ -92,6 +164,8 @@ public class UserServiceImpl implements UserService {
         dto.setLastName(user.getLastName());
         dto.setEmail(user.getEmail());
         dto.setPhoneNumber(user.getPhoneNumber());
+        dto.setUpdatedAt(user.getUpdatedAt());
+        dto.setVersion(user.getVersion());
         return dto;
     }
 }
\ No newline at end of file
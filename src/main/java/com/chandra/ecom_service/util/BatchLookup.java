@@ -0,0 +1,69 @@
+// src/main/java/com/chandra/ecom_service/util/BatchLookup.java
+package com.chandra.ecom_service.util;
+
+import com.chandra.ecom_service.dto.BatchGetRequest;
+import com.chandra.ecom_service.dto.BatchGetResult;
+import com.chandra.ecom_service.dto.BatchItem;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Resolves a batch of keys with as few IN queries as possible and lays the results back
+ * out in request order. Keys are de-duplicated and split into chunks so a single statement
+ * never carries more than IN_CHUNK_SIZE bind parameters.
+ */
+public final class BatchLookup {
+
+    public static final int MAX_BATCH_SIZE = 1000;
+    public static final int IN_CHUNK_SIZE = 500;
+
+    private BatchLookup() {}
+
+    public static <K, E, D> BatchGetResult<D> fetch(List<K> keys,
+                                                    Function<List<K>, List<E>> query,
+                                                    Function<E, K> keyOf,
+                                                    Function<E, D> toDto) {
+        validate(keys);
+
+        List<K> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        Map<K, D> found = new HashMap<>();
+        for (int from = 0; from < distinct.size(); from += IN_CHUNK_SIZE) {
+            List<K> chunk = distinct.subList(from, Math.min(from + IN_CHUNK_SIZE, distinct.size()));
+            for (E entity : query.apply(chunk)) {
+                found.put(keyOf.apply(entity), toDto.apply(entity));
+            }
+        }
+
+        List<BatchItem<D>> items = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            items.add(new BatchItem<>(key, found.get(key)));
+        }
+        return new BatchGetResult<>(items);
+    }
+
+    // True when the request addresses items by natural key rather than by id
+    public static boolean byKeys(BatchGetRequest request) {
+        if (request.getIds() != null && request.getKeys() != null) {
+            throw new IllegalArgumentException("Specify either ids or keys, not both");
+        }
+        return request.getKeys() != null;
+    }
+
+    public static void validate(List<?> keys) {
+        if (keys == null || keys.isEmpty()) {
+            throw new IllegalArgumentException("At least one id or key is required");
+        }
+        if (keys.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " keys can be requested at once");
+        }
+        if (keys.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Batch keys must not be null");
+        }
+    }
+}
@@ -0,0 +1,104 @@
+// src/main/java/com/chandra/ecom_service/util/CursorCodec.java
+package com.chandra.ecom_service.util;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes the opaque cursor tokens used for keyset pagination.
+ * A cursor carries the position of the last row of a page: its id, and for
+ * sorted listings the sort key as well. Clients must treat it as opaque.
+ */
+public final class CursorCodec {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private static final String ID_PREFIX = "id";
+    private static final String PRICE_PREFIX = "price";
+
+    private CursorCodec() {}
+
+    public static int normalizeLimit(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    public static String encodeId(Long id) {
+        return encode(ID_PREFIX + ":" + id);
+    }
+
+    /**
+     * Returns the id after which the next page starts, or 0 for the first page.
+     */
+    public static long decodeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        String[] parts = decode(cursor, ID_PREFIX, 2);
+        return parseId(parts[1]);
+    }
+
+    public static String encodePrice(BigDecimal price, Long id) {
+        return encode(PRICE_PREFIX + ":" + price.toPlainString() + ":" + id);
+    }
+
+    /**
+     * Returns the (price, id) position of the last row seen, or null for the first page.
+     */
+    public static PricePosition decodePrice(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts = decode(cursor, PRICE_PREFIX, 3);
+        try {
+            return new PricePosition(new BigDecimal(parts[1]), parseId(parts[2]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decode(String cursor, String expectedPrefix, int expectedParts) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        String[] parts = raw.split(":");
+        if (parts.length != expectedParts || !parts[0].equals(expectedPrefix)) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return parts;
+    }
+
+    private static long parseId(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor id: " + value);
+        }
+    }
+
+    public static final class PricePosition {
+
+        private final BigDecimal price;
+        private final long id;
+
+        public PricePosition(BigDecimal price, long id) {
+            this.price = price;
+            this.id = id;
+        }
+
+        public BigDecimal getPrice() { return price; }
+
+        public long getId() { return id; }
+    }
+}
@@ -0,0 +1,96 @@
+// src/main/java/com/chandra/ecom_service/util/MergePatch.java
+package com.chandra.ecom_service.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * JSON Merge Patch (RFC 7396) applied to a resource's DTO. Members present in the patch replace
+ * the current value, null removes it, absent members are left alone. The merged copy is validated
+ * like a full PUT body, and the caller gets back the names of the members the patch touched so it
+ * only sets those on the entity; with dynamic updates Hibernate then writes just the columns that
+ * actually changed.
+ *
+ * "version" is always accepted and acts as the expected entity version, as on PUT.
+ */
+@Component
+public class MergePatch {
+
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    public static final String VERSION = "version";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    public <T> Patched<T> apply(T current, JsonNode patch, Set<String> patchable) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("Merge patch must be a JSON object");
+        }
+        Set<String> fields = new LinkedHashSet<>();
+        for (Iterator<String> names = patch.fieldNames(); names.hasNext(); ) {
+            String name = names.next();
+            if (!VERSION.equals(name) && !patchable.contains(name)) {
+                throw new IllegalArgumentException("Field " + name + " cannot be patched");
+            }
+            fields.add(name);
+        }
+
+        @SuppressWarnings("unchecked")
+        Class<T> type = (Class<T>) current.getClass();
+        T merged;
+        try {
+            merged = objectMapper.treeToValue(merge(objectMapper.valueToTree(current), patch), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid value: " + e.getOriginalMessage());
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(merged);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        fields.remove(VERSION);
+        return new Patched<>(merged, fields);
+    }
+
+    // RFC 7396 section 2
+    static JsonNode merge(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+        ObjectNode result = target != null && target.isObject() ? (ObjectNode) target : JsonNodeFactory.instance.objectNode();
+        for (Map.Entry<String, JsonNode> member : patch.properties()) {
+            if (member.getValue().isNull()) {
+                result.remove(member.getKey());
+            } else {
+                result.set(member.getKey(), merge(result.get(member.getKey()), member.getValue()));
+            }
+        }
+        return result;
+    }
+
+    public record Patched<T>(T value, Set<String> fields) {
+
+        public boolean touches(String field) {
+            return fields.contains(field);
+        }
+    }
+}
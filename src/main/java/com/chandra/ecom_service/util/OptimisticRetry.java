@@ -0,0 +1,79 @@
+// src/main/java/com/chandra/ecom_service/util/OptimisticRetry.java
+package com.chandra.ecom_service.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Opt-in retry for blind writes that lose an optimistic-lock race: absolute stock sets and
+ * soft deletes, which carry no version of their own. Each attempt runs in a fresh
+ * transaction so it re-reads the current row; between attempts it sleeps a random ("full
+ * jitter") share of an exponentially growing backoff, so colliding writers spread out
+ * instead of retrying in lockstep. Contention costs a re-read, never a held database lock.
+ * Not for writes that carry the client's version or If-Match: those get 409 or 412 and the
+ * client decides.
+ */
+@Component
+public class OptimisticRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+
+    public OptimisticRetry(PlatformTransactionManager transactionManager,
+                           @Value("${app.retry.optimistic.max-attempts:4}") int maxAttempts,
+                           @Value("${app.retry.optimistic.base-backoff:10ms}") Duration baseBackoff) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Optimistic retry needs at least one attempt");
+        }
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoff.toMillis();
+    }
+
+    public <T> T execute(Supplier<T> work) {
+        // Inside an outer transaction every attempt would see the same stale snapshot, so the
+        // work runs once in it and a conflict is left to whoever owns that transaction
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                backOff(attempt, e);
+            }
+        }
+    }
+
+    public void run(Runnable work) {
+        execute(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private void backOff(int attempt, OptimisticLockingFailureException cause) {
+        long ceiling = baseBackoffMillis << Math.min(attempt - 1, 10);
+        if (ceiling <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+// src/main/java/com/chandra/ecom_service/util/UniqueConstraints.java
+package com.chandra.ecom_service.util;
+
+import com.chandra.ecom_service.exception.DuplicateResourceException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+/**
+ * Creates let the database's unique constraints decide duplicates: the INSERT is simply
+ * attempted and a unique violation becomes a {@link DuplicateResourceException} (409). An
+ * exists query up front costs a round trip and still races with a concurrent create.
+ * The insert must flush, so the violation surfaces here rather than at commit.
+ */
+public final class UniqueConstraints {
+
+    // SQLSTATE for unique_violation (PostgreSQL, H2)
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private UniqueConstraints() {}
+
+    public static <T> T insert(Supplier<T> insert, String conflictMessage) {
+        try {
+            return insert.get();
+        } catch (DataIntegrityViolationException e) {
+            if (isUniqueViolation(e)) {
+                throw new DuplicateResourceException(conflictMessage, e);
+            }
+            throw e;
+        }
+    }
+
+    public static boolean isUniqueViolation(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE) {
+                return true;
+            }
+            if (cause instanceof SQLException sql && UNIQUE_VIOLATION.equals(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,25 @@
+// src/main/java/com/chandra/ecom_service/util/WritePreconditions.java
+package com.chandra.ecom_service.util;
+
+import com.chandra.ecom_service.cache.ResourceVersions;
+import com.chandra.ecom_service.exception.PreconditionFailedException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+/**
+ * Checks an update against the row it was loaded from, before anything is changed. If-Match
+ * (the ETag from a GET) fails with 412; a stale version in the body fails with 409, the same
+ * outcome as losing the race at flush time.
+ */
+public final class WritePreconditions {
+
+    private WritePreconditions() {}
+
+    public static void check(Class<?> entityType, Long id, Long currentVersion, Long expectedVersion, String ifMatch) {
+        if (!ResourceVersions.ifMatchSatisfied(ifMatch, currentVersion)) {
+            throw new PreconditionFailedException(entityType.getSimpleName() + " " + id + " does not match If-Match " + ifMatch);
+        }
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new ObjectOptimisticLockingFailureException(entityType, id);
+        }
+    }
+}
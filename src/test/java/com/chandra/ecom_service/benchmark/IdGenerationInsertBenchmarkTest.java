@@ -0,0 +1,125 @@
+// src/test/java/com/chandra/ecom_service/benchmark/IdGenerationInsertBenchmarkTest.java
+package com.chandra.ecom_service.benchmark;
+
+import com.chandra.ecom_service.entity.Product;
+import com.chandra.ecom_service.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Persists products through JPA with pooled sequence ids and JDBC batching, against a
+ * row-at-a-time baseline that mimics IDENTITY (one INSERT round trip per row). In-memory H2
+ * has no network latency, so the statement count is the figure to compare; wall time only
+ * favours batching against a real server.
+ * Disabled by default; run with
+ * {@code mvn test -Dtest=IdGenerationInsertBenchmarkTest -Dbenchmark=true}.
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class IdGenerationInsertBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int CHUNK = 1_000;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void pooledSequenceShouldBatchInsertsWithFewRoundTrips() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // Baseline: a generated-key INSERT per row, as IDENTITY forces
+        long started = System.nanoTime();
+        for (int from = 0; from < ROWS; from += CHUNK) {
+            int start = from;
+            transaction.executeWithoutResult(status -> {
+                for (int i = start; i < start + CHUNK; i++) {
+                    jdbcTemplate.update("INSERT INTO products (id, name, price, sku, stock_quantity, is_active, is_featured, version) "
+                            + "VALUES (?, ?, 10, ?, 0, true, false, 0)", -(i + 1L), "Identity " + i, "IDENT-" + i);
+                }
+            });
+        }
+        double identityMillis = (System.nanoTime() - started) / 1e6;
+        jdbcTemplate.update("DELETE FROM products");
+
+        statistics.clear();
+        started = System.nanoTime();
+        for (int from = 0; from < ROWS; from += CHUNK) {
+            int start = from;
+            transaction.executeWithoutResult(status -> {
+                List<Product> chunk = new ArrayList<>(CHUNK);
+                for (int i = start; i < start + CHUNK; i++) {
+                    chunk.add(product(i));
+                }
+                chunk.forEach(entityManager::persist);
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        double pooledMillis = (System.nanoTime() - started) / 1e6;
+        long statements = statistics.getPrepareStatementCount();
+
+        System.out.printf("%nInsert %d products in chunks of %d%n", ROWS, CHUNK);
+        System.out.printf("  row-at-a-time (IDENTITY-like) : %8.1f ms %8d statements%n", identityMillis, ROWS);
+        System.out.printf("  pooled sequence + batching    : %8.1f ms %8d statements%n", pooledMillis, statements);
+
+        assertThat(productRepository.count()).isEqualTo(ROWS);
+        // One sequence call per allocation block plus one statement per insert batch
+        assertThat(statements).isLessThan(ROWS / 10);
+    }
+
+    private Product product(int i) {
+        Product product = new Product();
+        product.setName("Pooled " + i);
+        product.setPrice(BigDecimal.TEN);
+        product.setSku("POOLED-" + i);
+        product.setStockQuantity(0);
+        product.setIsActive(true);
+        product.setIsFeatured(false);
+        return product;
+    }
+}
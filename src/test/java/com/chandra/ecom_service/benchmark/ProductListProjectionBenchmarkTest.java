@@ -0,0 +1,130 @@
+// src/test/java/com/chandra/ecom_service/benchmark/ProductListProjectionBenchmarkTest.java
+package com.chandra.ecom_service.benchmark;
+
+import com.chandra.ecom_service.dto.ProductDto;
+import com.chandra.ecom_service.entity.Product;
+import com.chandra.ecom_service.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the old list path (hydrate Product entities, then copy into ProductDto) with the
+ * summary projection used by the list endpoints. Disabled by default; run with
+ * {@code mvn test -Dtest=ProductListProjectionBenchmarkTest -Dbenchmark=true}.
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ProductListProjectionBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 20;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        String description = "Long marketing copy. ".repeat(100);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Object[]{(long) i + 1, "Product " + i, description, 10 + (i % 500), "BENCH-" + i, (long) (i % 20),
+                    "Brand" + (i % 50), i % 7, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO products (id, name, description, price, sku, category_id, brand, "
+                + "stock_quantity, is_active, is_featured, created_at, updated_at, version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, true, false, ?, ?, 0)", rows);
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void projectionShouldAllocateLessThanEntityHydration() {
+        Result entity = measure(() -> productRepository.findByIsActiveTrue().stream()
+                .map(this::toDto)
+                .collect(Collectors.toList()));
+        Result projection = measure(() -> productRepository.findActiveSummaries());
+
+        System.out.printf("%nList of %d active products, %d iterations%n", ROWS, MEASURED_ITERATIONS);
+        System.out.printf("  entity + convertToDto : %8.1f ms/op %10.1f MB/op%n", entity.millisPerOp, entity.megabytesPerOp);
+        System.out.printf("  summary projection    : %8.1f ms/op %10.1f MB/op%n", projection.millisPerOp, projection.megabytesPerOp);
+
+        assertThat(projection.megabytesPerOp).isLessThan(entity.megabytesPerOp);
+    }
+
+    private Result measure(Supplier<List<ProductDto>> listing) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertThat(listing.get()).hasSize(ROWS);
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            listing.get();
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        return new Result(elapsed / 1e6 / MEASURED_ITERATIONS, allocated / 1024.0 / 1024.0 / MEASURED_ITERATIONS);
+    }
+
+    private ProductDto toDto(Product product) {
+        ProductDto dto = new ProductDto();
+        dto.setId(product.getId());
+        dto.setName(product.getName());
+        dto.setDescription(product.getDescription());
+        dto.setPrice(product.getPrice());
+        dto.setSku(product.getSku());
+        dto.setCategoryId(product.getCategoryId());
+        dto.setBrand(product.getBrand());
+        dto.setStockQuantity(product.getStockQuantity());
+        dto.setWeight(product.getWeight());
+        dto.setDimensions(product.getDimensions());
+        dto.setColor(product.getColor());
+        dto.setSize(product.getSize());
+        dto.setIsActive(product.getIsActive());
+        dto.setIsFeatured(product.getIsFeatured());
+        return dto;
+    }
+
+    private static final class Result {
+        private final double millisPerOp;
+        private final double megabytesPerOp;
+
+        private Result(double millisPerOp, double megabytesPerOp) {
+            this.millisPerOp = millisPerOp;
+            this.megabytesPerOp = megabytesPerOp;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+// src/test/java/com/chandra/ecom_service/cache/BloomFilterTest.java
+package com.chandra.ecom_service.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+    @Test
+    void shouldNeverMissAKeyAndStayNearTheConfiguredRate() {
+        // Given
+        BloomFilter filter = BloomFilter.forExpected(10_000, 0.01, 1 << 20);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("SKU-" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 10_000; i < 110_000; i++) {
+            if (filter.mightContain("SKU-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("SKU-" + i)).isTrue();
+        }
+        assertThat(falsePositives).isLessThan(2_000);
+        assertThat(filter.hashCount()).isEqualTo(7);
+    }
+
+    @Test
+    void shouldCapSizeAtMaxBytes() {
+        // When
+        BloomFilter filter = BloomFilter.forExpected(10_000_000, 0.001, 1024);
+
+        // Then
+        assertThat(filter.bitSize()).isEqualTo(8 * 1024);
+        assertThat(filter.hashCount()).isEqualTo(1);
+        assertThatThrownBy(() -> BloomFilter.forExpected(100, 1.0, 1024))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,65 @@
+// src/test/java/com/chandra/ecom_service/cache/ProductCacheTest.java
+package com.chandra.ecom_service.cache;
+
+import com.chandra.ecom_service.dto.ProductDto;
+import com.chandra.ecom_service.testutils.ProductTestDataBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductCacheTest {
+
+    private final ProductCache cache = new ProductCache(1_000_000L, 1_000L);
+
+    @Test
+    void shouldLoadOnceAndResolveSkuThroughIdIndex() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        ProductDto dto = ProductTestDataBuilder.createProductDto();
+
+        // When
+        cache.getById(1L, id -> { loads.incrementAndGet(); return dto; });
+        cache.getById(1L, id -> { loads.incrementAndGet(); return dto; });
+        ProductDto bySku = cache.getBySku("IPHONE15PRO001", sku -> { loads.incrementAndGet(); return dto; });
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(bySku).isSameAs(dto);
+        assertThat(cache.stats().getHitCount()).isEqualTo(2);
+        assertThat(cache.stats().getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDropBothKeysOnInvalidate() {
+        // Given
+        ProductDto dto = ProductTestDataBuilder.createProductDto();
+        cache.put(dto);
+
+        // When
+        cache.invalidate(1L);
+
+        // Then
+        AtomicInteger loads = new AtomicInteger();
+        cache.getBySku("IPHONE15PRO001", sku -> { loads.incrementAndGet(); return dto; });
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCacheFailedLoads() {
+        assertThatThrownBy(() -> cache.getById(9L, id -> { throw new RuntimeException("Product not found with id: 9"); }))
+                .hasMessageContaining("not found");
+        assertThat(cache.stats().getEstimatedSize()).isZero();
+    }
+
+    @Test
+    void shouldWeighEntriesByContentSize() {
+        ProductDto small = ProductTestDataBuilder.createProductDto();
+        ProductDto large = ProductTestDataBuilder.createProductDto();
+        large.setDescription("x".repeat(10_000));
+
+        assertThat(ProductCache.estimateWeight(large)).isGreaterThan(ProductCache.estimateWeight(small) + 19_000);
+    }
+}
@@ -0,0 +1,101 @@
+// src/test/java/com/chandra/ecom_service/cache/SingleFlightTest.java
+package com.chandra.ecom_service.cache;
+
+import com.chandra.ecom_service.dto.CoalescingStatsDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>("test");
+
+    @Test
+    void shouldShareOneExecutionAcrossConcurrentCallers() throws Exception {
+        // Given
+        int callers = 16;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("SKU-1", () -> {
+                loads.incrementAndGet();
+                await(release);
+                return "value";
+            })));
+        }
+        while (singleFlight.stats().getCoalesced() < callers - 1) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        executor.shutdown();
+        CoalescingStatsDto stats = singleFlight.stats();
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(stats.getExecutions()).isEqualTo(1);
+        assertThat(stats.getCoalesced()).isEqualTo(callers - 1);
+        assertThat(stats.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldPropagateLoaderFailureAndNotRetainIt() {
+        // When & Then
+        assertThatThrownBy(() -> singleFlight.execute("SKU-1", () -> {
+            throw new RuntimeException("Product not found with SKU: SKU-1");
+        })).hasMessageContaining("not found");
+
+        assertThat(singleFlight.execute("SKU-1", () -> "value")).isEqualTo("value");
+        assertThat(singleFlight.stats().getExecutions()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldStartFreshExecutionAfterForget() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> stale = executor.submit(() -> singleFlight.execute("SKU-1", () -> {
+            started.countDown();
+            await(release);
+            return "old";
+        }));
+        started.await();
+
+        // When
+        singleFlight.forget("SKU-1");
+        String fresh = singleFlight.execute("SKU-1", () -> "new");
+        release.countDown();
+
+        // Then
+        assertThat(fresh).isEqualTo("new");
+        assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo("old");
+        assertThat(singleFlight.stats().getCoalesced()).isZero();
+        executor.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+// src/test/java/com/chandra/ecom_service/config/ReadWriteRoutingDataSourceTest.java
+package com.chandra.ecom_service.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readTx;
+
+    @BeforeEach
+    void setUp() {
+        ReadYourWritesContext.clear();
+        DataSource primary = h2("rw_primary");
+        DataSource replica1 = h2("rw_replica1");
+        DataSource replica2 = h2("rw_replica2");
+        for (String[] db : new String[][] {{"rw_primary", "primary"}, {"rw_replica1", "replica-1"}, {"rw_replica2", "replica-2"}}) {
+            JdbcTemplate template = new JdbcTemplate(h2(db[0]));
+            template.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+            template.execute("DELETE FROM node");
+            template.update("INSERT INTO node VALUES (?)", db[1]);
+        }
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(2, Duration.ofSeconds(5));
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.PRIMARY, primary,
+                ReadWriteRoutingDataSource.REPLICA_PREFIX + 0, replica1,
+                ReadWriteRoutingDataSource.REPLICA_PREFIX + 1, replica2));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTx = new TransactionTemplate(transactionManager);
+        readTx = new TransactionTemplate(transactionManager);
+        readTx.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    void shouldRouteReadOnlyTransactionsToReplicasRoundRobin() {
+        // When
+        String first = readTx.execute(status -> currentNode());
+        String second = readTx.execute(status -> currentNode());
+        String third = readTx.execute(status -> currentNode());
+
+        // Then
+        assertThat(first).startsWith("replica-");
+        assertThat(second).startsWith("replica-").isNotEqualTo(first);
+        assertThat(third).isEqualTo(first);
+    }
+
+    @Test
+    void shouldRouteWritesAndNonTransactionalCallsToPrimary() {
+        // When
+        String inWrite = writeTx.execute(status -> currentNode());
+        ReadYourWritesContext.clear();
+        String outsideTx = currentNode();
+
+        // Then
+        assertThat(inWrite).isEqualTo("primary");
+        assertThat(outsideTx).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldKeepReadsOnPrimaryWithinStickinessWindowAfterWrite() {
+        // Given
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO node VALUES ('written')"));
+
+        // When
+        String afterWrite = readTx.execute(status -> currentNode());
+        ReadYourWritesContext.clear();
+        String afterWindow = readTx.execute(status -> currentNode());
+
+        // Then
+        assertThat(afterWrite).isEqualTo("primary");
+        assertThat(afterWindow).startsWith("replica-");
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node WHERE name <> 'written'", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
@@ -0,0 +1,56 @@
+// src/test/java/com/chandra/ecom_service/config/ReadYourWritesFilterTest.java
+package com.chandra.ecom_service.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    void shouldMarkWriteEvenWhenBodyCommitsTheResponse() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setBufferSize(16);
+
+        // When: a write, then a body larger than the buffer
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/products/import"), response, (req, res) -> {
+            ReadYourWritesContext.markWrite();
+            res.getOutputStream().write(new byte[1024]);
+        });
+
+        // Then
+        assertThat(response.isCommitted()).isTrue();
+        assertThat(response.getHeader(ReadYourWritesFilter.HEADER_NAME)).isNotNull();
+        assertThat(response.getCookie(ReadYourWritesFilter.COOKIE_NAME)).isNotNull();
+    }
+
+    @Test
+    void shouldMarkBodilessWriteAndLeaveReadsAlone() throws Exception {
+        // When
+        MockHttpServletResponse write = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/api/products/1"), write,
+                (req, res) -> ReadYourWritesContext.markWrite());
+        MockHttpServletResponse read = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/products/1"), read,
+                (req, res) -> res.getWriter().write("{}"));
+
+        // Then
+        assertThat(write.getCookies()).hasSize(1);
+        assertThat(write.getHeader(ReadYourWritesFilter.HEADER_NAME)).isNotNull();
+        assertThat(read.getHeader(ReadYourWritesFilter.HEADER_NAME)).isNull();
+        assertThat(read.getCookies()).isEmpty();
+    }
+}
@@ -20,6 +20,7 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -133,7 +134,7 @@ class UserControllerTest {
     @Test
     void updateUser_Success() throws Exception {
         // Given
-        when(userService.updateUser(any(Long.class), any(UserDto.class))).thenReturn(userDto);
+        when(userService.updateUser(any(Long.class), any(UserDto.class), isNull())).thenReturn(userDto);
 
         // When & Then
         mockMvc.perform(put("/api/users/1")
@@ -0,0 +1,176 @@
+// src/test/java/com/chandra/ecom_service/integration/BulkDeactivateIntegrationTest.java
+package com.chandra.ecom_service.integration;
+
+import com.chandra.ecom_service.dto.BulkDeactivateRequest;
+import com.chandra.ecom_service.dto.BulkDeactivateResult;
+import com.chandra.ecom_service.dto.CategoryDto;
+import com.chandra.ecom_service.dto.ProductDto;
+import com.chandra.ecom_service.repository.CategoryRepository;
+import com.chandra.ecom_service.repository.ProductRepository;
+import com.chandra.ecom_service.service.CategoryService;
+import com.chandra.ecom_service.service.ProductService;
+import com.chandra.ecom_service.testutils.CategoryTestDataBuilder;
+import com.chandra.ecom_service.testutils.ProductTestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class BulkDeactivateIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    void shouldDeactivateBrandInOneStepAndEvictCachedCopies() throws Exception {
+        // Given
+        ProductDto iphone = createProduct("IPHONE001", "Apple", 1L);
+        createProduct("MACBOOK001", "Apple", 2L);
+        ProductDto retired = createProduct("IPOD001", "Apple", 1L);
+        ProductDto galaxy = createProduct("GALAXY001", "Samsung", 1L);
+        productService.deleteProduct(retired.getId());
+        assertThat(productService.getProductById(iphone.getId()).getIsActive()).isTrue();
+        assertThat(productService.getProductBySku("MACBOOK001").getIsActive()).isTrue();
+
+        // When
+        mockMvc.perform(post("/api/products/deactivate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"brand\":\"Apple\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deactivated").value(2));
+
+        // Then
+        assertThat(productService.getProductById(iphone.getId()).getIsActive()).isFalse();
+        assertThat(productService.getProductBySku("MACBOOK001").getIsActive()).isFalse();
+        assertThat(productService.getProductById(iphone.getId()).getVersion()).isEqualTo(iphone.getVersion() + 1);
+        assertThat(productService.getProductById(galaxy.getId()).getIsActive()).isTrue();
+        assertThat(productService.getActiveProducts()).extracting(ProductDto::getSku).containsExactly("GALAXY001");
+        assertThat(productService.searchProducts("IPHONE001", 10)).isEmpty();
+        assertThat(productService.searchProducts("GALAXY001", 10)).hasSize(1);
+    }
+
+    @Test
+    void shouldDeactivateByIdsOrCategoryAndRejectAmbiguousRequests() throws Exception {
+        // Given
+        ProductDto first = createProduct("FIRST001", "Apple", 1L);
+        ProductDto second = createProduct("SECOND001", "Apple", 2L);
+        createProduct("THIRD001", "Samsung", 2L);
+
+        // When
+        BulkDeactivateResult byIds = productService.deactivateProducts(BulkDeactivateRequest.ofIds(List.of(first.getId(), -1L)));
+        BulkDeactivateResult byCategory = productService.deactivateProducts(BulkDeactivateRequest.ofCategory(2L));
+        BulkDeactivateResult again = productService.deactivateProducts(BulkDeactivateRequest.ofIds(List.of(second.getId())));
+
+        // Then
+        assertThat(byIds.getDeactivated()).isEqualTo(1);
+        assertThat(byCategory.getDeactivated()).isEqualTo(2);
+        assertThat(again.getDeactivated()).isZero();
+        assertThat(productService.getActiveProducts()).isEmpty();
+        mockMvc.perform(post("/api/products/deactivate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"brand\":\"Apple\",\"categoryId\":1}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldDeactivateCategoriesByIds() throws Exception {
+        // Given
+        CategoryDto electronics = categoryService.createCategory(CategoryTestDataBuilder.createCategoryDto());
+        CategoryDto clothing = categoryService.createCategory(CategoryTestDataBuilder.createClothingCategoryDto());
+        assertThat(categoryService.getCategoryById(electronics.getId()).getIsActive()).isTrue();
+
+        // When
+        mockMvc.perform(post("/api/categories/deactivate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[" + electronics.getId() + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deactivated").value(1));
+
+        // Then
+        assertThat(categoryService.getCategoryById(electronics.getId()).getIsActive()).isFalse();
+        assertThat(categoryService.getActiveCategories()).extracting(CategoryDto::getId).containsExactly(clothing.getId());
+        assertThatThrownBy(() -> categoryService.deactivateCategories(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldLeaveSearchIndexAloneWhenTheWriteRollsBack() {
+        // Given
+        ProductDto iphone = createProduct("IPHONE001", "Apple", null);
+        ProductDto galaxy = createProduct("GALAXY001", "Samsung", null);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // When
+        transaction.executeWithoutResult(status -> {
+            productService.deactivateProducts(BulkDeactivateRequest.ofIds(List.of(iphone.getId())));
+            productService.deleteProduct(galaxy.getId());
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(productService.getProductById(iphone.getId()).getIsActive()).isTrue();
+        assertThat(productService.searchProducts("IPHONE001", 10)).hasSize(1);
+        assertThat(productService.searchProducts("GALAXY001", 10)).hasSize(1);
+    }
+
+    private ProductDto createProduct(String sku, String brand, Long categoryId) {
+        ProductDto dto = ProductTestDataBuilder.createProductDto();
+        dto.setSku(sku);
+        dto.setName("Model " + sku);
+        dto.setBrand(brand);
+        dto.setCategoryId(categoryId);
+        return productService.createProduct(dto);
+    }
+}
@@ -0,0 +1,153 @@
+// src/test/java/com/chandra/ecom_service/integration/CatalogImportIntegrationTest.java
+package com.chandra.ecom_service.integration;
+
+import com.chandra.ecom_service.dto.CatalogFormat;
+import com.chandra.ecom_service.dto.ImportReport;
+import com.chandra.ecom_service.entity.Category;
+import com.chandra.ecom_service.entity.Product;
+import com.chandra.ecom_service.repository.CategoryRepository;
+import com.chandra.ecom_service.repository.ProductRepository;
+import com.chandra.ecom_service.service.CatalogImportService;
+import com.chandra.ecom_service.service.ProductService;
+import com.chandra.ecom_service.testutils.CategoryTestDataBuilder;
+import com.chandra.ecom_service.testutils.ProductTestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.import.chunk-size=2"
+})
+class CatalogImportIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CatalogImportService catalogImportService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    void shouldImportValidNdjsonRowsAndReportTheRest() throws Exception {
+        // Given
+        String body = String.join("\n",
+                "{\"name\":\"iPhone 15 Pro\",\"price\":999.99,\"sku\":\"IPHONE15PRO001\",\"brand\":\"Apple\"}",
+                "{\"name\":\"broken\",",
+                "{\"name\":\"No price\",\"sku\":\"NOPRICE001\"}",
+                "",
+                "{\"name\":\"iPhone again\",\"price\":899.99,\"sku\":\"IPHONE15PRO001\"}",
+                "{\"name\":\"iPad Pro\",\"price\":1099.00,\"sku\":\"IPAD001\",\"isFeatured\":true}");
+
+        // When & Then
+        mockMvc.perform(post("/api/products/import").param("format", "ndjson").content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsRead").value(5))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.chunks").value(2))
+                .andExpect(jsonPath("$.errors[0].row").value(2))
+                .andExpect(jsonPath("$.errors[1].message").value("price: Price is required"))
+                .andExpect(jsonPath("$.errors[2].message").value("Duplicate key within the import"));
+
+        Product ipad = productRepository.findBySku("IPAD001").orElseThrow();
+        assertThat(ipad.getIsFeatured()).isTrue();
+        assertThat(ipad.getIsActive()).isTrue();
+        assertThat(ipad.getStockQuantity()).isZero();
+        assertThat(ipad.getUpdatedAt()).isNotNull();
+    }
+
+    @Test
+    void shouldRoundTripGzipCsvExport() throws Exception {
+        // Given
+        Product iphone = ProductTestDataBuilder.createProductEntity();
+        iphone.setId(null);
+        iphone.setDescription("Line one, with \"quotes\"\nline two");
+        productRepository.save(iphone);
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        productService.exportProducts(CatalogFormat.CSV, csv);
+        productRepository.deleteAll();
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(csv.toByteArray());
+        }
+
+        // When & Then
+        mockMvc.perform(post("/api/products/import").param("format", "csv")
+                        .header("Content-Encoding", "gzip")
+                        .content(compressed.toByteArray()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.failed").value(0));
+
+        Product imported = productRepository.findBySku("IPHONE15PRO001").orElseThrow();
+        assertThat(imported.getDescription()).isEqualTo("Line one, with \"quotes\"\nline two");
+        assertThat(imported.getPrice()).isEqualByComparingTo(iphone.getPrice());
+    }
+
+    @Test
+    void shouldSkipCategoriesThatAlreadyExist() throws Exception {
+        // Given
+        Category existing = CategoryTestDataBuilder.createCategoryEntity();
+        existing.setId(null);
+        categoryRepository.save(existing);
+        String csv = "name,description,parentCategoryId\n"
+                + "Electronics,Duplicate,\n"
+                + "Books,Printed and digital books,\n"
+                + "Toys,,\n";
+
+        // When
+        ImportReport report = catalogImportService.importCategories(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), CatalogFormat.CSV);
+
+        // Then
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getFailed()).isEqualTo(1);
+        assertThat(report.getErrors().get(0).getKey()).isEqualTo("Electronics");
+        assertThat(categoryRepository.findByName("Toys")).isPresent();
+        assertThat(categoryRepository.findByName("Toys").get().getIsActive()).isTrue();
+    }
+}
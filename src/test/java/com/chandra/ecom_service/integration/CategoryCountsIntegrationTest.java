@@ -0,0 +1,154 @@
+// src/test/java/com/chandra/ecom_service/integration/CategoryCountsIntegrationTest.java
+package com.chandra.ecom_service.integration;
+
+import com.chandra.ecom_service.cache.CategoryCounts;
+import com.chandra.ecom_service.dto.CategoryDto;
+import com.chandra.ecom_service.dto.ProductDto;
+import com.chandra.ecom_service.entity.Product;
+import com.chandra.ecom_service.repository.CategoryRepository;
+import com.chandra.ecom_service.repository.ProductRepository;
+import com.chandra.ecom_service.service.CategoryService;
+import com.chandra.ecom_service.service.ProductService;
+import com.chandra.ecom_service.testutils.ProductTestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class CategoryCountsIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CategoryCounts categoryCounts;
+
+    private MockMvc mockMvc;
+
+    private CategoryDto electronics;
+    private CategoryDto phones;
+    private CategoryDto clothing;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        categoryCounts.reconcile();
+        electronics = createCategory("Electronics", null);
+        phones = createCategory("Phones", electronics.getId());
+        clothing = createCategory("Clothing", null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        categoryCounts.reconcile();
+    }
+
+    @Test
+    void shouldFollowProductWritesIncrementally() throws Exception {
+        // Given
+        ProductDto tv = createProduct("TV001", electronics.getId(), 5);
+        ProductDto iphone = createProduct("IPHONE001", phones.getId(), 2);
+        createProduct("PIXEL001", phones.getId(), 0);
+
+        // Then
+        assertCounts(phones.getId(), 2, 1, 2, 1);
+        assertCounts(electronics.getId(), 1, 1, 3, 2);
+
+        // When: selling out, deleting and moving products
+        productService.decrementStock(iphone.getId(), 2);
+        productService.deleteProduct(tv.getId());
+        mockMvc.perform(patch("/api/products/{id}", iphone.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"categoryId\":" + clothing.getId() + ",\"stockQuantity\":4}"))
+                .andExpect(status().isOk());
+
+        // Then
+        assertCounts(phones.getId(), 1, 0, 1, 0);
+        assertCounts(electronics.getId(), 0, 0, 1, 0);
+        assertCounts(clothing.getId(), 1, 1, 1, 1);
+        mockMvc.perform(get("/api/categories/tree"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Clothing"))
+                .andExpect(jsonPath("$[0].inStockProductCount").value(1))
+                .andExpect(jsonPath("$[1].subtreeActiveProductCount").value(1))
+                .andExpect(jsonPath("$[1].children[0].activeProductCount").value(1));
+        assertThat(categoryCounts.reconcile()).isZero();
+    }
+
+    @Test
+    void shouldCorrectDriftOnReconciliation() {
+        // Given: a row written behind the service's back is not counted
+        createProduct("TV001", electronics.getId(), 1);
+        Product direct = new Product("Radio", new BigDecimal("49.99"), "RADIO001");
+        direct.setCategoryId(electronics.getId());
+        direct.setStockQuantity(3);
+        productRepository.saveAndFlush(direct);
+        assertCounts(electronics.getId(), 1, 1, 1, 1);
+
+        // When
+        int corrected = categoryCounts.reconcile();
+
+        // Then
+        assertThat(corrected).isEqualTo(1);
+        assertCounts(electronics.getId(), 2, 2, 2, 2);
+    }
+
+    private void assertCounts(Long categoryId, long active, long inStock, long subtreeActive, long subtreeInStock) {
+        CategoryDto category = categoryService.getCategoryById(categoryId);
+        assertThat(category.getActiveProductCount()).isEqualTo(active);
+        assertThat(category.getInStockProductCount()).isEqualTo(inStock);
+        assertThat(category.getSubtreeActiveProductCount()).isEqualTo(subtreeActive);
+        assertThat(category.getSubtreeInStockProductCount()).isEqualTo(subtreeInStock);
+    }
+
+    private CategoryDto createCategory(String name, Long parentId) {
+        CategoryDto dto = new CategoryDto(name, name + " department");
+        dto.setParentCategoryId(parentId);
+        return categoryService.createCategory(dto);
+    }
+
+    private ProductDto createProduct(String sku, Long categoryId, int stock) {
+        ProductDto dto = ProductTestDataBuilder.createProductDto();
+        dto.setSku(sku);
+        dto.setName("Model " + sku);
+        dto.setCategoryId(categoryId);
+        dto.setStockQuantity(stock);
+        return productService.createProduct(dto);
+    }
+}
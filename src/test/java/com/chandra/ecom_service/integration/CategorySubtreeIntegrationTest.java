@@ -0,0 +1,178 @@
+// src/test/java/com/chandra/ecom_service/integration/CategorySubtreeIntegrationTest.java
+package com.chandra.ecom_service.integration;
+
+import com.chandra.ecom_service.dto.CategoryDto;
+import com.chandra.ecom_service.dto.CursorPage;
+import com.chandra.ecom_service.dto.ProductDto;
+import com.chandra.ecom_service.repository.CategoryRepository;
+import com.chandra.ecom_service.repository.ProductRepository;
+import com.chandra.ecom_service.service.CategoryService;
+import com.chandra.ecom_service.service.ProductService;
+import com.chandra.ecom_service.testutils.ProductTestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class CategorySubtreeIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ProductService productService;
+
+    private MockMvc mockMvc;
+
+    private CategoryDto electronics;
+    private CategoryDto phones;
+    private CategoryDto smartphones;
+    private CategoryDto clothing;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        electronics = createCategory("Electronics", null);
+        phones = createCategory("Phones", electronics.getId());
+        smartphones = createCategory("Smartphones", phones.getId());
+        createCategory("Laptops", electronics.getId());
+        clothing = createCategory("Clothing", null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    void shouldListActiveProductsOfWholeSubtreeAcrossPages() throws Exception {
+        // Given
+        ProductDto tv = createProduct("TV001", electronics.getId());
+        ProductDto landline = createProduct("PHONE001", phones.getId());
+        ProductDto iphone = createProduct("IPHONE001", smartphones.getId());
+        ProductDto retired = createProduct("IPHONE000", smartphones.getId());
+        createProduct("SHIRT001", clothing.getId());
+        productService.deleteProduct(retired.getId());
+
+        // When
+        List<String> skus = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<ProductDto> page = productService.getProductsInCategorySubtree(electronics.getId(), cursor, 2);
+            page.getItems().forEach(product -> skus.add(product.getSku()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // Then
+        assertThat(skus).containsExactly(tv.getSku(), landline.getSku(), iphone.getSku());
+        mockMvc.perform(get("/api/products/category/{categoryId}/subtree", phones.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[1].sku").value(iphone.getSku()));
+    }
+
+    @Test
+    void shouldMoveWholeSubtreeAndRejectCycles() throws Exception {
+        // Given
+        ProductDto iphone = createProduct("IPHONE001", smartphones.getId());
+
+        // When: Phones (with Smartphones below it) moves from Electronics to Clothing
+        mockMvc.perform(patch("/api/categories/{id}", phones.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"parentCategoryId\":" + clothing.getId() + "}"))
+                .andExpect(status().isOk());
+
+        // Then
+        assertThat(productService.getProductsInCategorySubtree(electronics.getId(), null, 10).getItems()).isEmpty();
+        assertThat(productService.getProductsInCategorySubtree(clothing.getId(), null, 10).getItems())
+                .extracting(ProductDto::getId).containsExactly(iphone.getId());
+        mockMvc.perform(patch("/api/categories/{id}", clothing.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"parentCategoryId\":" + smartphones.getId() + "}"))
+                .andExpect(status().isBadRequest());
+        CategoryDto selfParent = categoryService.getCategoryById(electronics.getId());
+        selfParent.setParentCategoryId(electronics.getId());
+        assertThatThrownBy(() -> categoryService.updateCategory(electronics.getId(), selfParent))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(categoryService.getCategoryById(clothing.getId()).getParentCategoryId()).isNull();
+
+        // And moving back to the root level keeps the subtree together
+        CategoryDto toRoot = categoryService.getCategoryById(phones.getId());
+        toRoot.setParentCategoryId(null);
+        categoryService.updateCategory(phones.getId(), toRoot);
+        assertThat(productService.getProductsInCategorySubtree(clothing.getId(), null, 10).getItems()).isEmpty();
+        assertThat(productService.getProductsInCategorySubtree(phones.getId(), null, 10).getItems())
+                .extracting(ProductDto::getId).containsExactly(iphone.getId());
+    }
+
+    @Test
+    void shouldRejectMissingParentOnCreateAndUpdate() throws Exception {
+        // Given
+        long missingId = clothing.getId() + 1_000;
+        CategoryDto orphan = new CategoryDto("Orphans", "No such parent");
+        orphan.setParentCategoryId(missingId);
+
+        // When & Then
+        assertThatThrownBy(() -> categoryService.createCategory(orphan))
+                .hasMessage("Category not found with id: " + missingId);
+        assertThat(categoryService.existsByName("Orphans")).isFalse();
+
+        CategoryDto reparented = categoryService.getCategoryById(clothing.getId());
+        reparented.setParentCategoryId(missingId);
+        assertThatThrownBy(() -> categoryService.updateCategory(clothing.getId(), reparented))
+                .hasMessage("Category not found with id: " + missingId);
+        mockMvc.perform(patch("/api/categories/{id}", clothing.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"parentCategoryId\":" + missingId + "}"))
+                .andExpect(status().isNotFound());
+        assertThat(categoryService.getCategoryById(clothing.getId()).getParentCategoryId()).isNull();
+    }
+
+    private CategoryDto createCategory(String name, Long parentId) {
+        CategoryDto dto = new CategoryDto(name, name + " department");
+        dto.setParentCategoryId(parentId);
+        return categoryService.createCategory(dto);
+    }
+
+    private ProductDto createProduct(String sku, Long categoryId) {
+        ProductDto dto = ProductTestDataBuilder.createProductDto();
+        dto.setSku(sku);
+        dto.setName("Model " + sku);
+        dto.setCategoryId(categoryId);
+        return productService.createProduct(dto);
+    }
+}
@@ -0,0 +1,165 @@
+// src/test/java/com/chandra/ecom_service/integration/CategorySubtreeOperationsIntegrationTest.java
+package com.chandra.ecom_service.integration;
+
+import com.chandra.ecom_service.cache.CategoryCounts;
+import com.chandra.ecom_service.dto.CategoryDto;
+import com.chandra.ecom_service.dto.ProductDto;
+import com.chandra.ecom_service.dto.SubtreeDeactivateResult;
+import com.chandra.ecom_service.repository.CategoryRepository;
+import com.chandra.ecom_service.repository.ProductRepository;
+import com.chandra.ecom_service.service.CategoryService;
+import com.chandra.ecom_service.service.ProductService;
+import com.chandra.ecom_service.testutils.ProductTestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class CategorySubtreeOperationsIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CategoryCounts categoryCounts;
+
+    private MockMvc mockMvc;
+
+    private CategoryDto electronics;
+    private CategoryDto phones;
+    private CategoryDto smartphones;
+    private CategoryDto clothing;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        categoryCounts.reconcile();
+        electronics = createCategory("Electronics", null);
+        phones = createCategory("Phones", electronics.getId());
+        smartphones = createCategory("Smartphones", phones.getId());
+        clothing = createCategory("Clothing", null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        categoryCounts.reconcile();
+    }
+
+    @Test
+    void shouldDeactivateSubtreeWithItsProducts() throws Exception {
+        // Given
+        ProductDto tv = createProduct("TV001", electronics.getId());
+        createProduct("PHONE001", phones.getId());
+        createProduct("IPHONE001", smartphones.getId());
+        ProductDto shirt = createProduct("SHIRT001", clothing.getId());
+
+        // When
+        mockMvc.perform(post("/api/categories/{id}/deactivate-subtree", phones.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categoriesDeactivated").value(2))
+                .andExpect(jsonPath("$.productsDeactivated").value(2));
+
+        // Then
+        assertThat(categoryService.getCategoryById(smartphones.getId()).getIsActive()).isFalse();
+        assertThat(productService.getProductsInCategorySubtree(electronics.getId(), null, 10).getItems())
+                .extracting(ProductDto::getId).containsExactly(tv.getId());
+        assertThat(productService.getProductById(shirt.getId()).getIsActive()).isTrue();
+        assertThat(categoryService.getCategoryById(electronics.getId()).getSubtreeActiveProductCount()).isEqualTo(1);
+        mockMvc.perform(get("/api/categories/{id}/tree", electronics.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.children.length()").value(0));
+        assertThat(categoryCounts.reconcile()).isZero();
+
+        // And running it again changes nothing
+        SubtreeDeactivateResult again = categoryService.deactivateCategorySubtree(phones.getId());
+        assertThat(again.getCategoriesDeactivated()).isZero();
+        assertThat(again.getProductsDeactivated()).isZero();
+        mockMvc.perform(post("/api/categories/{id}/deactivate-subtree", 999_999L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldMoveSubtreeAndRejectCycles() throws Exception {
+        // Given
+        ProductDto iphone = createProduct("IPHONE001", smartphones.getId());
+
+        // When
+        mockMvc.perform(post("/api/categories/{id}/move", phones.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"parentCategoryId\":" + clothing.getId() + "}"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.parentCategoryId").value(clothing.getId()));
+
+        // Then
+        assertThat(productService.getProductsInCategorySubtree(electronics.getId(), null, 10).getItems()).isEmpty();
+        assertThat(productService.getProductsInCategorySubtree(clothing.getId(), null, 10).getItems())
+                .extracting(ProductDto::getId).containsExactly(iphone.getId());
+        mockMvc.perform(get("/api/categories/{id}/tree", clothing.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.children[0].children[0].name").value("Smartphones"))
+                .andExpect(jsonPath("$.subtreeActiveProductCount").value(1));
+        mockMvc.perform(post("/api/categories/{id}/move", clothing.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"parentCategoryId\":" + smartphones.getId() + "}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/categories/{id}/move", phones.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"parentCategoryId\":999999}"))
+                .andExpect(status().isNotFound());
+
+        // And moving to the root level keeps the subtree together
+        categoryService.moveCategory(phones.getId(), null, null, null);
+        assertThat(productService.getProductsInCategorySubtree(phones.getId(), null, 10).getItems())
+                .extracting(ProductDto::getId).containsExactly(iphone.getId());
+        assertThat(categoryService.getCategoryById(clothing.getId()).getSubtreeActiveProductCount()).isZero();
+    }
+
+    private CategoryDto createCategory(String name, Long parentId) {
+        CategoryDto dto = new CategoryDto(name, name + " department");
+        dto.setParentCategoryId(parentId);
+        return categoryService.createCategory(dto);
+    }
+
+    private ProductDto createProduct(String sku, Long categoryId) {
+        ProductDto dto = ProductTestDataBuilder.createProductDto();
+        dto.setSku(sku);
+        dto.setName("Model " + sku);
+        dto.setCategoryId(categoryId);
+        return productService.createProduct(dto);
+    }
+}
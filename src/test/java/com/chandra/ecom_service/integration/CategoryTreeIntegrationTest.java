@@ -0,0 +1,132 @@
+// src/test/java/com/chandra/ecom_service/integration/CategoryTreeIntegrationTest.java
+package com.chandra.ecom_service.integration;
+
+import com.chandra.ecom_service.cache.CategoryTree;
+import com.chandra.ecom_service.dto.CategoryDto;
+import com.chandra.ecom_service.dto.CategoryTreeNode;
+import com.chandra.ecom_service.repository.CategoryRepository;
+import com.chandra.ecom_service.repository.ProductRepository;
+import com.chandra.ecom_service.service.CategoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class CategoryTreeIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryTree categoryTree;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        categoryTree.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        categoryTree.refresh();
+    }
+
+    @Test
+    void shouldServeWholeHierarchyInOneCall() throws Exception {
+        // Given
+        CategoryDto electronics = createCategory("Electronics", null);
+        CategoryDto phones = createCategory("Phones", electronics.getId());
+        CategoryDto smartphones = createCategory("Smartphones", phones.getId());
+        createCategory("Laptops", electronics.getId());
+        createCategory("Clothing", null);
+
+        // When & Then
+        mockMvc.perform(get("/api/categories/tree"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$[*].name").value(contains("Clothing", "Electronics")))
+                .andExpect(jsonPath("$[1].children[*].name").value(contains("Laptops", "Phones")))
+                .andExpect(jsonPath("$[1].children[1].children[0].name").value("Smartphones"))
+                .andExpect(jsonPath("$[1].children[1].children[0].depth").value(2));
+        mockMvc.perform(get("/api/categories/{id}/tree", phones.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.depth").value(1))
+                .andExpect(jsonPath("$.ancestorIds[0]").value(electronics.getId()))
+                .andExpect(jsonPath("$.children[0].id").value(smartphones.getId()))
+                .andExpect(jsonPath("$.children[0].ancestorIds.length()").value(2));
+        mockMvc.perform(get("/api/categories/{id}/tree", -1L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldPublishNewSnapshotOnWritesAndKeepOldOnesIntact() throws Exception {
+        // Given
+        CategoryDto electronics = createCategory("Electronics", null);
+        CategoryDto phones = createCategory("Phones", electronics.getId());
+        createCategory("Smartphones", phones.getId());
+        CategoryTree.Snapshot before = categoryTree.snapshot();
+        String etag = mockMvc.perform(get("/api/categories/tree"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/categories/tree").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // When: deactivating a category hides it together with everything below it
+        categoryService.deactivateCategories(List.of(phones.getId()));
+        CategoryDto renamed = categoryService.getCategoryById(electronics.getId());
+        renamed.setName("Consumer Electronics");
+        categoryService.updateCategory(electronics.getId(), renamed);
+
+        // Then
+        CategoryTree.Snapshot after = categoryTree.snapshot();
+        assertThat(after.size()).isEqualTo(1);
+        assertThat(after.roots()).extracting(CategoryTreeNode::getName).containsExactly("Consumer Electronics");
+        assertThat(after.roots().get(0).getChildren()).isEmpty();
+        assertThat(before.size()).isEqualTo(3);
+        assertThat(before.roots().get(0).getName()).isEqualTo("Electronics");
+        mockMvc.perform(get("/api/categories/tree").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    private CategoryDto createCategory(String name, Long parentId) {
+        CategoryDto dto = new CategoryDto(name, name + " department");
+        dto.setParentCategoryId(parentId);
+        return categoryService.createCategory(dto);
+    }
+}
@@ -0,0 +1,214 @@
+// src/test/java/com/chandra/ecom_service/integration/ConditionalGetIntegrationTest.java
+package com.chandra.ecom_service.integration;
+
+import com.chandra.ecom_service.cache.ResourceVersions;
+import com.chandra.ecom_service.dto.CategoryDto;
+import com.chandra.ecom_service.dto.ProductDto;
+import com.chandra.ecom_service.repository.CategoryRepository;
+import com.chandra.ecom_service.repository.ProductRepository;
+import com.chandra.ecom_service.service.CategoryService;
+import com.chandra.ecom_service.service.ProductService;
+import com.chandra.ecom_service.testutils.CategoryTestDataBuilder;
+import com.chandra.ecom_service.testutils.ProductTestDataBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class ConditionalGetIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoSpyBean
+    private ProductService productService;
+
+    @MockitoSpyBean
+    private CategoryService categoryService;
+
+    private MockMvc mockMvc;
+
+    private ProductDto product;
+
+    private CategoryDto category;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+
+        product = productService.createProduct(ProductTestDataBuilder.createProductDto());
+        category = categoryService.createCategory(CategoryTestDataBuilder.createCategoryDto());
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    void shouldAnswerProductRevalidationWithoutLoadingEntity() throws Exception {
+        // Given
+        MvcResult first = mockMvc.perform(get("/api/products/{id}", product.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        clearInvocations(productService);
+
+        // When & Then
+        mockMvc.perform(get("/api/products/{id}", product.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+        verify(productService, never()).getProductById(anyLong());
+    }
+
+    @Test
+    void shouldIssueNewEtagAfterProductUpdate() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/products/{id}", product.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When
+        productService.updateStock(product.getId(), 3);
+
+        // Then
+        MvcResult result = mockMvc.perform(get("/api/products/{id}", product.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stockQuantity").value(3))
+                .andReturn();
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+    }
+
+    @Test
+    void shouldTakeEtagFromVersionColumnAfterAtomicStockUpdate() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/products/{id}", product.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When
+        productService.decrementStock(product.getId(), 1);
+
+        // Then
+        long version = productRepository.findById(product.getId()).orElseThrow().getVersion();
+        mockMvc.perform(get("/api/products/{id}", product.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ResourceVersions.etag(version)));
+        mockMvc.perform(get("/api/products/{id}", product.getId()).header(HttpHeaders.IF_NONE_MATCH, ResourceVersions.etag(version)))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void shouldNotRevalidateCategoryByDateBecauseItsCountsChangeWithoutTheRow() throws Exception {
+        // Given
+        String lastSeen = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusMinutes(1));
+        MvcResult first = mockMvc.perform(get("/api/categories/{id}", category.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                .andReturn();
+        long activeProducts = objectMapper.readValue(first.getResponse().getContentAsString(), CategoryDto.class).getActiveProductCount();
+
+        // When
+        ProductDto inCategory = ProductTestDataBuilder.createProductDto();
+        inCategory.setSku("DATED_PRODUCT");
+        inCategory.setCategoryId(category.getId());
+        productService.createProduct(inCategory);
+
+        // Then - a date-only client still gets the new counts
+        mockMvc.perform(get("/api/categories/{id}", category.getId()).header(HttpHeaders.IF_MODIFIED_SINCE, lastSeen))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.activeProductCount").value(activeProducts + 1));
+    }
+
+    @Test
+    void shouldKeepCategoryEtagWhenOtherCategoriesProductsChange() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/categories/{id}", category.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        clearInvocations(categoryService);
+
+        // When
+        CategoryDto otherCategory = CategoryTestDataBuilder.createCategoryDto();
+        otherCategory.setName("Other Category");
+        ProductDto elsewhere = ProductTestDataBuilder.createProductDto();
+        elsewhere.setSku("ELSEWHERE_PRODUCT");
+        elsewhere.setCategoryId(categoryService.createCategory(otherCategory).getId());
+        productService.createProduct(elsewhere);
+
+        // Then
+        mockMvc.perform(get("/api/categories/{id}", category.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(categoryService, never()).getCategoryById(anyLong());
+    }
+
+    @Test
+    void shouldIssueNewCategoryEtagWhenItsProductCountsChange() throws Exception {
+        // Given
+        MvcResult first = mockMvc.perform(get("/api/categories/{id}", category.getId())).andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        long activeProducts = objectMapper.readValue(first.getResponse().getContentAsString(), CategoryDto.class).getActiveProductCount();
+
+        // When
+        ProductDto inCategory = ProductTestDataBuilder.createProductDto();
+        inCategory.setSku("COUNTED_PRODUCT");
+        inCategory.setCategoryId(category.getId());
+        productService.createProduct(inCategory);
+
+        // Then - the category row is unchanged, but its counts are not
+        MvcResult result = mockMvc.perform(get("/api/categories/{id}", category.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.activeProductCount").value(activeProducts + 1))
+                .andReturn();
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+
+        // And the older tag still names the current category version for a write
+        category.setDescription("Counts moved, category did not");
+        mockMvc.perform(put("/api/categories/{id}", category.getId())
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(category)))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,125 @@
+// src/test/java/com/chandra/ecom_service/integration/ExistenceFilterIntegrationTest.java
+package com.chandra.ecom_service.integration;
+
+import com.chandra.ecom_service.cache.ExistenceFilters;
+import com.chandra.ecom_service.dto.CategoryDto;
+import com.chandra.ecom_service.dto.ProductDto;
+import com.chandra.ecom_service.entity.Product;
+import com.chandra.ecom_service.repository.CategoryRepository;
+import com.chandra.ecom_service.repository.ProductRepository;
+import com.chandra.ecom_service.service.CategoryService;
+import com.chandra.ecom_service.service.ProductService;
+import com.chandra.ecom_service.testutils.ProductTestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.existence-filters.single-instance=true"
+})
+class ExistenceFilterIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ExistenceFilters existenceFilters;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        existenceFilters.rebuild();
+    }
+
+    @Test
+    void shouldAnswerFromFilterAndSeeWritesMadeThroughTheServices() throws Exception {
+        // Given
+        createProduct("TV001");
+        existenceFilters.rebuild();
+
+        // When: written after the build, through the service and behind its back
+        createProduct("TV002");
+        categoryService.createCategory(new CategoryDto("Electronics", "Electronic devices"));
+        Product direct = new Product("Radio", new BigDecimal("49.99"), "RADIO001");
+        productRepository.saveAndFlush(direct);
+
+        // Then
+        mockMvc.perform(get("/api/products/exists/{sku}", "TV001"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("true"));
+        assertThat(productService.existsBySku("TV002")).isTrue();
+        assertThat(productService.existsBySku("NONEXISTENT")).isFalse();
+        assertThat(categoryService.existsByName("Electronics")).isTrue();
+        assertThat(categoryService.existsByName("Clothing")).isFalse();
+        // Not written through the service: invisible until the next rebuild
+        assertThat(existenceFilters.mightExist(ExistenceFilters.KeySpace.PRODUCT_SKU, "RADIO001")).isFalse();
+
+        // And a rebuild picks it up
+        existenceFilters.rebuild();
+        assertThat(productService.existsBySku("RADIO001")).isTrue();
+    }
+
+    @Test
+    void shouldAskTheDatabaseWhenOtherInstancesMayWrite() {
+        // Given
+        existenceFilters.rebuild();
+        ReflectionTestUtils.setField(existenceFilters, "singleInstance", false);
+        try {
+            // When: inserted by "another instance", so the filter never saw it
+            productRepository.saveAndFlush(new Product("Radio", new BigDecimal("49.99"), "RADIO002"));
+
+            // Then
+            assertThat(existenceFilters.mightExist(ExistenceFilters.KeySpace.PRODUCT_SKU, "RADIO002")).isTrue();
+            assertThat(productService.existsBySku("RADIO002")).isTrue();
+        } finally {
+            ReflectionTestUtils.setField(existenceFilters, "singleInstance", true);
+        }
+    }
+
+    private void createProduct(String sku) {
+        ProductDto dto = ProductTestDataBuilder.createProductDto();
+        dto.setSku(sku);
+        dto.setName("Model " + sku);
+        productService.createProduct(dto);
+    }
+}
@@ -0,0 +1,171 @@
+// src/test/java/com/chandra/ecom_service/integration/HotInventoryIntegrationTest.java
+package com.chandra.ecom_service.integration;
+
+import com.chandra.ecom_service.dto.HotInventoryStatus;
+import com.chandra.ecom_service.entity.Product;
+import com.chandra.ecom_service.inventory.HotInventory;
+import com.chandra.ecom_service.inventory.InventoryJournal;
+import com.chandra.ecom_service.repository.InventoryCheckpointRepository;
+import com.chandra.ecom_service.repository.ProductRepository;
+import com.chandra.ecom_service.service.ProductService;
+import com.chandra.ecom_service.testutils.ProductTestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.inventory.hot.enabled=true",
+        "app.inventory.hot.stripes=4",
+        "app.inventory.hot.flush-interval=1h"
+})
+class HotInventoryIntegrationTest {
+
+    @TempDir
+    static Path journalDir;
+
+    @DynamicPropertySource
+    static void journalProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.inventory.hot.journal-dir", () -> journalDir.toString());
+    }
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private HotInventory hotInventory;
+
+    @Autowired
+    private AutowireCapableBeanFactory beanFactory;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        product = ProductTestDataBuilder.createProductEntity();
+        product.setId(null);
+        product.setStockQuantity(200);
+        product = productRepository.save(product);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hotInventory.deactivate(product.getId());
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void flashSaleShouldSellExactlyTheStockAndFlushIt() throws Exception {
+        // Given
+        hotInventory.activate(product.getId());
+        int threads = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                int sold = 0;
+                for (int i = 0; i < 20; i++) {
+                    if (productService.decrementStock(product.getId(), 1).isApplied()) {
+                        sold++;
+                    }
+                }
+                return sold;
+            }));
+        }
+        start.countDown();
+        int sold = 0;
+        for (Future<Integer> future : futures) {
+            sold += future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(sold).isEqualTo(200);
+        HotInventoryStatus beforeFlush = hotInventory.reconcile().get(0);
+        assertThat(beforeFlush.getPersistedStock()).isEqualTo(200);
+        assertThat(beforeFlush.getUnflushedDelta()).isEqualTo(-200);
+        assertThat(beforeFlush.getDrift()).isZero();
+
+        hotInventory.flush();
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isZero();
+        assertThat(hotInventory.reconcile().get(0).getDrift()).isZero();
+    }
+
+    @Test
+    void hotStockShouldRejectAbsoluteUpdatesButAcceptRestock() {
+        // Given
+        hotInventory.activate(product.getId());
+
+        // When
+        productService.incrementStock(product.getId(), 5);
+
+        // Then
+        assertThatThrownBy(() -> productService.updateStock(product.getId(), 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        hotInventory.deactivate(product.getId());
+        assertThat(productService.getProductById(product.getId()).getStockQuantity()).isEqualTo(205);
+    }
+
+    @Test
+    void restartShouldReplayJournalPastCheckpointExactlyOnce() throws Exception {
+        // Given: a node that acknowledged three sales and crashed before flushing them
+        try (InventoryJournal journal = new InventoryJournal(journalDir.resolve("crashed.journal"), true)) {
+            journal.awaitDurable(journal.append(product.getId(), -3));
+            journal.awaitDurable(journal.append(product.getId(), -2));
+            journal.awaitDurable(journal.append(product.getId(), -1));
+        }
+
+        // When
+        HotInventory restarted = startNode("crashed");
+        restarted.stop();
+        HotInventory restartedAgain = startNode("crashed");
+        restartedAgain.stop();
+
+        // Then
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(194);
+        assertThat(checkpointRepository.findById("crashed").orElseThrow().getLastSeq()).isEqualTo(3);
+    }
+
+    private HotInventory startNode(String nodeId) throws Exception {
+        HotInventory node = new HotInventory();
+        beanFactory.autowireBean(node);
+        ReflectionTestUtils.setField(node, "nodeId", nodeId);
+        node.start();
+        return node;
+    }
+}
@@ -0,0 +1,180 @@
+// src/test/java/com/chandra/ecom_service/integration/MergePatchIntegrationTest.java
+package com.chandra.ecom_service.integration;
+
+import com.chandra.ecom_service.dto.ProductDto;
+import com.chandra.ecom_service.dto.UserDto;
+import com.chandra.ecom_service.repository.CategoryRepository;
+import com.chandra.ecom_service.repository.ProductRepository;
+import com.chandra.ecom_service.repository.UserRepository;
+import com.chandra.ecom_service.service.ProductService;
+import com.chandra.ecom_service.service.UserService;
+import com.chandra.ecom_service.testutils.ProductTestDataBuilder;
+import com.chandra.ecom_service.util.MergePatch;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.chandra.ecom_service.integration.MergePatchIntegrationTest$RecordingInspector"
+})
+class MergePatchIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private UserService userService;
+
+    private MockMvc mockMvc;
+
+    private ProductDto product;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+        product = productService.createProduct(ProductTestDataBuilder.createProductDto());
+        RecordingInspector.STATEMENTS.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void shouldWriteOnlyThePatchedColumn() throws Exception {
+        // When
+        mockMvc.perform(patch("/api/products/{id}", product.getId())
+                        .contentType(MergePatch.MEDIA_TYPE)
+                        .content("{\"isFeatured\":true}"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.isFeatured").value(true))
+                .andExpect(jsonPath("$.description").value(product.getDescription()))
+                .andExpect(jsonPath("$.version").value(product.getVersion() + 1));
+
+        // Then
+        List<String> updates = RecordingInspector.updatesOf("products");
+        assertThat(updates).hasSize(1);
+        assertThat(updates.get(0)).contains("is_featured").doesNotContain("description", "name", "price");
+    }
+
+    @Test
+    void shouldClearNullMembersAndRejectImmutableOnes() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/api/products/{id}", product.getId())
+                        .contentType(MergePatch.MEDIA_TYPE)
+                        .content("{\"brand\":null,\"sku\":\"OTHER001\"}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/api/products/{id}", product.getId())
+                        .contentType(MergePatch.MEDIA_TYPE)
+                        .content("{\"name\":null}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/api/products/{id}", product.getId())
+                        .contentType(MergePatch.MEDIA_TYPE)
+                        .content("{\"brand\":null}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.brand").doesNotExist())
+                .andExpect(jsonPath("$.sku").value(product.getSku()));
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getBrand()).isNull();
+    }
+
+    @Test
+    void shouldHonourIfMatchAndSkipNoOpPatches() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/products/{id}", product.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When: a patch that changes nothing issues no UPDATE and keeps the ETag valid
+        mockMvc.perform(patch("/api/products/{id}", product.getId())
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MergePatch.MEDIA_TYPE)
+                        .content("{\"name\":\"" + product.getName() + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        // Then
+        assertThat(RecordingInspector.updatesOf("products")).isEmpty();
+        productService.incrementStock(product.getId(), 1);
+        mockMvc.perform(patch("/api/products/{id}", product.getId())
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MergePatch.MEDIA_TYPE)
+                        .content("{\"color\":\"Red\"}"))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void shouldPatchUserWithoutTouchingEmail() throws Exception {
+        // Given
+        UserDto user = userService.createUser(new UserDto("John", "Doe", "john.doe@example.com"), "password123");
+        RecordingInspector.STATEMENTS.clear();
+
+        // When
+        mockMvc.perform(patch("/api/users/{id}", user.getId())
+                        .contentType(MergePatch.MEDIA_TYPE)
+                        .content("{\"phoneNumber\":\"+15550100\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.phoneNumber").value("+15550100"))
+                .andExpect(jsonPath("$.email").value("john.doe@example.com"));
+
+        // Then
+        List<String> updates = RecordingInspector.updatesOf("users");
+        assertThat(updates).hasSize(1);
+        assertThat(updates.get(0)).contains("phone_number").doesNotContain("email", "first_name", "password");
+    }
+
+    public static class RecordingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.toLowerCase(Locale.ROOT));
+            return sql;
+        }
+
+        static List<String> updatesOf(String table) {
+            return STATEMENTS.stream().filter(sql -> sql.startsWith("update " + table + " ")).toList();
+        }
+    }
+}
@@ -0,0 +1,213 @@
+// src/test/java/com/chandra/ecom_service/integration/OptimisticLockingIntegrationTest.java
+package com.chandra.ecom_service.integration;
+
+import com.chandra.ecom_service.dto.CategoryDto;
+import com.chandra.ecom_service.dto.ProductDto;
+import com.chandra.ecom_service.entity.Product;
+import com.chandra.ecom_service.repository.CategoryRepository;
+import com.chandra.ecom_service.repository.ProductRepository;
+import com.chandra.ecom_service.service.CategoryService;
+import com.chandra.ecom_service.service.ProductService;
+import com.chandra.ecom_service.testutils.CategoryTestDataBuilder;
+import com.chandra.ecom_service.testutils.ProductTestDataBuilder;
+import com.chandra.ecom_service.util.OptimisticRetry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class OptimisticLockingIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @MockitoSpyBean
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private MockMvc mockMvc;
+
+    private ProductDto product;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        product = productService.createProduct(ProductTestDataBuilder.createProductDto());
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    void shouldRejectPutWithStaleIfMatch() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/products/{id}", product.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        productService.decrementStock(product.getId(), 1);
+        product.setName("Renamed");
+
+        // When & Then
+        mockMvc.perform(put("/api/products/{id}", product.getId())
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(product)))
+                .andExpect(status().isPreconditionFailed());
+        assertThat(productService.getProductById(product.getId()).getName()).isNotEqualTo("Renamed");
+    }
+
+    @Test
+    void shouldAcceptPutWithCurrentIfMatchAndReturnNewEtag() throws Exception {
+        // Given
+        CategoryDto category = categoryService.createCategory(CategoryTestDataBuilder.createCategoryDto());
+        String etag = mockMvc.perform(get("/api/categories/{id}", category.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        category.setDescription("Updated description");
+
+        // When
+        String newEtag = mockMvc.perform(put("/api/categories/{id}", category.getId())
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(category)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(category.getVersion() + 1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Then
+        assertThat(newEtag).isNotNull().isNotEqualTo(etag);
+        mockMvc.perform(get("/api/categories/{id}", category.getId()).header(HttpHeaders.IF_NONE_MATCH, newEtag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void shouldRejectPutCarryingStaleVersionWithConflict() throws Exception {
+        // Given
+        ProductDto stale = productService.getProductById(product.getId());
+        productService.incrementStock(product.getId(), 5);
+        stale.setName("Overwrites the stock change");
+
+        // When & Then
+        mockMvc.perform(put("/api/products/{id}", product.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(stale)))
+                .andExpect(status().isConflict());
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity())
+                .isEqualTo(stale.getStockQuantity() + 5);
+    }
+
+    @Test
+    void retryShouldReReadAfterLosingTheRace() {
+        // Given
+        OptimisticRetry retry = new OptimisticRetry(transactionManager, 3, Duration.ofMillis(1));
+        TransactionTemplate concurrentWriter = new TransactionTemplate(transactionManager);
+        concurrentWriter.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        Integer stock = retry.execute(() -> {
+            Product loaded = productRepository.findById(product.getId()).orElseThrow();
+            if (attempts.incrementAndGet() == 1) {
+                // Another writer commits between our read and our write
+                concurrentWriter.executeWithoutResult(status -> productService.incrementStock(product.getId(), 10));
+            }
+            loaded.setStockQuantity(loaded.getStockQuantity() + 1);
+            return productRepository.saveAndFlush(loaded).getStockQuantity();
+        });
+
+        // Then
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(stock).isEqualTo(product.getStockQuantity() + 11);
+    }
+
+    @Test
+    void retryShouldGiveUpAfterMaxAttempts() {
+        // Given
+        OptimisticRetry retry = new OptimisticRetry(transactionManager, 3, Duration.ZERO);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        assertThatThrownBy(() -> retry.execute(() -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException(Product.class, product.getId());
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    void blindStockSetShouldRetryAfterLosingTheRace() {
+        // Given - another writer commits between the stock set's read and its write
+        TransactionTemplate concurrentWriter = new TransactionTemplate(transactionManager);
+        concurrentWriter.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        AtomicInteger reads = new AtomicInteger();
+        doAnswer(invocation -> {
+            Optional<Product> loaded = Optional.ofNullable(entityManager.find(Product.class, product.getId()));
+            if (reads.incrementAndGet() == 1) {
+                concurrentWriter.executeWithoutResult(status -> productService.incrementStock(product.getId(), 10));
+            }
+            return loaded;
+        }).when(productRepository).findById(product.getId());
+
+        // When
+        ProductDto updated = productService.updateStock(product.getId(), 3);
+
+        // Then
+        assertThat(reads.get()).isEqualTo(2);
+        assertThat(updated.getStockQuantity()).isEqualTo(3);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,222 @@
+// src/test/java/com/chandra/ecom_service/integration/OutboxIntegrationTest.java
+package com.chandra.ecom_service.integration;
+
+import com.chandra.ecom_service.dto.CategoryDto;
+import com.chandra.ecom_service.dto.ProductDto;
+import com.chandra.ecom_service.dto.StockUpdateItem;
+import com.chandra.ecom_service.entity.OutboxEvent;
+import com.chandra.ecom_service.outbox.ChangeEvent;
+import com.chandra.ecom_service.outbox.ChangeType;
+import com.chandra.ecom_service.outbox.LocalEventSink;
+import com.chandra.ecom_service.outbox.Outbox;
+import com.chandra.ecom_service.outbox.OutboxRelay;
+import com.chandra.ecom_service.repository.CategoryRepository;
+import com.chandra.ecom_service.repository.OutboxEventRepository;
+import com.chandra.ecom_service.repository.ProductRepository;
+import com.chandra.ecom_service.service.CategoryService;
+import com.chandra.ecom_service.service.ProductService;
+import com.chandra.ecom_service.service.StockFeedService;
+import com.chandra.ecom_service.testutils.CategoryTestDataBuilder;
+import com.chandra.ecom_service.testutils.ProductTestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+        // Own database: relays of other cached test contexts must not drain these events
+        "spring.datasource.url=jdbc:h2:mem:outboxdb",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.outbox.relay.enabled=false",
+        "app.outbox.relay.batch-size=2"
+})
+class OutboxIntegrationTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private StockFeedService stockFeedService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private LocalEventSink localEventSink;
+
+    private final List<ChangeEvent> received = new CopyOnWriteArrayList<>();
+
+    private final Consumer<ChangeEvent> listener = received::add;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        outboxEventRepository.deleteAll();
+        localEventSink.subscribe(listener);
+    }
+
+    @AfterEach
+    void tearDown() {
+        localEventSink.unsubscribe(listener);
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    void shouldRelayEveryCommittedChangeInOrder() {
+        // Given
+        CategoryDto category = categoryService.createCategory(CategoryTestDataBuilder.createCategoryDto());
+        ProductDto product = productService.createProduct(ProductTestDataBuilder.createProductDto());
+        product.setName("Renamed");
+        productService.updateProduct(product.getId(), product);
+        productService.decrementStock(product.getId(), 2);
+        productService.deleteProduct(product.getId());
+
+        // When
+        int delivered = outboxRelay.drain();
+
+        // Then
+        assertThat(delivered).isEqualTo(5);
+        assertThat(received).extracting(ChangeEvent::aggregateType, ChangeEvent::aggregateId, ChangeEvent::type)
+                .containsExactly(
+                        tuple(Outbox.CATEGORY, category.getId(), ChangeType.CREATED),
+                        tuple(Outbox.PRODUCT, product.getId(), ChangeType.CREATED),
+                        tuple(Outbox.PRODUCT, product.getId(), ChangeType.UPDATED),
+                        tuple(Outbox.PRODUCT, product.getId(), ChangeType.STOCK_CHANGED),
+                        tuple(Outbox.PRODUCT, product.getId(), ChangeType.DELETED));
+        assertThat(received.get(2).payload()).contains("\"name\":\"Renamed\"");
+        assertThat(received.get(2).aggregateVersion()).isEqualTo(product.getVersion() + 1);
+        assertThat(received.get(3).payload()).isEqualTo("{\"delta\":-2}");
+        // Every product event carries the row version it produced, so consumers can order them
+        assertThat(received.subList(1, 5)).extracting(ChangeEvent::aggregateVersion)
+                .containsExactly(product.getVersion(), product.getVersion() + 1, product.getVersion() + 2, product.getVersion() + 3);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void shouldVersionEachStockFeedLineInTheOrderItRan() {
+        // Given
+        ProductDto product = productService.createProduct(ProductTestDataBuilder.createProductDto());
+        outboxRelay.drain();
+        received.clear();
+
+        // When
+        stockFeedService.applyStockUpdates(List.of(
+                StockUpdateItem.snapshot(product.getSku(), 20),
+                StockUpdateItem.movement(product.getId(), -5)));
+        outboxRelay.drain();
+
+        // Then
+        assertThat(received).extracting(ChangeEvent::aggregateVersion, ChangeEvent::payload)
+                .containsExactly(
+                        tuple(product.getVersion() + 1, "{\"stockQuantity\":20}"),
+                        tuple(product.getVersion() + 2, "{\"delta\":-5}"));
+    }
+
+    @Test
+    void shouldNumberEachTransactionOnceInCommitOrder() {
+        // Given
+        ProductDto first = productService.createProduct(ProductTestDataBuilder.createProductDto());
+        stockFeedService.applyStockUpdates(List.of(
+                StockUpdateItem.movement(first.getId(), -1),
+                StockUpdateItem.movement(first.getId(), -2)));
+
+        // When
+        List<OutboxEvent> events = outboxEventRepository.findAll(Sort.by("id"));
+
+        // Then
+        assertThat(events).hasSize(3);
+        assertThat(events.get(1).getCommitSeq()).isGreaterThan(events.get(0).getCommitSeq());
+        assertThat(events.get(2).getCommitSeq()).isEqualTo(events.get(1).getCommitSeq());
+    }
+
+    @Test
+    void shouldRelayByCommitSequenceRatherThanId() {
+        // Given: the lower id committed last, as happens when ids come from another instance's pool
+        OutboxEvent committedLast = new OutboxEvent(Outbox.PRODUCT, 1L, 2L, ChangeType.UPDATED.name(), null, LocalDateTime.now());
+        committedLast.setCommitSeq(Long.MAX_VALUE);
+        outboxEventRepository.save(committedLast);
+        OutboxEvent committedFirst = new OutboxEvent(Outbox.PRODUCT, 1L, 1L, ChangeType.CREATED.name(), null, LocalDateTime.now());
+        committedFirst.setCommitSeq(Long.MAX_VALUE - 1);
+        outboxEventRepository.save(committedFirst);
+
+        // When
+        outboxRelay.drain();
+
+        // Then
+        assertThat(received).extracting(ChangeEvent::aggregateVersion).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void shouldNotRecordRejectedChanges() {
+        // Given
+        ProductDto product = productService.createProduct(ProductTestDataBuilder.createProductDto());
+        product.setVersion(product.getVersion() + 7);
+
+        // When
+        assertThatThrownBy(() -> productService.updateProduct(product.getId(), product)).isInstanceOf(RuntimeException.class);
+        productService.decrementStock(product.getId(), 10_000);
+        outboxRelay.drain();
+
+        // Then
+        assertThat(received).extracting(ChangeEvent::type).containsExactly(ChangeType.CREATED);
+    }
+
+    @Test
+    void shouldRedeliverBatchAfterSinkFailure() {
+        // Given
+        ProductDto product = productService.createProduct(ProductTestDataBuilder.createProductDto());
+        productService.incrementStock(product.getId(), 1);
+        productService.incrementStock(product.getId(), 2);
+        AtomicBoolean failOnce = new AtomicBoolean(true);
+        Consumer<ChangeEvent> flaky = event -> {
+            if (event.type() == ChangeType.STOCK_CHANGED && failOnce.getAndSet(false)) {
+                throw new IllegalStateException("downstream unavailable");
+            }
+        };
+        localEventSink.subscribe(flaky);
+
+        // When
+        assertThatThrownBy(() -> outboxRelay.drain()).isInstanceOf(IllegalStateException.class);
+        outboxRelay.drain();
+        localEventSink.unsubscribe(flaky);
+
+        // Then: the failed batch comes again, nothing is skipped and order holds
+        assertThat(received).extracting(ChangeEvent::type).containsExactly(
+                ChangeType.CREATED, ChangeType.STOCK_CHANGED,
+                ChangeType.CREATED, ChangeType.STOCK_CHANGED,
+                ChangeType.STOCK_CHANGED);
+        assertThat(received.stream().map(ChangeEvent::id).distinct()).hasSize(3);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,139 @@
+// src/test/java/com/chandra/ecom_service/integration/ProductExportIntegrationTest.java
+package com.chandra.ecom_service.integration;
+
+import com.chandra.ecom_service.dto.CatalogFormat;
+import com.chandra.ecom_service.entity.Product;
+import com.chandra.ecom_service.repository.ProductRepository;
+import com.chandra.ecom_service.service.ProductService;
+import com.chandra.ecom_service.testutils.ProductTestDataBuilder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class ProductExportIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        productRepository.deleteAll();
+
+        Product iphone = ProductTestDataBuilder.createProductEntity();
+        iphone.setId(null);
+        iphone.setDescription("Line one, with \"quotes\"\nline two");
+        productRepository.save(iphone);
+
+        Product ipad = ProductTestDataBuilder.createProductEntity();
+        ipad.setId(null);
+        ipad.setSku("IPAD001");
+        ipad.setName("iPad Pro");
+        productRepository.save(ipad);
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void shouldStreamCatalogAsNdjson() throws Exception {
+        // When
+        AtomicInteger flushes = new AtomicInteger();
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+            }
+        };
+        long rows = productService.exportProducts(CatalogFormat.NDJSON, out);
+
+        // Then: rows are buffered, not flushed one by one
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(flushes.get()).isLessThanOrEqualTo(2);
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("sku").asText()).isEqualTo("IPHONE15PRO001");
+        assertThat(first.get("description").asText()).contains("line two");
+    }
+
+    @Test
+    void shouldQuoteCsvFieldsThatNeedEscaping() throws Exception {
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        productService.exportProducts(CatalogFormat.CSV, out);
+
+        // Then
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("id,sku,name,description,price");
+        assertThat(csv).contains("\"Line one, with \"\"quotes\"\"\nline two\"");
+        assertThat(csv).contains(",IPAD001,iPad Pro,");
+    }
+
+    @Test
+    void shouldServeGzipExportOverHttp() throws Exception {
+        // When
+        MvcResult asyncResult = mockMvc.perform(get("/api/products/export").param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn();
+
+        // Then
+        byte[] compressed = result.getResponse().getContentAsByteArray();
+        String body;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            body = new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(body.split("\n")).hasSize(2);
+    }
+
+    @Test
+    void shouldRejectUnknownCatalogFormat() throws Exception {
+        mockMvc.perform(get("/api/products/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,127 @@
+// src/test/java/com/chandra/ecom_service/integration/StockAdjustmentIntegrationTest.java
+package com.chandra.ecom_service.integration;
+
+import com.chandra.ecom_service.dto.StockAdjustmentResult;
+import com.chandra.ecom_service.entity.Product;
+import com.chandra.ecom_service.repository.ProductRepository;
+import com.chandra.ecom_service.service.ProductService;
+import com.chandra.ecom_service.testutils.ProductTestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class StockAdjustmentIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    private MockMvc mockMvc;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        productRepository.deleteAll();
+        product = ProductTestDataBuilder.createProductEntity();
+        product.setId(null);
+        product.setStockQuantity(50);
+        product = productRepository.save(product);
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentDecrementsShouldNeverOversell() throws Exception {
+        // Given
+        int threads = 16;
+        int attemptsPerThread = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                int applied = 0;
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    if (productService.decrementStock(product.getId(), 1).isApplied()) {
+                        applied++;
+                    }
+                }
+                return applied;
+            }));
+        }
+        start.countDown();
+        int totalApplied = 0;
+        for (Future<Integer> future : futures) {
+            totalApplied += future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(totalApplied).isEqualTo(50);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isZero();
+    }
+
+    @Test
+    void decrementShouldRejectInsufficientStockWithoutChangingIt() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/products/{id}/stock/decrement", product.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\": 51}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.applied").value(false));
+
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(50);
+    }
+
+    @Test
+    void incrementShouldBeVisibleToTheNextRead() {
+        // Given
+        productService.getProductById(product.getId());
+
+        // When
+        StockAdjustmentResult result = productService.incrementStock(product.getId(), 5);
+
+        // Then
+        assertThat(result.isApplied()).isTrue();
+        assertThat(productService.getProductById(product.getId()).getStockQuantity()).isEqualTo(55);
+    }
+}
@@ -0,0 +1,121 @@
+// src/test/java/com/chandra/ecom_service/integration/StockFeedIntegrationTest.java
+package com.chandra.ecom_service.integration;
+
+import com.chandra.ecom_service.dto.StockFeedReport;
+import com.chandra.ecom_service.dto.StockUpdateItem;
+import com.chandra.ecom_service.entity.Product;
+import com.chandra.ecom_service.repository.ProductRepository;
+import com.chandra.ecom_service.service.ProductService;
+import com.chandra.ecom_service.service.StockFeedService;
+import com.chandra.ecom_service.testutils.ProductTestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.inventory.feed.chunk-size=2"
+})
+class StockFeedIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StockFeedService stockFeedService;
+
+    private MockMvc mockMvc;
+
+    private Product iphone;
+
+    private Product galaxy;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        productRepository.deleteAll();
+        iphone = saveProduct("IPHONE15PRO001", 50);
+        galaxy = saveProduct("GALAXYS24001", 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void shouldApplySnapshotsAndMovementsAndReportTheRest() {
+        // Given
+        List<StockUpdateItem> feed = List.of(
+                StockUpdateItem.snapshot("IPHONE15PRO001", 42),
+                StockUpdateItem.snapshot("GALAXYS24001", 10),
+                StockUpdateItem.snapshot("UNKNOWN001", 5),
+                StockUpdateItem.movement(galaxy.getId(), -4),
+                StockUpdateItem.movement(iphone.getId(), -100),
+                StockUpdateItem.movement(-1L, 3),
+                new StockUpdateItem());
+
+        // When
+        StockFeedReport report = stockFeedService.applyStockUpdates(feed);
+
+        // Then
+        assertThat(report.getRequested()).isEqualTo(7);
+        assertThat(report.getUpdated()).isEqualTo(2);
+        assertThat(report.getUnchanged()).isEqualTo(1);
+        assertThat(report.getChunks()).isEqualTo(4);
+        assertThat(report.getUnknownSkus()).containsExactly("UNKNOWN001");
+        assertThat(report.getUnknownIds()).containsExactly(-1L);
+        assertThat(report.getErrors()).extracting("row").containsExactly(5L, 7L);
+        assertThat(productRepository.findById(iphone.getId()).orElseThrow().getStockQuantity()).isEqualTo(42);
+        assertThat(productRepository.findById(galaxy.getId()).orElseThrow().getStockQuantity()).isEqualTo(6);
+    }
+
+    @Test
+    void shouldEvictCachedProductsItUpdates() throws Exception {
+        // Given
+        assertThat(productService.getProductById(iphone.getId()).getStockQuantity()).isEqualTo(50);
+        assertThat(productService.getProductBySku("GALAXYS24001").getStockQuantity()).isEqualTo(10);
+
+        // When
+        mockMvc.perform(post("/api/products/stock/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"sku\":\"IPHONE15PRO001\",\"quantity\":7},{\"id\":" + galaxy.getId() + ",\"delta\":5}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(2));
+
+        // Then
+        assertThat(productService.getProductById(iphone.getId()).getStockQuantity()).isEqualTo(7);
+        assertThat(productService.getProductBySku("GALAXYS24001").getStockQuantity()).isEqualTo(15);
+    }
+
+    private Product saveProduct(String sku, int stock) {
+        Product product = ProductTestDataBuilder.createProductEntity();
+        product.setId(null);
+        product.setSku(sku);
+        product.setStockQuantity(stock);
+        return productRepository.save(product);
+    }
+}
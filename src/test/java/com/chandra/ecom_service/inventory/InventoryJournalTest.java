@@ -0,0 +1,68 @@
+// src/test/java/com/chandra/ecom_service/inventory/InventoryJournalTest.java
+package com.chandra.ecom_service.inventory;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InventoryJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void shouldRecoverAcknowledgedRecordsAndCutTornTail() throws Exception {
+        // Given
+        Path file = dir.resolve("node.journal");
+        try (InventoryJournal journal = new InventoryJournal(file, true)) {
+            journal.awaitDurable(journal.append(7L, -2));
+            journal.awaitDurable(journal.append(7L, -1));
+            journal.awaitDurable(journal.append(9L, 5));
+        }
+        // A crash in the middle of the fourth write
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 0, 0, 0, 0, 4, 1, 2}));
+        }
+
+        // When
+        try (InventoryJournal reopened = new InventoryJournal(file, true)) {
+            long next = reopened.append(7L, -4);
+
+            // Then
+            assertThat(reopened.recoveredRecords()).containsExactly(
+                    new JournalRecord(1, 7L, -2), new JournalRecord(2, 7L, -1), new JournalRecord(3, 9L, 5));
+            assertThat(next).isEqualTo(4);
+        }
+        try (InventoryJournal again = new InventoryJournal(file, true)) {
+            assertThat(again.recoveredRecords()).hasSize(4);
+        }
+    }
+
+    @Test
+    void shouldNumberAfterCheckpointOnceCompacted() throws Exception {
+        // Given
+        Path file = dir.resolve("node.journal");
+        try (InventoryJournal journal = new InventoryJournal(file, false)) {
+            journal.append(1L, -1);
+            journal.append(1L, -1);
+            assertThat(journal.unflushedDelta(1L)).isEqualTo(-2);
+            assertThat(journal.drain()).hasSize(2);
+
+            // When
+            journal.compactIfApplied(2, 0);
+        }
+
+        // Then
+        try (InventoryJournal reopened = new InventoryJournal(file, false)) {
+            assertThat(reopened.recoveredRecords()).isEmpty();
+            reopened.continueAfter(2);
+            assertThat(reopened.append(1L, -1)).isEqualTo(3);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+// src/test/java/com/chandra/ecom_service/inventory/StripedStockTest.java
+package com.chandra.ecom_service.inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedStockTest {
+
+    @Test
+    void concurrentTakersShouldSellExactlyTheStock() throws Exception {
+        // Given
+        StripedStock stock = new StripedStock(8, 1_000);
+        int threads = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            int quantity = 1 + t % 3;
+            futures.add(executor.submit(() -> {
+                start.await();
+                int sold = 0;
+                for (int i = 0; i < 200; i++) {
+                    if (stock.tryTake(quantity)) {
+                        sold += quantity;
+                    }
+                }
+                return sold;
+            }));
+        }
+        start.countDown();
+        int sold = 0;
+        for (Future<Integer> future : futures) {
+            sold += future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(sold + stock.available()).isEqualTo(1_000);
+        assertThat(stock.available()).isBetween(0L, 2L);
+    }
+
+    @Test
+    void shouldGatherUnitsSpreadAcrossStripes() {
+        // Given
+        StripedStock stock = new StripedStock(4, 8);
+
+        // When & Then
+        assertThat(stock.tryTake(7)).isTrue();
+        assertThat(stock.available()).isEqualTo(1);
+        assertThat(stock.tryTake(2)).isFalse();
+        assertThat(stock.available()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldMakeRestockedUnitsSellable() {
+        // Given
+        StripedStock stock = new StripedStock(4, 0);
+
+        // When
+        stock.add(3);
+
+        // Then
+        assertThat(stock.tryTake(3)).isTrue();
+        assertThat(stock.tryTake(1)).isFalse();
+    }
+}
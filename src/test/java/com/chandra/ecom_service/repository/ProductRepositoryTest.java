@@ -1,15 +1,19 @@
 // src/test/java/com/chandra/ecom_service/repository/ProductRepositoryTest.java
 package com.chandra.ecom_service.repository;
 
+import com.chandra.ecom_service.dto.ProductDto;
+import com.chandra.ecom_service.dto.ProductFilter;
 import com.chandra.ecom_service.entity.Product;
 import com.chandra.ecom_service.testutils.ProductTestDataBuilder;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -211,4 +215,80 @@ class ProductRepositoryTest {
         assertThat(outOfStockProducts).hasSize(1);
         assertThat(outOfStockProducts.get(0).getStockQuantity()).isEqualTo(0);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldPageActiveProductsByKeyset() {
+        // Given
+        for (int i = 1; i <= 5; i++) {
+            Product product = ProductTestDataBuilder.createProductEntity();
+            product.setId(null);
+            product.setSku("KEYSET00" + i);
+            product.setIsActive(i != 3);
+            entityManager.persistAndFlush(product);
+        }
+
+        // When
+        List<ProductDto> firstPage = productRepository.findActivePageAfter(0L, Limit.of(2));
+        List<ProductDto> secondPage = productRepository.findActivePageAfter(firstPage.get(1).getId(), Limit.of(2));
+
+        // Then
+        assertThat(firstPage).extracting("sku").containsExactly("KEYSET001", "KEYSET002");
+        assertThat(secondPage).extracting("sku").containsExactly("KEYSET004", "KEYSET005");
+    }
+
+    @Test
+    void shouldFilterAndCountFacetsIgnoringOwnDimension() {
+        // Given
+        persistProduct("F-APPLE-1", "Apple", 1L, "999.99", 5);
+        persistProduct("F-APPLE-2", "Apple", 2L, "49.99", 0);
+        persistProduct("F-SAMSUNG-1", "Samsung", 1L, "799.99", 3);
+        persistProduct("F-SONY-1", "Sony", 1L, "1499.00", 8);
+
+        ProductFilter filter = new ProductFilter();
+        filter.setBrand("Apple");
+        filter.setInStock(true);
+
+        // When
+        List<ProductDto> page = productRepository.findFilteredPageAfter(filter, 0L, 10);
+        Map<String, Long> brands = productRepository.countByBrand(filter);
+        Map<Long, Long> categories = productRepository.countByCategory(filter);
+        List<Long> priceBuckets = productRepository.countByPriceBuckets(filter,
+                List.of(new BigDecimal("100"), new BigDecimal("1000")));
+
+        // Then
+        assertThat(page).extracting("sku").containsExactly("F-APPLE-1");
+        assertThat(brands).containsEntry("Apple", 1L).containsEntry("Samsung", 1L).containsEntry("Sony", 1L);
+        assertThat(categories).containsOnly(Map.entry(1L, 1L));
+        assertThat(priceBuckets).containsExactly(0L, 1L, 0L);
+        assertThat(productRepository.countByPriceBuckets(filter, List.of())).containsExactly(1L);
+    }
+
+    private void persistProduct(String sku, String brand, Long categoryId, String price, int stock) {
+        Product product = ProductTestDataBuilder.createProductEntity();
+        product.setId(null);
+        product.setSku(sku);
+        product.setBrand(brand);
+        product.setCategoryId(categoryId);
+        product.setPrice(new BigDecimal(price));
+        product.setStockQuantity(stock);
+        entityManager.persistAndFlush(product);
+    }
+
+    @Test
+    void shouldProjectListSummariesWithoutDescription() {
+        // Given
+        Product product = ProductTestDataBuilder.createProductEntity();
+        product.setId(null);
+        entityManager.persistAndFlush(product);
+        entityManager.clear();
+
+        // When
+        List<ProductDto> summaries = productRepository.findActiveSummaries();
+
+        // Then
+        assertThat(summaries).hasSize(1);
+        assertThat(summaries.get(0).getSku()).isEqualTo("IPHONE15PRO001");
+        assertThat(summaries.get(0).getPrice()).isEqualByComparingTo(new BigDecimal("999.99"));
+        assertThat(summaries.get(0).getDescription()).isNull();
+    }
+}
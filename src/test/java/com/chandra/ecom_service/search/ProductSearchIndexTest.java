@@ -0,0 +1,126 @@
+// src/test/java/com/chandra/ecom_service/search/ProductSearchIndexTest.java
+package com.chandra.ecom_service.search;
+
+import com.chandra.ecom_service.entity.Product;
+import com.chandra.ecom_service.testutils.ProductTestDataBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSearchIndexTest {
+
+    private final ProductSearchIndex index = new ProductSearchIndex();
+
+    private Product product(long id, String name, String brand, String description) {
+        Product product = ProductTestDataBuilder.createProductEntity();
+        product.setId(id);
+        product.setName(name);
+        product.setBrand(brand);
+        product.setDescription(description);
+        product.setUpdatedAt(LocalDateTime.now());
+        return product;
+    }
+
+    @Test
+    void shouldTokenizeOnNonAlphanumerics() {
+        assertThat(Tokenizer.tokenize("iPhone 15-Pro, 256GB")).containsExactly("iphone", "15", "pro", "256gb");
+    }
+
+    @Test
+    void shouldRankNameMatchesAboveDescriptionMatches() {
+        // Given
+        index.index(product(1L, "Leather case", "Generic", "Fits the Galaxy S24"));
+        index.index(product(2L, "Galaxy S24", "Samsung", "Android smartphone"));
+        index.index(product(3L, "USB cable", "Anker", "Braided cable"));
+
+        // When
+        List<SearchHit> hits = index.search("galaxy", 10);
+
+        // Then
+        assertThat(hits).extracting(SearchHit::getProductId).containsExactly(2L, 1L);
+        assertThat(hits.get(0).getScore()).isGreaterThan(hits.get(1).getScore());
+    }
+
+    @Test
+    void shouldMatchLastTermAsPrefix() {
+        index.index(product(1L, "MacBook Air", "Apple", null));
+
+        assertThat(index.search("apple macb", 10)).extracting(SearchHit::getProductId).containsExactly(1L);
+    }
+
+    @Test
+    void shouldReturnOnlyTopK() {
+        for (long id = 1; id <= 20; id++) {
+            index.index(product(id, "Cable " + id, "Anker", "cable"));
+        }
+
+        assertThat(index.search("cable", 5)).hasSize(5);
+    }
+
+    @Test
+    void shouldReindexAndRemoveIncrementally() {
+        // Given
+        Product product = product(1L, "Old name", "Apple", null);
+        index.index(product);
+
+        // When
+        product.setName("New name");
+        index.index(product);
+
+        // Then
+        assertThat(index.search("old", 10)).isEmpty();
+        assertThat(index.search("new", 10)).hasSize(1);
+
+        index.remove(1L);
+        assertThat(index.search("new", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void shouldNotLetRebuildOverwriteNewerOrRemovedDocuments() {
+        // Given
+        index.beginRebuild();
+        Product live = product(1L, "Fresh title", "Apple", null);
+        index.index(live);
+        Product removed = product(2L, "Discontinued", "Apple", null);
+        index.remove(2L);
+
+        // When
+        Product stale = product(1L, "Stale title", "Apple", null);
+        stale.setUpdatedAt(live.getUpdatedAt().minusMinutes(1));
+        index.indexFromRebuild(stale);
+        index.indexFromRebuild(removed);
+        index.finishRebuild();
+
+        // Then
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.search("fresh", 10)).hasSize(1);
+        assertThat(index.search("stale", 10)).isEmpty();
+        assertThat(index.search("discontinued", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldDropLiveUpdatesOlderThanTheIndexedVersion() {
+        // Given: after-commit callbacks of two writes run out of order
+        Product newer = product(1L, "Fresh title", "Apple", null);
+        newer.setVersion(3L);
+        Product older = product(1L, "Stale title", "Apple", null);
+        older.setVersion(2L);
+        Product removed = product(2L, "Discontinued", "Apple", null);
+        removed.setVersion(2L);
+
+        // When
+        index.index(newer);
+        index.index(older);
+        index.remove(2L, 3L);
+        index.index(removed);
+
+        // Then
+        assertThat(index.search("fresh", 10)).hasSize(1);
+        assertThat(index.search("stale", 10)).isEmpty();
+        assertThat(index.search("discontinued", 10)).isEmpty();
+    }
+}
@@ -1,19 +1,33 @@
 // src/test/java/com/chandra/ecom_service/service/CategoryServiceTest.java
 package com.chandra.ecom_service.service;
 
+import com.chandra.ecom_service.cache.CategoryCounts;
+import com.chandra.ecom_service.cache.CategoryTree;
+import com.chandra.ecom_service.cache.ExistenceFilters;
+import com.chandra.ecom_service.cache.RequestCoalescer;
+import com.chandra.ecom_service.cache.ResourceVersions;
+import com.chandra.ecom_service.category.CategoryHierarchy;
 import com.chandra.ecom_service.dto.CategoryDto;
 import com.chandra.ecom_service.entity.Category;
+import com.chandra.ecom_service.exception.DuplicateResourceException;
+import com.chandra.ecom_service.outbox.Outbox;
 import com.chandra.ecom_service.repository.CategoryRepository;
 import com.chandra.ecom_service.service.impl.CategoryServiceImpl;
 import com.chandra.ecom_service.testutils.CategoryTestDataBuilder;
+import com.chandra.ecom_service.util.OptimisticRetry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.Arrays;
+import java.sql.SQLException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +43,30 @@ class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Spy
+    private ResourceVersions resourceVersions = new ResourceVersions(1_000L);
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer();
+
+    @Mock
+    private Outbox outbox;
+
+    @Mock
+    private CategoryTree categoryTree;
+
+    @Mock
+    private CategoryHierarchy categoryHierarchy;
+
+    @Mock
+    private CategoryCounts categoryCounts;
+
+    @Spy
+    private ExistenceFilters existenceFilters = new ExistenceFilters();
+
+    @Spy
+    private OptimisticRetry optimisticRetry = new OptimisticRetry(mock(PlatformTransactionManager.class), 1, Duration.ZERO);
+
     @InjectMocks
     private CategoryServiceImpl categoryService;
 
@@ -46,8 +84,7 @@ class CategoryServiceTest {
     @Test
     void shouldCreateCategorySuccessfully() {
         // Given
-        when(categoryRepository.existsByName(anyString())).thenReturn(false);
-        when(categoryRepository.save(any(Category.class))).thenReturn(parentCategory);
+        when(categoryRepository.saveAndFlush(any(Category.class))).thenReturn(parentCategory);
 
         // When
         CategoryDto result = categoryService.createCategory(categoryDto);
@@ -55,22 +92,23 @@ class CategoryServiceTest {
         // Then
         assertThat(result.getName()).isEqualTo("Electronics");
         assertThat(result.getDescription()).isEqualTo("Electronic devices and accessories");
-        verify(categoryRepository).existsByName("Electronics");
-        verify(categoryRepository).save(any(Category.class));
+        verify(categoryRepository, never()).existsByName(anyString());
+        verify(categoryRepository).saveAndFlush(any(Category.class));
+        verify(categoryHierarchy).added(parentCategory);
+        verify(categoryTree).refresh();
     }
 
     @Test
     void shouldThrowExceptionWhenCategoryNameAlreadyExists() {
         // Given
-        when(categoryRepository.existsByName(anyString())).thenReturn(true);
+        when(categoryRepository.saveAndFlush(any(Category.class))).thenThrow(new DataIntegrityViolationException("duplicate key", new SQLException("duplicate key", "23505")));
 
         // When & Then
         assertThatThrownBy(() -> categoryService.createCategory(categoryDto))
-                .isInstanceOf(RuntimeException.class)
+                .isInstanceOf(DuplicateResourceException.class)
                 .hasMessage("Category with name Electronics already exists");
 
-        verify(categoryRepository).existsByName("Electronics");
-        verify(categoryRepository, never()).save(any(Category.class));
+        verify(categoryRepository, never()).existsByName(anyString());
     }
 
     @Test
@@ -186,7 +224,7 @@ class CategoryServiceTest {
     void shouldUpdateCategorySuccessfully() {
         // Given
         when(categoryRepository.findById(1L)).thenReturn(Optional.of(parentCategory));
-        when(categoryRepository.save(any(Category.class))).thenReturn(parentCategory);
+        when(categoryRepository.saveAndFlush(any(Category.class))).thenReturn(parentCategory);
 
         CategoryDto updateDto = new CategoryDto();
         updateDto.setName("Updated Electronics");
@@ -198,21 +236,22 @@ class CategoryServiceTest {
         // Then
         assertThat(result.getName()).isEqualTo("Updated Electronics");
         verify(categoryRepository).findById(1L);
-        verify(categoryRepository).save(any(Category.class));
+        verify(categoryRepository).saveAndFlush(any(Category.class));
     }
 
     @Test
     void shouldDeleteCategorySoftly() {
         // Given
         when(categoryRepository.findById(1L)).thenReturn(Optional.of(parentCategory));
-        when(categoryRepository.save(any(Category.class))).thenReturn(parentCategory);
+        when(categoryRepository.saveAndFlush(any(Category.class))).thenReturn(parentCategory);
 
         // When
         categoryService.deleteCategory(1L);
 
         // Then
         verify(categoryRepository).findById(1L);
-        verify(categoryRepository).save(argThat(category -> !category.getIsActive()));
+        verify(categoryRepository).saveAndFlush(argThat(category -> !category.getIsActive()));
+        verify(categoryTree).refresh();
     }
 
     @Test
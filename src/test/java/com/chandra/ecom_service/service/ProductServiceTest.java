@@ -1,26 +1,63 @@
 // src/test/java/com/chandra/ecom_service/service/ProductServiceTest.java
 package com.chandra.ecom_service.service;
 
+import com.chandra.ecom_service.cache.CategoryCounts;
+import com.chandra.ecom_service.cache.ExistenceFilters;
+import com.chandra.ecom_service.cache.ProductCache;
+import com.chandra.ecom_service.cache.RequestCoalescer;
+import com.chandra.ecom_service.cache.ResourceVersions;
+import com.chandra.ecom_service.dto.BatchGetResult;
+import com.chandra.ecom_service.dto.BatchItem;
+import com.chandra.ecom_service.dto.CoalescingStatsDto;
+import com.chandra.ecom_service.dto.CursorPage;
+import com.chandra.ecom_service.dto.FacetedProductPage;
 import com.chandra.ecom_service.dto.ProductDto;
+import com.chandra.ecom_service.dto.ProductFilter;
+import com.chandra.ecom_service.dto.StockAdjustmentResult;
 import com.chandra.ecom_service.entity.Product;
+import com.chandra.ecom_service.exception.DuplicateResourceException;
+import com.chandra.ecom_service.inventory.HotInventory;
+import com.chandra.ecom_service.outbox.ChangeType;
+import com.chandra.ecom_service.outbox.Outbox;
 import com.chandra.ecom_service.repository.ProductRepository;
+import com.chandra.ecom_service.search.ProductSearchIndex;
 import com.chandra.ecom_service.service.impl.ProductServiceImpl;
 import com.chandra.ecom_service.testutils.ProductTestDataBuilder;
+import com.chandra.ecom_service.util.CursorCodec;
+import com.chandra.ecom_service.util.OptimisticRetry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -30,6 +67,36 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Spy
+    private ProductCache productCache = new ProductCache(1_000_000L, 1_000L);
+
+    @Spy
+    private ProductSearchIndex productSearchIndex = new ProductSearchIndex();
+
+    @Spy
+    private ResourceVersions resourceVersions = new ResourceVersions(1_000L);
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer();
+
+    @Mock
+    private HotInventory hotInventory;
+
+    @Mock
+    private Outbox outbox;
+
+    @Mock
+    private CategoryCounts categoryCounts;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private ExistenceFilters existenceFilters = new ExistenceFilters();
+
+    @Spy
+    private OptimisticRetry optimisticRetry = new OptimisticRetry(mock(PlatformTransactionManager.class), 1, Duration.ZERO);
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -45,8 +112,7 @@ class ProductServiceTest {
     @Test
     void shouldCreateProductSuccessfully() {
         // Given
-        when(productRepository.existsBySku(anyString())).thenReturn(false);
-        when(productRepository.save(any(Product.class))).thenReturn(product);
+        when(productRepository.saveAndFlush(any(Product.class))).thenReturn(product);
 
         // When
         ProductDto result = productService.createProduct(productDto);
@@ -55,22 +121,23 @@ class ProductServiceTest {
         assertThat(result.getName()).isEqualTo("iPhone 15 Pro");
         assertThat(result.getSku()).isEqualTo("IPHONE15PRO001");
         assertThat(result.getPrice()).isEqualByComparingTo(new BigDecimal("999.99"));
-        verify(productRepository).existsBySku("IPHONE15PRO001");
-        verify(productRepository).save(any(Product.class));
+        verify(productRepository, never()).existsBySku(anyString());
+        verify(productRepository).saveAndFlush(any(Product.class));
+        verify(outbox).productChanged(product, ChangeType.CREATED);
     }
 
     @Test
     void shouldThrowExceptionWhenSkuAlreadyExists() {
         // Given
-        when(productRepository.existsBySku(anyString())).thenReturn(true);
+        when(productRepository.saveAndFlush(any(Product.class))).thenThrow(new DataIntegrityViolationException("duplicate key", new SQLException("duplicate key", "23505")));
 
         // When & Then
         assertThatThrownBy(() -> productService.createProduct(productDto))
-                .isInstanceOf(RuntimeException.class)
+                .isInstanceOf(DuplicateResourceException.class)
                 .hasMessage("Product with SKU IPHONE15PRO001 already exists");
 
-        verify(productRepository).existsBySku("IPHONE15PRO001");
-        verify(productRepository, never()).save(any(Product.class));
+        verify(productRepository, never()).existsBySku(anyString());
+        verify(outbox, never()).productChanged(any(), any());
     }
 
     @Test
@@ -114,8 +181,8 @@ class ProductServiceTest {
     @Test
     void shouldGetActiveProducts() {
         // Given
-        List<Product> activeProducts = Arrays.asList(product);
-        when(productRepository.findByIsActiveTrue()).thenReturn(activeProducts);
+        List<ProductDto> activeProducts = Arrays.asList(productDto);
+        when(productRepository.findActiveSummaries()).thenReturn(activeProducts);
 
         // When
         List<ProductDto> result = productService.getActiveProducts();
@@ -123,14 +190,14 @@ class ProductServiceTest {
         // Then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getIsActive()).isTrue();
-        verify(productRepository).findByIsActiveTrue();
+        verify(productRepository).findActiveSummaries();
     }
 
     @Test
     void shouldGetProductsByCategory() {
         // Given
-        List<Product> categoryProducts = Arrays.asList(product);
-        when(productRepository.findByCategoryIdAndIsActiveTrue(1L)).thenReturn(categoryProducts);
+        List<ProductDto> categoryProducts = Arrays.asList(productDto);
+        when(productRepository.findSummariesByCategory(1L)).thenReturn(categoryProducts);
 
         // When
         List<ProductDto> result = productService.getProductsByCategory(1L);
@@ -138,15 +205,15 @@ class ProductServiceTest {
         // Then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getCategoryId()).isEqualTo(1L);
-        verify(productRepository).findByCategoryIdAndIsActiveTrue(1L);
+        verify(productRepository).findSummariesByCategory(1L);
     }
 
     @Test
     void shouldGetFeaturedProducts() {
         // Given
-        product.setIsFeatured(true);
-        List<Product> featuredProducts = Arrays.asList(product);
-        when(productRepository.findByIsFeaturedTrueAndIsActiveTrue()).thenReturn(featuredProducts);
+        productDto.setIsFeatured(true);
+        List<ProductDto> featuredProducts = Arrays.asList(productDto);
+        when(productRepository.findFeaturedSummaries()).thenReturn(featuredProducts);
 
         // When
         List<ProductDto> result = productService.getFeaturedProducts();
@@ -154,14 +221,14 @@ class ProductServiceTest {
         // Then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getIsFeatured()).isTrue();
-        verify(productRepository).findByIsFeaturedTrueAndIsActiveTrue();
+        verify(productRepository).findFeaturedSummaries();
     }
 
     @Test
     void shouldGetProductsByBrand() {
         // Given
-        List<Product> brandProducts = Arrays.asList(product);
-        when(productRepository.findByBrandAndIsActiveTrue("Apple")).thenReturn(brandProducts);
+        List<ProductDto> brandProducts = Arrays.asList(productDto);
+        when(productRepository.findSummariesByBrand("Apple")).thenReturn(brandProducts);
 
         // When
         List<ProductDto> result = productService.getProductsByBrand("Apple");
@@ -169,7 +236,7 @@ class ProductServiceTest {
         // Then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getBrand()).isEqualTo("Apple");
-        verify(productRepository).findByBrandAndIsActiveTrue("Apple");
+        verify(productRepository).findSummariesByBrand("Apple");
     }
 
     @Test
@@ -192,22 +259,22 @@ class ProductServiceTest {
         // Given
         BigDecimal minPrice = new BigDecimal("500.00");
         BigDecimal maxPrice = new BigDecimal("1500.00");
-        List<Product> priceRangeProducts = Arrays.asList(product);
-        when(productRepository.findByPriceBetweenAndIsActiveTrue(minPrice, maxPrice)).thenReturn(priceRangeProducts);
+        List<ProductDto> priceRangeProducts = Arrays.asList(productDto);
+        when(productRepository.findSummariesByPriceRange(minPrice, maxPrice)).thenReturn(priceRangeProducts);
 
         // When
         List<ProductDto> result = productService.getProductsByPriceRange(minPrice, maxPrice);
 
         // Then
         assertThat(result).hasSize(1);
-        verify(productRepository).findByPriceBetweenAndIsActiveTrue(minPrice, maxPrice);
+        verify(productRepository).findSummariesByPriceRange(minPrice, maxPrice);
     }
 
     @Test
     void shouldGetInStockProducts() {
         // Given
-        List<Product> inStockProducts = Arrays.asList(product);
-        when(productRepository.findInStockProducts()).thenReturn(inStockProducts);
+        List<ProductDto> inStockProducts = Arrays.asList(productDto);
+        when(productRepository.findInStockSummaries()).thenReturn(inStockProducts);
 
         // When
         List<ProductDto> result = productService.getInStockProducts();
@@ -215,15 +282,15 @@ class ProductServiceTest {
         // Then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getStockQuantity()).isGreaterThan(0);
-        verify(productRepository).findInStockProducts();
+        verify(productRepository).findInStockSummaries();
     }
 
     @Test
     void shouldGetOutOfStockProducts() {
         // Given
-        product.setStockQuantity(0);
-        List<Product> outOfStockProducts = Arrays.asList(product);
-        when(productRepository.findOutOfStockProducts()).thenReturn(outOfStockProducts);
+        productDto.setStockQuantity(0);
+        List<ProductDto> outOfStockProducts = Arrays.asList(productDto);
+        when(productRepository.findOutOfStockSummaries()).thenReturn(outOfStockProducts);
 
         // When
         List<ProductDto> result = productService.getOutOfStockProducts();
@@ -231,14 +298,14 @@ class ProductServiceTest {
         // Then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getStockQuantity()).isEqualTo(0);
-        verify(productRepository).findOutOfStockProducts();
+        verify(productRepository).findOutOfStockSummaries();
     }
 
     @Test
     void shouldUpdateProductSuccessfully() {
         // Given
         when(productRepository.findById(1L)).thenReturn(Optional.of(product));
-        when(productRepository.save(any(Product.class))).thenReturn(product);
+        when(productRepository.saveAndFlush(any(Product.class))).thenReturn(product);
 
         ProductDto updateDto = ProductTestDataBuilder.createProductDto();
         updateDto.setName("Updated iPhone");
@@ -249,35 +316,74 @@ class ProductServiceTest {
 
         // Then
         verify(productRepository).findById(1L);
-        verify(productRepository).save(any(Product.class));
+        verify(productRepository).saveAndFlush(any(Product.class));
     }
 
     @Test
     void shouldUpdateStockSuccessfully() {
         // Given
         when(productRepository.findById(1L)).thenReturn(Optional.of(product));
-        when(productRepository.save(any(Product.class))).thenReturn(product);
+        when(productRepository.saveAndFlush(any(Product.class))).thenReturn(product);
 
         // When
         ProductDto result = productService.updateStock(1L, 100);
 
         // Then
         verify(productRepository).findById(1L);
-        verify(productRepository).save(argThat(p -> p.getStockQuantity() == 100));
+        verify(productRepository).saveAndFlush(argThat(p -> p.getStockQuantity() == 100));
+    }
+
+    @Test
+    void shouldDecrementStockWithoutLoadingTheProduct() {
+        // Given
+        when(productRepository.decrementStock(eq(1L), eq(3), any(LocalDateTime.class))).thenReturn(1);
+        ProductRepository.StockState soldOut = mock(ProductRepository.StockState.class);
+        when(soldOut.getCategoryId()).thenReturn(1L);
+        when(soldOut.getIsActive()).thenReturn(true);
+        when(soldOut.getStockQuantity()).thenReturn(0);
+        when(soldOut.getVersion()).thenReturn(4L);
+        when(productRepository.findStockStateById(1L)).thenReturn(soldOut);
+
+        // When
+        StockAdjustmentResult result = productService.decrementStock(1L, 3);
+
+        // Then
+        assertThat(result.isApplied()).isTrue();
+        assertThat(result.getDelta()).isEqualTo(-3);
+        verify(productRepository, never()).findById(any());
+        verify(productRepository, never()).save(any(Product.class));
+        verify(outbox).stockAdjusted(1L, 4L, -3);
+        verify(categoryCounts).changed(new CategoryCounts.ProductState(1L, true, true), new CategoryCounts.ProductState(1L, true, false));
+    }
+
+    @Test
+    void shouldReportInsufficientStockAndRejectUnknownProduct() {
+        // Given
+        when(productRepository.decrementStock(anyLong(), anyInt(), any(LocalDateTime.class))).thenReturn(0);
+        when(productRepository.existsById(1L)).thenReturn(true);
+        when(productRepository.existsById(99L)).thenReturn(false);
+
+        // When & Then
+        assertThat(productService.decrementStock(1L, 500).isApplied()).isFalse();
+        assertThatThrownBy(() -> productService.decrementStock(99L, 1))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Product not found");
+        assertThatThrownBy(() -> productService.decrementStock(1L, 0))
+                .isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
     void shouldDeleteProductSoftly() {
         // Given
         when(productRepository.findById(1L)).thenReturn(Optional.of(product));
-        when(productRepository.save(any(Product.class))).thenReturn(product);
+        when(productRepository.saveAndFlush(any(Product.class))).thenReturn(product);
 
         // When
         productService.deleteProduct(1L);
 
         // Then
         verify(productRepository).findById(1L);
-        verify(productRepository).save(argThat(p -> !p.getIsActive()));
+        verify(productRepository).saveAndFlush(argThat(p -> !p.getIsActive()));
     }
 
     @Test
@@ -290,4 +396,210 @@ class ProductServiceTest {
         assertThat(productService.existsBySku("IPHONE15PRO001")).isTrue();
         assertThat(productService.existsBySku("NONEXISTENT")).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnNextCursorWhenMoreRowsExist() {
+        // Given
+        ProductDto second = ProductTestDataBuilder.createProductDto();
+        second.setId(2L);
+        second.setSku("IPHONE15PRO002");
+        when(productRepository.findActivePageAfter(0L, Limit.of(2))).thenReturn(Arrays.asList(productDto, second));
+
+        // When
+        CursorPage<ProductDto> page = productService.getActiveProducts(null, 1);
+
+        // Then
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(CursorCodec.decodeId(page.getNextCursor())).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldSeekPastCursorAndEndOnLastPage() {
+        // Given
+        String cursor = CursorCodec.encodeId(1L);
+        ProductDto second = ProductTestDataBuilder.createProductDto();
+        second.setId(2L);
+        when(productRepository.findByBrandPageAfter("Apple", 1L, Limit.of(11))).thenReturn(List.of(second));
+
+        // When
+        CursorPage<ProductDto> page = productService.getProductsByBrand("Apple", cursor, 10);
+
+        // Then
+        assertThat(page.getItems()).extracting("id").containsExactly(2L);
+        assertThat(page.isHasMore()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void shouldSeekOnPriceAndIdForPriceRangePages() {
+        // Given
+        BigDecimal minPrice = new BigDecimal("500.00");
+        BigDecimal maxPrice = new BigDecimal("1500.00");
+        String cursor = CursorCodec.encodePrice(new BigDecimal("999.99"), 1L);
+        when(productRepository.findByPriceRangePageAfter(minPrice, maxPrice, new BigDecimal("999.99"), 1L, Limit.of(21)))
+                .thenReturn(List.of());
+
+        // When
+        CursorPage<ProductDto> page = productService.getProductsByPriceRange(minPrice, maxPrice, cursor, null);
+
+        // Then
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getLimit()).isEqualTo(CursorCodec.DEFAULT_LIMIT);
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> productService.getAllProducts("not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsFromCache() {
+        // Given
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+        // When
+        productService.getProductById(1L);
+        ProductDto bySku = productService.getProductBySku("IPHONE15PRO001");
+
+        // Then
+        assertThat(bySku.getId()).isEqualTo(1L);
+        verify(productRepository, times(1)).findById(1L);
+        verify(productRepository, never()).findBySku(anyString());
+        assertThat(productCache.stats().getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldInvalidateCacheOnStockUpdate() {
+        // Given
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productRepository.saveAndFlush(any(Product.class))).thenReturn(product);
+        productService.getProductById(1L);
+
+        // When
+        productService.updateStock(1L, 7);
+        ProductDto result = productService.getProductById(1L);
+
+        // Then
+        assertThat(result.getStockQuantity()).isEqualTo(7);
+        verify(productRepository, times(3)).findById(1L);
+    }
+
+    @Test
+    void shouldServeSearchFromIndexOnceReady() {
+        // Given
+        Product ipad = ProductTestDataBuilder.createProductEntity();
+        ipad.setId(2L);
+        ipad.setName("iPad Pro");
+        ipad.setDescription("Tablet that pairs with your iPhone");
+        productSearchIndex.index(product);
+        productSearchIndex.index(ipad);
+        productSearchIndex.finishRebuild();
+        ProductDto ipadSummary = ProductTestDataBuilder.createProductDto();
+        ipadSummary.setId(2L);
+        when(productRepository.findSummariesByIdIn(List.of(1L, 2L))).thenReturn(List.of(ipadSummary, productDto));
+
+        // When
+        List<ProductDto> result = productService.searchProducts("iphone", 10);
+
+        // Then
+        assertThat(result).extracting("id").containsExactly(1L, 2L);
+        verify(productRepository, never()).findByNameContainingAndIsActiveTrue(anyString());
+    }
+
+    @Test
+    void shouldReturnFacetsWithFirstFilteredPageOnly() {
+        // Given
+        List<BigDecimal> buckets = List.of(new BigDecimal("100"));
+        ReflectionTestUtils.setField(productService, "priceBuckets", buckets);
+        ProductFilter filter = new ProductFilter();
+        filter.setBrand("Apple");
+        when(productRepository.findFilteredPageAfter(filter, 0L, 21)).thenReturn(List.of(productDto));
+        when(productRepository.countByBrand(filter)).thenReturn(Map.of("Apple", 1L));
+        when(productRepository.countByCategory(filter)).thenReturn(Map.of(1L, 1L));
+        when(productRepository.countByPriceBuckets(filter, buckets)).thenReturn(List.of(0L, 1L));
+
+        // When
+        FacetedProductPage page = productService.filterProducts(filter, null, null);
+
+        // Then
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getFacets().getBrands()).containsEntry("Apple", 1L);
+        assertThat(page.getFacets().getPriceRanges()).hasSize(2);
+        assertThat(page.getFacets().getPriceRanges().get(1).getMin()).isEqualByComparingTo("100");
+        assertThat(page.getFacets().getPriceRanges().get(1).getMax()).isNull();
+        assertThat(page.getFacets().getPriceRanges().get(1).getCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldReturnBatchInRequestOrderWithNotFoundMarkers() {
+        // Given
+        Product other = ProductTestDataBuilder.createProductEntity();
+        other.setId(2L);
+        other.setSku("IPAD001");
+        when(productRepository.findAllById(List.of(2L, 9L, 1L))).thenReturn(List.of(product, other));
+
+        // When
+        BatchGetResult<ProductDto> result = productService.getProductsByIds(List.of(2L, 9L, 1L, 2L));
+
+        // Then
+        assertThat(result.getRequested()).isEqualTo(4);
+        assertThat(result.getFound()).isEqualTo(3);
+        assertThat(result.getItems()).extracting(BatchItem::getKey).containsExactly(2L, 9L, 1L, 2L);
+        assertThat(result.getItems()).extracting(BatchItem::isFound).containsExactly(true, false, true, true);
+        assertThat(result.getItems().get(0).getItem().getSku()).isEqualTo("IPAD001");
+        assertThat(result.getItems().get(1).getItem()).isNull();
+    }
+
+    @Test
+    void shouldSplitLargeBatchesIntoChunkedInQueries() {
+        // Given
+        List<String> skus = IntStream.range(0, 700).mapToObj(i -> "SKU" + i).toList();
+        when(productRepository.findBySkuIn(anyCollection())).thenReturn(List.of());
+
+        // When
+        BatchGetResult<ProductDto> result = productService.getProductsBySkus(skus);
+
+        // Then
+        assertThat(result.getFound()).isZero();
+        verify(productRepository, times(2)).findBySkuIn(anyCollection());
+    }
+
+    @Test
+    void shouldRejectOversizedBatch() {
+        List<Long> ids = LongStream.rangeClosed(1, 1001).boxed().toList();
+
+        assertThatThrownBy(() -> productService.getProductsByIds(ids))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void shouldCoalesceConcurrentSkuLookupsIntoOneQuery() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(productRepository.findBySku("IPHONE15PRO001")).thenAnswer(invocation -> {
+            release.await();
+            return Optional.of(product);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<ProductDto>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> productService.getProductBySku("IPHONE15PRO001")));
+        }
+        while (requestCoalescer.stats().stream().mapToLong(CoalescingStatsDto::getCoalesced).sum() < 7) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // Then
+        for (Future<ProductDto> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS).getSku()).isEqualTo("IPHONE15PRO001");
+        }
+        executor.shutdown();
+        verify(productRepository, times(1)).findBySku("IPHONE15PRO001");
+    }
+}
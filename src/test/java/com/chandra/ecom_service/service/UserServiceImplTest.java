@@ -1,17 +1,26 @@
 // src/test/java/com/chandra/ecom_service/service/UserServiceImplTest.java
 package com.chandra.ecom_service.service;
 
+import com.chandra.ecom_service.cache.ExistenceFilters;
+import com.chandra.ecom_service.dto.BatchGetResult;
 import com.chandra.ecom_service.dto.UserDto;
 import com.chandra.ecom_service.entity.User;
+import com.chandra.ecom_service.exception.DuplicateResourceException;
 import com.chandra.ecom_service.repository.UserRepository;
 import com.chandra.ecom_service.service.impl.UserServiceImpl;
+import com.chandra.ecom_service.util.OptimisticRetry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.List;
 import java.util.Arrays;
@@ -27,6 +36,12 @@ class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private ExistenceFilters existenceFilters = new ExistenceFilters();
+
+    @Spy
+    private OptimisticRetry optimisticRetry = new OptimisticRetry(mock(PlatformTransactionManager.class), 1, Duration.ZERO);
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -54,8 +69,7 @@ class UserServiceImplTest {
     @Test
     void createUser_Success() {
         // Given
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
-        when(userRepository.save(any(User.class))).thenReturn(user);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(user);
 
         // When
         UserDto result = userService.createUser(userDto, "password123");
@@ -65,22 +79,22 @@ class UserServiceImplTest {
         assertEquals("John", result.getFirstName());
         assertEquals("Doe", result.getLastName());
         assertEquals("john.doe@example.com", result.getEmail());
-        verify(userRepository).existsByEmail("john.doe@example.com");
-        verify(userRepository).save(any(User.class));
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(userRepository).saveAndFlush(any(User.class));
     }
 
     @Test
     void createUser_EmailAlreadyExists_ThrowsException() {
         // Given
-        when(userRepository.existsByEmail(anyString())).thenReturn(true);
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException("duplicate key", new SQLException("duplicate key", "23505")));
 
         // When & Then
-        RuntimeException exception = assertThrows(RuntimeException.class,
+        DuplicateResourceException exception = assertThrows(DuplicateResourceException.class,
                 () -> userService.createUser(userDto, "password123"));
 
         assertEquals("User with email john.doe@example.com already exists",
                 exception.getMessage());
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, never()).existsByEmail(anyString());
     }
 
     @Test
@@ -155,7 +169,7 @@ class UserServiceImplTest {
         updateDto.setPhoneNumber("9876543210");
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-        when(userRepository.save(any(User.class))).thenReturn(user);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(user);
 
         // When
         UserDto result = userService.updateUser(1L, updateDto);
@@ -163,7 +177,7 @@ class UserServiceImplTest {
         // Then
         assertNotNull(result);
         verify(userRepository).findById(1L);
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -192,4 +206,21 @@ class UserServiceImplTest {
         assertTrue(result);
         verify(userRepository).existsByEmail("john.doe@example.com");
     }
+
+    @Test
+    void getUsersByEmails_PreservesRequestOrder() {
+        // Given
+        when(userRepository.findByEmailIn(List.of("missing@example.com", "john.doe@example.com")))
+                .thenReturn(List.of(user));
+
+        // When
+        BatchGetResult<UserDto> result = userService.getUsersByEmails(
+                List.of("missing@example.com", "john.doe@example.com"));
+
+        // Then
+        assertEquals(2, result.getRequested());
+        assertEquals(1, result.getFound());
+        assertFalse(result.getItems().get(0).isFound());
+        assertEquals("John", result.getItems().get(1).getItem().getFirstName());
+    }
 }
\ No newline at end of file